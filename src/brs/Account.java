@@ -1,6 +1,7 @@
 package brs;
 
 import brs.crypto.Crypto;
+import brs.crypto.KeyCache;
 import brs.crypto.EncryptedData;
 import brs.db.BurstKey;
 import brs.db.VersionedBatchEntityTable;
@@ -180,8 +181,7 @@ public class Account {
   }
 
   public static long getId(byte[] publicKey) {
-    byte[] publicKeyHash = Crypto.sha256().digest(publicKey);
-    return Convert.fullHashToId(publicKeyHash);
+    return KeyCache.getAccountId(publicKey);
   }
 
   static Account getOrAddAccount(long id) {
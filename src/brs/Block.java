@@ -15,6 +15,7 @@ import org.json.simple.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import brs.crypto.Crypto;
+import brs.crypto.ReusableDigest;
 import brs.peer.Peer;
 import brs.util.Convert;
 
@@ -47,6 +48,7 @@ public class Block {
   private long nonce;
 
   private BigInteger pocTime = null;
+  private volatile boolean payloadVerified = false;
 
   private final byte[] blockATs;
 
@@ -146,7 +148,7 @@ public class Block {
   }
 
   public byte[] getBlockHash() {
-    return Crypto.sha256().digest(getBytes());
+    return ReusableDigest.SHA256.digest(getBytes());
   }
 
   public byte[] getPreviousBlockHash() {
@@ -186,6 +188,17 @@ public class Block {
     return blockTransactions;
   }
 
+  /**
+   * Attaches transactions batch loaded together with other blocks, see {@link TransactionDb#findBlockTransactions(java.util.Collection)}.
+   * Has no effect if the transactions of this block are already known.
+   */
+  public void setTransactions(List<Transaction> transactions) {
+    if (blockTransactions == null) {
+      transactions.forEach(transaction -> transaction.setBlock(this));
+      this.blockTransactions = Collections.unmodifiableList(transactions);
+    }
+  }
+
   public long getBaseTarget() {
     return baseTarget;
   }
@@ -198,6 +211,10 @@ public class Block {
     return nextBlockId;
   }
 
+  void setNextBlockId(long nextBlockId) {
+    this.nextBlockId = nextBlockId;
+  }
+
   public int getHeight() {
     return height;
   }
@@ -211,7 +228,7 @@ public class Block {
       if (blockSignature == null) {
         throw new IllegalStateException("Block is not signed yet");
       }
-      byte[] hash = Crypto.sha256().digest(getBytes());
+      byte[] hash = ReusableDigest.SHA256.digest(getBytes());
       BigInteger bigInteger = new BigInteger(1,
           new byte[] {hash[7], hash[6], hash[5], hash[4], hash[3], hash[2], hash[1], hash[0]});
       id = bigInteger.longValue();
@@ -372,6 +389,14 @@ public class Block {
     this.pocTime = pocTime;
   }
 
+  public boolean isPayloadVerified() {
+    return payloadVerified;
+  }
+
+  public void setPayloadVerified(boolean payloadVerified) {
+    this.payloadVerified = payloadVerified;
+  }
+
   public void setBaseTarget(long baseTarget) {
     this.baseTarget = baseTarget;
   }
@@ -15,12 +15,15 @@ public class BlockchainImpl implements Blockchain {
   private final BlockchainStore blockchainStore;
   
   private final StampedLock bcsl;
+
+  private final RecentBlocks recentBlocks;
   
-  BlockchainImpl(TransactionDb transactionDb, BlockDb blockDb, BlockchainStore blockchainStore) {
+  BlockchainImpl(TransactionDb transactionDb, BlockDb blockDb, BlockchainStore blockchainStore, int recentBlocksSize) {
     this.transactionDb = transactionDb;
     this.blockDb = blockDb;
     this.blockchainStore = blockchainStore;
     this.bcsl = new StampedLock();
+    this.recentBlocks = new RecentBlocks(recentBlocksSize);
   }
 
   private final AtomicReference<Block> lastBlock = new AtomicReference<>();
@@ -45,6 +48,7 @@ public class BlockchainImpl implements Blockchain {
     long stamp = bcsl.writeLock();
     try {
       lastBlock.set(block);
+      recentBlocks.setLastBlock(block);
     } finally {
       bcsl.unlockWrite(stamp);
     }
@@ -56,6 +60,7 @@ public class BlockchainImpl implements Blockchain {
       if (! lastBlock.compareAndSet(previousBlock, block)) {
         throw new IllegalStateException("Last block is no longer previous block");
       }
+      recentBlocks.setLastBlock(block);
     } finally {
       bcsl.unlockWrite(stamp);
     }
@@ -91,7 +96,14 @@ public class BlockchainImpl implements Blockchain {
     if (block.getId() == blockId) {
       return block;
     }
-    return blockDb.findBlock(blockId);
+    Block recentBlock = recentBlocks.get(blockId);
+    if (recentBlock != null) {
+      return recentBlock;
+    }
+    long generation = recentBlocks.getGeneration();
+    Block storedBlock = blockDb.findBlock(blockId);
+    recentBlocks.offer(storedBlock, generation);
+    return storedBlock;
   }
   
   private Block getSafelastBlock() {
@@ -110,7 +122,7 @@ public class BlockchainImpl implements Blockchain {
 
   @Override
   public boolean hasBlock(long blockId) {
-    return getSafelastBlock().getId() == blockId || blockDb.hasBlock(blockId);
+    return getSafelastBlock().getId() == blockId || recentBlocks.get(blockId) != null || blockDb.hasBlock(blockId);
   }
 
   @Override
@@ -147,6 +159,10 @@ public class BlockchainImpl implements Blockchain {
     if (height == block.getHeight()) {
       return block.getId();
     }
+    Block recentBlock = recentBlocks.getAtHeight(height);
+    if (recentBlock != null) {
+      return recentBlock.getId();
+    }
     return blockDb.findBlockIdAtHeight(height);
   }
 
@@ -159,7 +175,14 @@ public class BlockchainImpl implements Blockchain {
     if (height == block.getHeight()) {
       return block;
     }
-    return blockDb.findBlockAtHeight(height);
+    Block recentBlock = recentBlocks.getAtHeight(height);
+    if (recentBlock != null) {
+      return recentBlock;
+    }
+    long generation = recentBlocks.getGeneration();
+    Block storedBlock = blockDb.findBlockAtHeight(height);
+    recentBlocks.offer(storedBlock, generation);
+    return storedBlock;
   }
 
   @Override
@@ -40,7 +40,7 @@ public interface BlockchainProcessor extends Observable<Block, BlockchainProcess
 
   class BlockNotAcceptedException extends BurstException {
 
-    BlockNotAcceptedException(String message) {
+    public BlockNotAcceptedException(String message) {
       super(message);
     }
 
@@ -1,6 +1,7 @@
 package brs;
 
 import static brs.Constants.FEE_QUANT;
+import static brs.Constants.MAX_TIMESTAMP_DIFFERENCE;
 import static brs.Constants.ONE_BURST;
 import static brs.fluxcapacitor.FeatureToggle.PRE_DYMAXION;
 
@@ -17,6 +18,8 @@ import brs.services.PropertyService;
 import brs.services.SubscriptionService;
 import brs.services.TimeService;
 import brs.services.TransactionService;
+import brs.statistics.BlockProcessingStats;
+import brs.statistics.BlockProcessingStats.Phase;
 import brs.statistics.StatisticsManagerImpl;
 import brs.services.AccountService;
 import brs.unconfirmedtransactions.UnconfirmedTransactionStore;
@@ -38,6 +41,8 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.json.simple.JSONArray;
@@ -48,7 +53,9 @@ import org.slf4j.LoggerFactory;
 import brs.at.AT_Block;
 import brs.at.AT_Controller;
 import brs.at.AT_Exception;
+import brs.at.AT_Parallel_Executor;
 import brs.crypto.Crypto;
+import brs.crypto.ReusableDigest;
 import brs.db.BlockDb;
 import brs.db.DerivedTable;
 import brs.peer.Peer;
@@ -80,19 +87,27 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
   private DownloadCacheImpl downloadCache;
   private DerivedTableManager derivedTableManager;
   private final StatisticsManagerImpl statisticsManager;
+  private final BlockProcessingStats processingStats;
   private Generator generator;
   private final DBCacheManagerImpl dbCacheManager;
 
-  public static final int MAX_TIMESTAMP_DIFFERENCE = 15;
+  // blocks older than this are far enough behind the network tip to be committed in groups
+  private static final int SYNC_COMMIT_MIN_AGE = 24 * 60 * 60;
+  // seconds before the best deadline from which the block template is kept ready
+  private static final int BLOCK_TEMPLATE_LEAD_TIME = 30;
   private boolean oclVerify;
   private int oclUnverifiedQueue;
 
   private final Semaphore gpuUsage = new Semaphore(2);
 
   private boolean trimDerivedTables;
+  private final int syncCommitBlocks;
+  private final int syncCommitMillis;
   private volatile int lastTrimHeight;
 
   private final Listeners<Block, Event> blockListeners = new Listeners<>();
+  private final AtomicLong unconfirmedVersion = new AtomicLong();
+  private volatile BlockTemplate blockTemplate;
   private volatile Peer lastBlockchainFeeder;
   private volatile int lastBlockchainFeederHeight;
   private volatile boolean getMoreBlocks = true;
@@ -137,6 +152,7 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
     this.escrowService = escrowService;
     this.transactionService = transactionService;
     this.statisticsManager = statisticsManager;
+    this.processingStats = statisticsManager.getBlockProcessingStats();
     this.dbCacheManager = dbCacheManager;
     this.accountService = accountService;
 
@@ -144,6 +160,8 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
     oclUnverifiedQueue = propertyService.getInt(Props.GPU_UNVERIFIED_QUEUE, 1000);
 
     trimDerivedTables = propertyService.getBoolean(Props.DB_TRIM_DERIVED_TABLES);
+    syncCommitBlocks = propertyService.getInt(Props.DB_SYNC_COMMIT_BLOCKS, 100);
+    syncCommitMillis = propertyService.getInt(Props.DB_SYNC_COMMIT_MILLIS, 1000);
 
     forceScan = propertyService.getBoolean(Props.DEV_FORCE_SCAN);
     validateAtScan = propertyService.getBoolean(Props.DEV_FORCE_VALIDATE);
@@ -179,6 +197,9 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
     // }
     // }, Event.RESCAN_END);
 
+    transactionProcessor.addListener(transactions -> unconfirmedVersion.incrementAndGet(), TransactionProcessor.Event.ADDED_UNCONFIRMED_TRANSACTIONS);
+    transactionProcessor.addListener(transactions -> unconfirmedVersion.incrementAndGet(), TransactionProcessor.Event.REMOVED_UNCONFIRMED_TRANSACTIONS);
+
     threadPool.runBeforeStart(() -> {
       addGenesisBlock();
       if (forceScan) {
@@ -188,6 +209,7 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
 
     threadPool.scheduleThread("GetMoreBlocks", getMoreBlocksThread, 2);
     threadPool.scheduleThread("ImportBlocks", blockImporterThread, 10);
+    threadPool.scheduleThread("BuildBlockTemplate", this::updateBlockTemplate, 500, TimeUnit.MILLISECONDS);
     if (propertyService.getBoolean(Props.GPU_ACCELERATION)) {
       logger.debug("Starting preverifier thread in Open CL mode.");
       threadPool.scheduleThread("VerifyPoc", pocVerificationThread, 9);
@@ -274,6 +296,10 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
               downloadCache.resetCache(); //resetting cache because we have blocks that cannot be processed.
               break;
             }
+            if (isFarBehind(currentBlock)) {
+              pushBlocks(currentBlock);
+              continue;
+            }
             try {
               if (!currentBlock.isVerified()) {
                 downloadCache.removeUnverified(currentBlock.getId());
@@ -839,178 +865,258 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
 
   private void pushBlock(final Block block) throws BlockNotAcceptedException {
     stores.beginTransaction();
-    int curTime = timeService.getEpochTime();
-    
-    Block previousLastBlock = null;
+    Block previousLastBlock = blockchain.getLastBlock();
     try {
-     
-      previousLastBlock = blockchain.getLastBlock();
-
-      if (previousLastBlock.getId() != block.getPreviousBlockId()) {
-        throw new BlockOutOfOrderException(
-            "Previous block id doesn't match for block " + block.getHeight()
-            + ((previousLastBlock.getHeight() + 1) == block.getHeight() ? "" : " invalid previous height " + previousLastBlock.getHeight() )
-        );
+      applyBlock(block, previousLastBlock);
+      downloadCache.removeBlock(block); //We make sure downloadCache do not have this block anymore.
+      long commitStart = processingStats.start();
+      stores.commitTransaction();
+      processingStats.record(Phase.COMMIT, commitStart);
+    } catch (BlockNotAcceptedException | RuntimeException e) {
+      stores.rollbackTransaction();
+      rollbackUncommitted(previousLastBlock);
+      downloadCache.resetCache();
+      throw e;
+    } finally {
+      stores.endTransaction();
+    }
+    blockPushed(block);
+  }
+
+  /**
+   * Imports the blocks following the first one from the download cache in a single DB transaction,
+   * until the group holds {@link Props#DB_SYNC_COMMIT_BLOCKS} blocks, took {@link Props#DB_SYNC_COMMIT_MILLIS}
+   * or reaches a block that is no longer far behind the network tip.
+   *
+   * Every block is still validated and applied on its own, the blocks only leave the download cache
+   * and are announced as pushed once the group is committed. The download cache monitor is held
+   * throughout, so that no other block is generated or popped off on top of uncommitted blocks, and
+   * parallel AT validation is suspended, as its workers only see committed state. If a block is not
+   * accepted, the whole group is rolled back and the cache reset, like for a single block.
+   */
+  private void pushBlocks(final Block firstBlock) {
+    synchronized (downloadCache) {
+      final Block committedBlock = blockchain.getLastBlock();
+      final long start = System.currentTimeMillis();
+      List<Block> blocks = new ArrayList<>();
+      Block block = firstBlock;
+      AT_Parallel_Executor.setSuspended(true);
+      stores.beginTransaction();
+      try {
+        while (true) {
+          if (!block.isVerified()) {
+            downloadCache.removeUnverified(block.getId());
+            blockService.preVerify(block);
+          }
+          applyBlock(block, blockchain.getLastBlock());
+          blocks.add(block);
+
+          Block nextBlock = downloadCache.getNextBlock(block.getId());
+          if (blocks.size() >= syncCommitBlocks || System.currentTimeMillis() - start >= syncCommitMillis
+              || nextBlock == null || nextBlock.getHeight() != block.getHeight() + 1 || ! isFarBehind(nextBlock)) {
+            break;
+          }
+          block = nextBlock;
+        }
+        long commitStart = processingStats.start();
+        stores.commitTransaction();
+        processingStats.record(Phase.COMMIT, commitStart);
+      } catch (BlockNotAcceptedException | ArithmeticException e) {
+        stores.rollbackTransaction();
+        rollbackUncommitted(committedBlock);
+        logger.error("Block not accepted", e);
+        blacklistClean(block, e, "found invalid pull/push data during importing the block");
+        return;
+      } catch (RuntimeException e) {
+        stores.rollbackTransaction();
+        rollbackUncommitted(committedBlock);
+        downloadCache.resetCache();
+        throw e;
+      } finally {
+        stores.endTransaction();
+        AT_Parallel_Executor.setSuspended(false);
       }
 
-      if (block.getVersion() != getBlockVersion()) {
-        throw new BlockNotAcceptedException("Invalid version " + block.getVersion() + " for block " + block.getHeight());
+      for (Block pushedBlock : blocks) {
+        downloadCache.removeBlock(pushedBlock);
+        blockPushed(pushedBlock);
       }
+    }
+  }
+
+  /**
+   * Drops what the blocks of a rolled back transaction left in memory: the last block and the
+   * in-memory state of the derived tables, such as what they merged in finish() before a failed
+   * commit, which is rolled back to the last committed block like on a pop off. Called with the
+   * rolled back transaction still open.
+   */
+  private void rollbackUncommitted(Block committedBlock) {
+    blockchain.setLastBlock(committedBlock);
+    derivedTableManager.getDerivedTables().forEach(table -> table.rollback(committedBlock.getHeight()));
+    dbCacheManager.flushCache();
+    stores.commitTransaction();
+  }
 
-      if (block.getVersion() != 1
-          && !Arrays.equals(Crypto.sha256().digest(previousLastBlock.getBytes()),
-          block.getPreviousBlockHash())) {
-        throw new BlockNotAcceptedException("Previous block hash doesn't match for block " + block.getHeight());
+  /**
+   * @return whether the block is old enough to be imported as part of a group commit
+   */
+  private boolean isFarBehind(Block block) {
+    return syncCommitBlocks > 1 && block.getTimestamp() < timeService.getEpochTime() - SYNC_COMMIT_MIN_AGE;
+  }
+
+  private void blockPushed(Block block) {
+    logger.debug("Successfully pushed " + block.getId() + " (height " + block.getHeight() + ")");
+    statisticsManager.blockAdded();
+    long listenersStart = processingStats.start();
+    blockListeners.notify(block, Event.BLOCK_PUSHED);
+    processingStats.record(Phase.PUSHED_LISTENERS, listenersStart);
+    if (block.getTimestamp() >= timeService.getEpochTime() - MAX_TIMESTAMP_DIFFERENCE) {
+      Peers.sendToSomePeers(block);
+    }
+  }
+
+  /**
+   * Validates the block on top of the previous block and applies it in the current DB transaction,
+   * up to finishing the derived tables.
+   */
+  private void applyBlock(final Block block, final Block previousLastBlock) throws BlockNotAcceptedException {
+    long blockStart = processingStats.start();
+    int curTime = timeService.getEpochTime();
+    if (previousLastBlock.getId() != block.getPreviousBlockId()) {
+      throw new BlockOutOfOrderException(
+          "Previous block id doesn't match for block " + block.getHeight()
+          + ((previousLastBlock.getHeight() + 1) == block.getHeight() ? "" : " invalid previous height " + previousLastBlock.getHeight() )
+      );
+    }
+
+    if (block.getVersion() != getBlockVersion()) {
+      throw new BlockNotAcceptedException("Invalid version " + block.getVersion() + " for block " + block.getHeight());
+    }
+
+    if (block.getVersion() != 1
+        && !Arrays.equals(ReusableDigest.SHA256.digest(previousLastBlock.getBytes()),
+        block.getPreviousBlockHash())) {
+      throw new BlockNotAcceptedException("Previous block hash doesn't match for block " + block.getHeight());
+    }
+    if (block.getTimestamp() > curTime + MAX_TIMESTAMP_DIFFERENCE
+        || block.getTimestamp() <= previousLastBlock.getTimestamp()) {
+      throw new BlockOutOfOrderException("Invalid timestamp: " + block.getTimestamp() 
+                                       + " current time is " + curTime
+                                       + ", previous block timestamp is " + previousLastBlock.getTimestamp());
+    }
+    if (block.getId() == 0L || blockDb.hasBlock(block.getId())) {
+      throw new BlockNotAcceptedException("Duplicate block or invalid id for block " + block.getHeight());
+    }
+    if (! blockService.verifyGenerationSignature(block)) {
+      throw new BlockNotAcceptedException("Generation signature verification failed for block " + block.getHeight());
+    }
+    if (! blockService.verifyBlockSignature(block)) {
+      throw new BlockNotAcceptedException("Block signature verification failed for block " + block.getHeight());
+    }
+    processingStats.record(Phase.PREVALIDATION, blockStart);
+
+    // done ahead of the import by the pre-verification, unless the block skipped it
+    blockService.verifyPayload(block);
+
+    long validationStart = processingStats.start();
+    long calculatedTotalAmount = 0;
+    long calculatedTotalFee = 0;
+
+    ArrayList<Long> accountIds = new ArrayList<Long>();
+    try (DSLContext ctx = Db.getDSLContext()) {
+      block.getTransactions().forEach(t -> {
+        if (t.getRecipientId() != 0L)
+          accountIds.add(t.getRecipientId());
+        if (t.getSenderId() != 0L)
+          accountIds.add(t.getSenderId());
+      });
+      if (!accountIds.isEmpty()) {
+        stores.getAccountStore().getAccountTable().fillCache(accountIds);
       }
-      if (block.getTimestamp() > curTime + MAX_TIMESTAMP_DIFFERENCE
-          || block.getTimestamp() <= previousLastBlock.getTimestamp()) {
-        throw new BlockOutOfOrderException("Invalid timestamp: " + block.getTimestamp() 
-                                         + " current time is " + curTime
-                                         + ", previous block timestamp is " + previousLastBlock.getTimestamp());
+    }
+
+    for (Transaction transaction : block.getTransactions()) {
+      if (transaction.getTimestamp() > curTime + MAX_TIMESTAMP_DIFFERENCE) {
+        throw new BlockOutOfOrderException("Invalid transaction timestamp: "
+              + transaction.getTimestamp() + ", current time is " + curTime);
       }
-      if (block.getId() == 0L || blockDb.hasBlock(block.getId())) {
-        throw new BlockNotAcceptedException("Duplicate block or invalid id for block " + block.getHeight());
+      if (transactionDb.hasTransaction(transaction.getId())) {
+        throw new TransactionNotAcceptedException(
+            "Transaction " + transaction.getStringId() + " is already in the blockchain",
+            transaction);
       }
-      if (! blockService.verifyGenerationSignature(block)) {
-        throw new BlockNotAcceptedException("Generation signature verification failed for block " + block.getHeight());
+      if (transaction.getReferencedTransactionFullHash() != null) {
+        if ((previousLastBlock.getHeight() < Constants.REFERENCED_TRANSACTION_FULL_HASH_BLOCK
+            && !transactionDb.hasTransaction(
+                Convert.fullHashToId(transaction.getReferencedTransactionFullHash())))
+            || (previousLastBlock
+                .getHeight() >= Constants.REFERENCED_TRANSACTION_FULL_HASH_BLOCK
+                && !hasAllReferencedTransactions(transaction, transaction.getTimestamp(), 0))) {
+          throw new TransactionNotAcceptedException("Missing or invalid referenced transaction "
+              + transaction.getReferencedTransactionFullHash() + " for transaction "
+              + transaction.getStringId(), transaction);
+        }
       }
-      if (! blockService.verifyBlockSignature(block)) {
-        throw new BlockNotAcceptedException("Block signature verification failed for block " + block.getHeight());
+      if (transaction.getVersion() != transactionProcessor.getTransactionVersion(previousLastBlock.getHeight())) {
+        throw new TransactionNotAcceptedException("Invalid transaction version "
+            + transaction.getVersion() + " at height " + previousLastBlock.getHeight(),
+            transaction);
       }
 
-      Map<TransactionType, Set<String>> duplicates = new HashMap<>();
-      long calculatedTotalAmount = 0;
-      long calculatedTotalFee = 0;
-      MessageDigest digest = Crypto.sha256();
-
-      ArrayList<Long> accountIds = new ArrayList<Long>();
-      try (DSLContext ctx = Db.getDSLContext()) {
-        block.getTransactions().forEach(t -> {
-          if (t.getRecipientId() != 0L)
-            accountIds.add(t.getRecipientId());
-          if (t.getSenderId() != 0L)
-            accountIds.add(t.getSenderId());
-        });
-        if (!accountIds.isEmpty()) {
-          stores.getAccountStore().getAccountTable().fillCache(accountIds);
-        }
+      if (!transactionService.verifyPublicKey(transaction)) {
+        throw new TransactionNotAcceptedException("Wrong public key in transaction "
+            + transaction.getStringId() + " at height " + previousLastBlock.getHeight(),
+            transaction);
       }
-
-      for (Transaction transaction : block.getTransactions()) {
-        if (transaction.getTimestamp() > curTime + MAX_TIMESTAMP_DIFFERENCE) {
-          throw new BlockOutOfOrderException("Invalid transaction timestamp: "
-                + transaction.getTimestamp() + ", current time is " + curTime);
-        }
-        if (transaction.getTimestamp() > block.getTimestamp() + MAX_TIMESTAMP_DIFFERENCE
-            || transaction.getExpiration() < block.getTimestamp()) {
-          throw new TransactionNotAcceptedException("Invalid transaction timestamp "
-              + transaction.getTimestamp() + " for transaction " + transaction.getStringId()
-              + ", current time is " + curTime + ", block timestamp is " + block.getTimestamp(),
-              transaction);
-        }
-        if (transactionDb.hasTransaction(transaction.getId())) {
-          throw new TransactionNotAcceptedException(
-              "Transaction " + transaction.getStringId() + " is already in the blockchain",
+      if (Burst.getFluxCapacitor().isActive(FeatureToggle.AUTOMATED_TRANSACTION_BLOCK)) {
+        if (! economicClustering.verifyFork(transaction)) {
+          logger.debug("Block " + block.getStringId() + " height "
+              + (previousLastBlock.getHeight() + 1)
+              + " contains transaction that was generated on a fork: "
+              + transaction.getStringId() + " ecBlockHeight " + transaction.getECBlockHeight()
+              + " ecBlockId " + Convert.toUnsignedLong(transaction.getECBlockId()));
+          throw new TransactionNotAcceptedException("Transaction belongs to a different fork",
               transaction);
         }
-        if (transaction.getReferencedTransactionFullHash() != null) {
-          if ((previousLastBlock.getHeight() < Constants.REFERENCED_TRANSACTION_FULL_HASH_BLOCK
-              && !transactionDb.hasTransaction(
-                  Convert.fullHashToId(transaction.getReferencedTransactionFullHash())))
-              || (previousLastBlock
-                  .getHeight() >= Constants.REFERENCED_TRANSACTION_FULL_HASH_BLOCK
-                  && !hasAllReferencedTransactions(transaction, transaction.getTimestamp(), 0))) {
-            throw new TransactionNotAcceptedException("Missing or invalid referenced transaction "
-                + transaction.getReferencedTransactionFullHash() + " for transaction "
-                + transaction.getStringId(), transaction);
-          }
-        }
-        if (transaction.getVersion() != transactionProcessor.getTransactionVersion(previousLastBlock.getHeight())) {
-          throw new TransactionNotAcceptedException("Invalid transaction version "
-              + transaction.getVersion() + " at height " + previousLastBlock.getHeight(),
-              transaction);
-        }
- 
-        if (!transactionService.verifyPublicKey(transaction)) {
-          throw new TransactionNotAcceptedException("Wrong public key in transaction "
-              + transaction.getStringId() + " at height " + previousLastBlock.getHeight(),
-              transaction);
-        }
-        if (Burst.getFluxCapacitor().isActive(FeatureToggle.AUTOMATED_TRANSACTION_BLOCK)) {
-          if (! economicClustering.verifyFork(transaction)) {
-            logger.debug("Block " + block.getStringId() + " height "
-                + (previousLastBlock.getHeight() + 1)
-                + " contains transaction that was generated on a fork: "
-                + transaction.getStringId() + " ecBlockHeight " + transaction.getECBlockHeight()
-                + " ecBlockId " + Convert.toUnsignedLong(transaction.getECBlockId()));
-            throw new TransactionNotAcceptedException("Transaction belongs to a different fork",
-                transaction);
-          }
-        }
-        if (transaction.getId() == 0L) {
-          throw new TransactionNotAcceptedException("Invalid transaction id", transaction);
-        }
-        if (transaction.isDuplicate(duplicates)) {
-          throw new TransactionNotAcceptedException(
-              "Transaction is a duplicate: " + transaction.getStringId(), transaction);
-        }
-        try {
-          transactionService.validate(transaction);
-        } catch (BurstException.ValidationException e) {
-          throw new TransactionNotAcceptedException(e.getMessage(), transaction);
-        }
-
-        calculatedTotalAmount += transaction.getAmountNQT();
-        calculatedTotalFee += transaction.getFeeNQT();
-        digest.update(transaction.getBytes());
-      }
-      
-      if (calculatedTotalAmount > block.getTotalAmountNQT()
-          || calculatedTotalFee > block.getTotalFeeNQT()) {
-        throw new BlockNotAcceptedException("Total amount or fee don't match transaction totals for block " + block.getHeight());
       }
-      if (!Arrays.equals(digest.digest(), block.getPayloadHash())) {
-        throw new BlockNotAcceptedException("Payload hash doesn't match for block " + block.getHeight());
+      try {
+        transactionService.validate(transaction);
+      } catch (BurstException.ValidationException e) {
+        throw new TransactionNotAcceptedException(e.getMessage(), transaction);
       }
 
-      long remainingAmount =
-          Convert.safeSubtract(block.getTotalAmountNQT(), calculatedTotalAmount);
-      long remainingFee = Convert.safeSubtract(block.getTotalFeeNQT(), calculatedTotalFee);
-
-      blockService.setPrevious(block, previousLastBlock);
-      blockListeners.notify(block, Event.BEFORE_BLOCK_ACCEPT);
-      transactionProcessor.requeueAllUnconfirmedTransactions();
-      accountService.flushAccountTable();
-      addBlock(block);
-      downloadCache.removeBlock(block); //We make sure downloadCache do not have this block anymore.
-      accept(block, remainingAmount, remainingFee);
-      derivedTableManager.getDerivedTables().forEach(DerivedTable::finish);
-      stores.commitTransaction();
-    } catch (BlockNotAcceptedException | ArithmeticException e) {
-      stores.rollbackTransaction();
-      blockchain.setLastBlock(previousLastBlock);
-      downloadCache.resetCache();
-      throw e;
-    } finally {
-      stores.endTransaction();
-    }
-    logger.debug("Successfully pushed " + block.getId() + " (height " + block.getHeight() + ")");
-    statisticsManager.blockAdded();
-    blockListeners.notify(block, Event.BLOCK_PUSHED);
-    if (block.getTimestamp() >= timeService.getEpochTime() - MAX_TIMESTAMP_DIFFERENCE) {
-      Peers.sendToSomePeers(block);
+      calculatedTotalAmount += transaction.getAmountNQT();
+      calculatedTotalFee += transaction.getFeeNQT();
     }
+
+    long remainingAmount =
+        Convert.safeSubtract(block.getTotalAmountNQT(), calculatedTotalAmount);
+    long remainingFee = Convert.safeSubtract(block.getTotalFeeNQT(), calculatedTotalFee);
+    processingStats.record(Phase.TRANSACTION_VALIDATION, validationStart);
+
+    blockService.setPrevious(block, previousLastBlock);
+    blockListeners.notify(block, Event.BEFORE_BLOCK_ACCEPT);
+    transactionProcessor.requeueAllUnconfirmedTransactions();
+    accountService.flushAccountTable();
+    addBlock(block);
+    accept(block, remainingAmount, remainingFee);
+    long finishStart = processingStats.start();
+    derivedTableManager.getDerivedTables().forEach(DerivedTable::finish);
+    processingStats.record(Phase.FINISH, finishStart);
+    processingStats.record(Phase.BLOCK, blockStart);
   }
 
   private void accept(Block block, Long remainingAmount, Long remainingFee)
       throws BlockNotAcceptedException {
     subscriptionService.clearRemovals();
+    long start = processingStats.start();
     for (Transaction transaction : block.getTransactions()) {
       if (!transactionService.applyUnconfirmed(transaction)) {
         throw new TransactionNotAcceptedException(
             "Double spending transaction: " + transaction.getStringId(), transaction);
       }
     }
+    processingStats.record(Phase.APPLY_UNCONFIRMED, start);
     
     long calculatedRemainingAmount = 0;
     long calculatedRemainingFee = 0;
@@ -1018,6 +1124,7 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
     AT_Block atBlock;
     AT.clearPendingFees();
     AT.clearPendingTransactions();
+    start = processingStats.start();
     try {
       atBlock = AT_Controller.validateATs(block.getBlockATs(), blockchain.getHeight());
     } catch (NoSuchAlgorithmException e) {
@@ -1026,29 +1133,43 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
     } catch (AT_Exception e) {
       throw new BlockNotAcceptedException("ats are not matching at block height " + blockchain.getHeight() + " (" + e + ")");
     }
+    processingStats.record(Phase.AT_VALIDATION, start);
     calculatedRemainingAmount += atBlock.getTotalAmount();
     calculatedRemainingFee += atBlock.getTotalFees();
     // ATs
+    start = processingStats.start();
     if (subscriptionService.isEnabled()) {
       calculatedRemainingFee += subscriptionService.applyUnconfirmed(block.getTimestamp());
     }
+    long subscriptionsEscrowNanos = processingStats.elapsed(start);
     if (remainingAmount != null && remainingAmount != calculatedRemainingAmount) {
       throw new BlockNotAcceptedException("Calculated remaining amount doesn't add up for block " + block.getHeight());
     }
     if (remainingFee != null && remainingFee != calculatedRemainingFee) {
       throw new BlockNotAcceptedException("Calculated remaining fee doesn't add up for block " + block.getHeight());
     }
+    start = processingStats.start();
     blockListeners.notify(block, Event.BEFORE_BLOCK_APPLY);
+    long listenersNanos = processingStats.elapsed(start);
+
+    start = processingStats.start();
     blockService.apply(block);
+    processingStats.record(Phase.BLOCK_APPLY, start);
+
+    start = processingStats.start();
     subscriptionService.applyConfirmed(block, blockchain.getHeight());
     if (escrowService.isEnabled()) {
       escrowService.updateOnBlock(block, blockchain.getHeight());
     }
+    processingStats.recordNanos(Phase.SUBSCRIPTIONS_ESCROW, subscriptionsEscrowNanos + processingStats.elapsed(start));
+
+    start = processingStats.start();
     blockListeners.notify(block, Event.AFTER_BLOCK_APPLY);
     if (! block.getTransactions().isEmpty()) {
       transactionProcessor.notifyListeners(block.getTransactions(),
           TransactionProcessor.Event.ADDED_CONFIRMED_TRANSACTIONS);
     }
+    processingStats.recordNanos(Phase.LISTENERS, listenersNanos + processingStats.elapsed(start));
   }
 
   private List<Block> popOffTo(Block commonBlock) {
@@ -1109,96 +1230,28 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
     synchronized (downloadCache) {
       downloadCache.lockCache(); //stop all incoming blocks.
       UnconfirmedTransactionStore unconfirmedTransactionStore = stores.getUnconfirmedTransactionStore();
-      SortedSet<Transaction> orderedBlockTransactions = new TreeSet<>();
-
-      int blockSize   = Burst.getFluxCapacitor().getInt(FluxInt.MAX_NUMBER_TRANSACTIONS);
-      int payloadSize = Burst.getFluxCapacitor().getInt(FluxInt.MAX_PAYLOAD_LENGTH);
-
-      long totalAmountNQT = 0;
-      long totalFeeNQT = 0;
 
       final Block previousBlock = blockchain.getLastBlock();
       final int blockTimestamp = timeService.getEpochTime();
 
-      // this is just an validation. which collects all valid transactions, which fit into the block
-      // finally all stuff is reverted so nothing is written to the db
-      // the block itself with all transactions we found is pushed using pushBlock which calls
-      // accept (so it's going the same way like a received/synced block)
-      try {
-        stores.beginTransaction();
-
-        Map<TransactionType, Set<String>> duplicates = new HashMap<>();
-        List<Transaction> unconfirmedTransactionsOrderedByFee = unconfirmedTransactionStore.getAll().stream().filter(
-            transaction ->
-              transaction.getVersion() == transactionProcessor.getTransactionVersion(previousBlock.getHeight())
-                  && transaction.getExpiration() >= blockTimestamp
-                  && transaction.getTimestamp()  <= blockTimestamp + MAX_TIMESTAMP_DIFFERENCE
-                  && (
-                      ! Burst.getFluxCapacitor().isActive(FeatureToggle.AUTOMATED_TRANSACTION_BLOCK)
-                          || economicClustering.verifyFork(transaction)
-                  )
-        ).collect(Collectors.toList());
-        unconfirmedTransactionsOrderedByFee.sort((o2, o1) -> ((Long) o1.getFeeNQT()).compareTo(o2.getFeeNQT()));
-
-        COLLECT_TRANSACTIONS: for (Transaction transaction : unconfirmedTransactionsOrderedByFee) {
-          boolean transactionHasBeenHandled = false;
-          while ( ! transactionHasBeenHandled ) {
-            if ( blockSize <= 0 || payloadSize <= 0 ) {
-              break COLLECT_TRANSACTIONS;
-            }
-            else if ( transaction.getSize() > payloadSize ) {
-              continue COLLECT_TRANSACTIONS;
-            }
-
-            Long slotFee = Burst.getFluxCapacitor().isActive(PRE_DYMAXION) ? blockSize * FEE_QUANT : ONE_BURST;
-            if (transaction.getFeeNQT() >= slotFee) {
-              // transaction can only be handled if all referenced ones exist
-              if (hasAllReferencedTransactions(transaction, transaction.getTimestamp(), 0)) {
-                // handle non- duplicates and transactions which can be applied
-                if ( ! transaction.isDuplicate(duplicates) && transactionService.applyUnconfirmed(transaction)) {
-                  try {
-                    transactionService.validate(transaction);
-                    payloadSize -= transaction.getSize();
-                    blockSize--;
-
-                    totalAmountNQT += transaction.getAmountNQT();
-                    totalFeeNQT += transaction.getFeeNQT();
-
-                    orderedBlockTransactions.add(transaction);
-                  } catch (BurstException.NotCurrentlyValidException e) {
-                    transactionService.undoUnconfirmed(transaction);
-                  } catch (BurstException.ValidationException e) {
-                    unconfirmedTransactionStore.remove(transaction);
-                    transactionService.undoUnconfirmed(transaction);
-                  }
-                }
-                else {
-                  // drop duplicates and those transactions which can not be applied
-                  unconfirmedTransactionStore.remove(transaction);
-                }
-              }
-              // handled by a real handling or by discarding the transaction
-              transactionHasBeenHandled = true;
-            }
-            else {
-              blockSize--;
-            }
-          }
-        }
-
-        if (subscriptionService.isEnabled()) {
-          subscriptionService.clearRemovals();
-          totalFeeNQT += subscriptionService.calculateFees(blockTimestamp);
-        }
-      }
-      catch (Exception e) {
-        stores.rollbackTransaction();
-        throw e;
+      // the template built in the background only needs its subscription fees brought up to the
+      // block timestamp, anything else falls back to assembling the transactions right here
+      BlockTemplate template = blockTemplate;
+      Long subscriptionFeeNQT = null;
+      if (isCurrent(template, previousBlock, blockTimestamp)) {
+        subscriptionFeeNQT = template.timestamp == blockTimestamp
+            ? template.subscriptionFeeNQT : calculateSubscriptionFees(template.transactions, blockTimestamp);
       }
-      finally {
-        stores.rollbackTransaction();
-        stores.endTransaction();
+      if (subscriptionFeeNQT == null) {
+        long version = unconfirmedVersion.get();
+        template = buildBlockTemplate(previousBlock, blockTimestamp, version, selectTransactions(previousBlock, blockTimestamp));
+        subscriptionFeeNQT = template.subscriptionFeeNQT;
       }
+      blockTemplate = null;
+
+      int payloadSize = template.payloadSize;
+      long totalAmountNQT = template.totalAmountNQT;
+      long totalFeeNQT = template.totalFeeNQT + subscriptionFeeNQT;
 
       // final byte[] publicKey = Crypto.getPublicKey(secretPhrase);
 
@@ -1218,16 +1271,16 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
       // ATs for block
 
       MessageDigest digest = Crypto.sha256();
-      orderedBlockTransactions.forEach(transaction -> digest.update(transaction.getBytes()));
+      template.transactions.forEach(transaction -> digest.update(transaction.getBytes()));
       byte[] payloadHash = digest.digest();
       byte[] generationSignature = generator.calculateGenerationSignature(
           previousBlock.getGenerationSignature(), previousBlock.getGeneratorId());
       Block block;
-      byte[] previousBlockHash = Crypto.sha256().digest(previousBlock.getBytes());
+      byte[] previousBlockHash = ReusableDigest.SHA256.digest(previousBlock.getBytes());
       try {
         block = new Block(getBlockVersion(), blockTimestamp,
             previousBlock.getId(), totalAmountNQT, totalFeeNQT, Burst.getFluxCapacitor().getInt(FluxInt.MAX_PAYLOAD_LENGTH) - payloadSize, payloadHash, publicKey,
-            generationSignature, null, previousBlockHash, new ArrayList<>(orderedBlockTransactions), nonce,
+            generationSignature, null, previousBlockHash, new ArrayList<>(template.transactions), nonce,
             byteATs, previousBlock.getHeight());
 
       } catch (BurstException.ValidationException e) {
@@ -1257,6 +1310,232 @@ public final class BlockchainProcessorImpl implements BlockchainProcessor {
     } //end synchronized cache
   }
 
+  /**
+   * @return the unconfirmed transactions that may go into a block on top of the previous block,
+   * highest fee first. Only reads, so it does not need the download cache monitor.
+   */
+  private List<Transaction> selectTransactions(Block previousBlock, int blockTimestamp) {
+    List<Transaction> unconfirmedTransactionsOrderedByFee = stores.getUnconfirmedTransactionStore().getAll().stream().filter(
+        transaction ->
+          transaction.getVersion() == transactionProcessor.getTransactionVersion(previousBlock.getHeight())
+              && transaction.getExpiration() >= blockTimestamp
+              && transaction.getTimestamp()  <= blockTimestamp + MAX_TIMESTAMP_DIFFERENCE
+              && (
+                  ! Burst.getFluxCapacitor().isActive(FeatureToggle.AUTOMATED_TRANSACTION_BLOCK)
+                      || economicClustering.verifyFork(transaction)
+              )
+    ).collect(Collectors.toList());
+    unconfirmedTransactionsOrderedByFee.sort((o2, o1) -> ((Long) o1.getFeeNQT()).compareTo(o2.getFeeNQT()));
+    return unconfirmedTransactionsOrderedByFee;
+  }
+
+  /**
+   * Picks the selected transactions that fit and apply into a block on top of the previous block.
+   * Applying them goes through the shared account cache, so this must run under the download cache
+   * monitor.
+   *
+   * @param unconfirmedVersion version of the unconfirmed transactions read before selecting them
+   */
+  private BlockTemplate buildBlockTemplate(Block previousBlock, int blockTimestamp, long unconfirmedVersion,
+                                           List<Transaction> unconfirmedTransactionsOrderedByFee) {
+    UnconfirmedTransactionStore unconfirmedTransactionStore = stores.getUnconfirmedTransactionStore();
+    SortedSet<Transaction> orderedBlockTransactions = new TreeSet<>();
+
+    int blockSize   = Burst.getFluxCapacitor().getInt(FluxInt.MAX_NUMBER_TRANSACTIONS);
+    int payloadSize = Burst.getFluxCapacitor().getInt(FluxInt.MAX_PAYLOAD_LENGTH);
+
+    long totalAmountNQT = 0;
+    long totalFeeNQT = 0;
+    long subscriptionFeeNQT = 0;
+
+    // this is just an validation. which collects all valid transactions, which fit into the block
+    // finally all stuff is reverted so nothing is written to the db
+    // the block itself with all transactions we found is pushed using pushBlock which calls
+    // accept (so it's going the same way like a received/synced block)
+    try {
+      stores.beginTransaction();
+
+      Map<TransactionType, Set<String>> duplicates = new HashMap<>();
+
+      COLLECT_TRANSACTIONS: for (Transaction transaction : unconfirmedTransactionsOrderedByFee) {
+        boolean transactionHasBeenHandled = false;
+        while ( ! transactionHasBeenHandled ) {
+          if ( blockSize <= 0 || payloadSize <= 0 ) {
+            break COLLECT_TRANSACTIONS;
+          }
+          else if ( transaction.getSize() > payloadSize ) {
+            continue COLLECT_TRANSACTIONS;
+          }
+
+          Long slotFee = Burst.getFluxCapacitor().isActive(PRE_DYMAXION) ? blockSize * FEE_QUANT : ONE_BURST;
+          if (transaction.getFeeNQT() >= slotFee) {
+            // transaction can only be handled if all referenced ones exist
+            if (hasAllReferencedTransactions(transaction, transaction.getTimestamp(), 0)) {
+              // handle non- duplicates and transactions which can be applied
+              if ( ! transaction.isDuplicate(duplicates) && transactionService.applyUnconfirmed(transaction)) {
+                try {
+                  transactionService.validate(transaction);
+                  payloadSize -= transaction.getSize();
+                  blockSize--;
+
+                  totalAmountNQT += transaction.getAmountNQT();
+                  totalFeeNQT += transaction.getFeeNQT();
+
+                  orderedBlockTransactions.add(transaction);
+                } catch (BurstException.NotCurrentlyValidException e) {
+                  transactionService.undoUnconfirmed(transaction);
+                } catch (BurstException.ValidationException e) {
+                  unconfirmedTransactionStore.remove(transaction);
+                  transactionService.undoUnconfirmed(transaction);
+                }
+              }
+              else {
+                // drop duplicates and those transactions which can not be applied
+                unconfirmedTransactionStore.remove(transaction);
+              }
+            }
+            // handled by a real handling or by discarding the transaction
+            transactionHasBeenHandled = true;
+          }
+          else {
+            blockSize--;
+          }
+        }
+      }
+
+      if (subscriptionService.isEnabled()) {
+        subscriptionService.clearRemovals();
+        subscriptionFeeNQT = subscriptionService.calculateFees(blockTimestamp);
+      }
+    }
+    catch (Exception e) {
+      stores.rollbackTransaction();
+      throw e;
+    }
+    finally {
+      stores.rollbackTransaction();
+      stores.endTransaction();
+    }
+
+    return new BlockTemplate(previousBlock.getId(), blockTimestamp, unconfirmedVersion, orderedBlockTransactions,
+                             totalAmountNQT, totalFeeNQT, subscriptionFeeNQT, payloadSize);
+  }
+
+  /**
+   * @return whether the template can still go on top of the previous block at the block timestamp
+   * and no unconfirmed transactions arrived or left since it was built
+   */
+  private boolean isCurrent(BlockTemplate template, Block previousBlock, int blockTimestamp) {
+    if (template == null || template.previousBlockId != previousBlock.getId() || template.timestamp > blockTimestamp
+        || template.unconfirmedVersion != unconfirmedVersion.get()) {
+      return false;
+    }
+    UnconfirmedTransactionStore unconfirmedTransactionStore = stores.getUnconfirmedTransactionStore();
+    for (Transaction transaction : template.transactions) {
+      if (transaction.getExpiration() < blockTimestamp || ! unconfirmedTransactionStore.exists(transaction.getId())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Applies the transactions of the template once more to find the subscription fees due at the
+   * block timestamp, the transactions themselves were validated when the template was built.
+   *
+   * @return the subscription fees, or null if a transaction no longer applies
+   */
+  private Long calculateSubscriptionFees(SortedSet<Transaction> transactions, int blockTimestamp) {
+    if (! subscriptionService.isEnabled()) {
+      return 0L;
+    }
+    try {
+      stores.beginTransaction();
+      for (Transaction transaction : transactions) {
+        if (! transactionService.applyUnconfirmed(transaction)) {
+          return null;
+        }
+      }
+      subscriptionService.clearRemovals();
+      return subscriptionService.calculateFees(blockTimestamp);
+    }
+    finally {
+      stores.rollbackTransaction();
+      stores.endTransaction();
+    }
+  }
+
+  /**
+   * Keeps a block template ready for the next block from {@link #BLOCK_TEMPLATE_LEAD_TIME} seconds
+   * before the best deadline, so that {@link #generateBlock} only has to add the subscription fees
+   * and ATs and sign at the deadline. Rebuilt whenever a block is pushed or popped or the unconfirmed
+   * transactions change.
+   *
+   * The transactions are selected without the download cache monitor, which is only taken to apply
+   * them. A template built on a block that was replaced meanwhile is dropped by {@link #isCurrent}.
+   */
+  private void updateBlockTemplate() {
+    try {
+      if (isScanning) {
+        return;
+      }
+      Block lastBlock = blockchain.getLastBlock();
+      long version = unconfirmedVersion.get();
+      BlockTemplate template = blockTemplate;
+      if ((template != null && template.previousBlockId == lastBlock.getId() && template.unconfirmedVersion == version)
+          || ! isForgingSoon(lastBlock)) {
+        return;
+      }
+      int blockTimestamp = timeService.getEpochTime();
+      List<Transaction> transactions = selectTransactions(lastBlock, blockTimestamp);
+      synchronized (downloadCache) {
+        if (blockchain.getLastBlock().getId() == lastBlock.getId()) {
+          blockTemplate = buildBlockTemplate(lastBlock, blockTimestamp, version, transactions);
+        }
+      }
+    } catch (Exception e) {
+      logger.debug("Error building block template", e);
+    }
+  }
+
+  /**
+   * @return whether one of our generators reaches its deadline on top of the last block within
+   * {@link #BLOCK_TEMPLATE_LEAD_TIME} seconds
+   */
+  private boolean isForgingSoon(Block lastBlock) {
+    long nextHeight = lastBlock.getHeight() + 1L;
+    BigInteger soon = BigInteger.valueOf((long) timeService.getEpochTime() - lastBlock.getTimestamp() + BLOCK_TEMPLATE_LEAD_TIME);
+    for (Generator.GeneratorState generatorState : generator.getAllGenerators()) {
+      if (generatorState.getBlock() == nextHeight && generatorState.getDeadline().compareTo(soon) <= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class BlockTemplate {
+    private final long previousBlockId;
+    private final int timestamp;
+    private final long unconfirmedVersion;
+    private final SortedSet<Transaction> transactions;
+    private final long totalAmountNQT;
+    private final long totalFeeNQT;
+    private final long subscriptionFeeNQT;
+    private final int payloadSize;
+
+    private BlockTemplate(long previousBlockId, int timestamp, long unconfirmedVersion, SortedSet<Transaction> transactions,
+                          long totalAmountNQT, long totalFeeNQT, long subscriptionFeeNQT, int payloadSize) {
+      this.previousBlockId = previousBlockId;
+      this.timestamp = timestamp;
+      this.unconfirmedVersion = unconfirmedVersion;
+      this.transactions = transactions;
+      this.totalAmountNQT = totalAmountNQT;
+      this.totalFeeNQT = totalFeeNQT;
+      this.subscriptionFeeNQT = subscriptionFeeNQT;
+      this.payloadSize = payloadSize;
+    }
+  }
+
   private boolean hasAllReferencedTransactions(Transaction transaction, int timestamp, int count) {
     if (transaction.getReferencedTransactionFullHash() == null) {
       return timestamp - transaction.getTimestamp() < 60 * 1440 * 60 && count < 10;
@@ -183,7 +183,7 @@ public final class Burst {
 
       final DerivedTableManager derivedTableManager = new DerivedTableManager();
 
-      final StatisticsManagerImpl statisticsManager = new StatisticsManagerImpl(timeService);
+      final StatisticsManagerImpl statisticsManager = new StatisticsManagerImpl(timeService, propertyService.getBoolean(Props.BRS_BLOCK_PROCESSING_STATS));
       dbCacheManager = new DBCacheManagerImpl(statisticsManager);
 
       threadPool = new ThreadPool(propertyService);
@@ -198,7 +198,7 @@ public final class Burst {
       final TransactionDb transactionDb = dbs.getTransactionDb();
       final BlockDb blockDb =  dbs.getBlockDb();
       final BlockchainStore blockchainStore = stores.getBlockchainStore();
-      blockchain = new BlockchainImpl(transactionDb, blockDb, blockchainStore);
+      blockchain = new BlockchainImpl(transactionDb, blockDb, blockchainStore, propertyService.getInt(Props.BRS_RECENT_BLOCKS, 1440));
 
       final AliasService aliasService = new AliasServiceImpl(stores.getAliasStore());
       fluxCapacitor = new FluxCapacitorImpl(blockchain, propertyService);
@@ -223,7 +223,8 @@ public final class Burst {
 
       final DownloadCacheImpl downloadCache = new DownloadCacheImpl(propertyService, fluxCapacitor, blockchain);
 
-      final BlockService blockService = new BlockServiceImpl(accountService, transactionService, blockchain, downloadCache, generator);
+      final BlockService blockService = new BlockServiceImpl(accountService, transactionService, blockchain, downloadCache, generator,
+          statisticsManager.getBlockProcessingStats());
       blockchainProcessor = new BlockchainProcessorImpl(threadPool, blockService, transactionProcessor, blockchain, propertyService, subscriptionService,
           timeService, derivedTableManager,
           blockDb, transactionDb, economicClustering, blockchainStore, stores, escrowService, transactionService, downloadCache, generator, statisticsManager,
@@ -244,7 +245,8 @@ public final class Burst {
 
       api = new API(transactionProcessor, blockchain, blockchainProcessor, parameterService,
           accountService, aliasService, assetExchange, escrowService, digitalGoodsStoreService,
-          subscriptionService, atService, timeService, economicClustering, propertyService, threadPool, transactionService, blockService, generator, apiTransactionManager);
+          subscriptionService, atService, timeService, economicClustering, propertyService, threadPool, transactionService, blockService, generator, apiTransactionManager,
+          statisticsManager.getBlockProcessingStats());
 
       DebugTrace.init(propertyService, blockchainProcessor, accountService, assetExchange, digitalGoodsStoreService);
 
@@ -18,6 +18,8 @@ public final class Constants {
   public static final int BURST_SUBSCRIPTION_MAX_FREQ = 31536000;
 
   public static final int BLOCK_HEADER_LENGTH = 232;
+  // seconds that the timestamp of a block or transaction may be ahead of the local clock or of its block
+  public static final int MAX_TIMESTAMP_DIFFERENCE = 15;
 
   public static final long MAX_BALANCE_BURST = 2158812800L;
   
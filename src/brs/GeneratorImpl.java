@@ -6,17 +6,18 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.Map.Entry;
+import java.util.Comparator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import brs.crypto.Crypto;
-import brs.crypto.hash.Shabal256;
+import brs.crypto.KeyCache;
+import brs.crypto.ReusableDigest;
 import brs.util.Convert;
 import brs.util.Listener;
 import brs.util.Listeners;
@@ -31,8 +32,12 @@ public final class GeneratorImpl implements Generator {
 
   private static final ConcurrentMap<Long, GeneratorStateImpl> generators = new ConcurrentHashMap<>();
   private static final Collection<? extends GeneratorState> allGenerators = Collections.unmodifiableCollection(generators.values());
+  // best nonce of every account, ordered by deadline. Replaced states are dropped lazily when they reach the head.
+  private static final PriorityBlockingQueue<GeneratorStateImpl> bestGenerators = new PriorityBlockingQueue<>(16, Comparator.comparing(GeneratorStateImpl::getDeadline));
 
   private Blockchain blockchain;
+  private volatile Round round;
+  private long purgedHeight = -1;
 
   private final Runnable generateBlockThread(BlockchainProcessor blockchainProcessor) {
     return () -> {
@@ -43,14 +48,18 @@ public final class GeneratorImpl implements Generator {
         }
         try {
           long currentBlock = blockchain.getLastBlock().getHeight();
-          Iterator<Entry<Long, GeneratorStateImpl>> it = generators.entrySet().iterator();
-          while (it.hasNext()) {
-            Entry<Long, GeneratorStateImpl> generator = it.next();
-            if (currentBlock < generator.getValue().getBlock()) {
-              generator.getValue().forge(blockchainProcessor);
-            } else {
-              it.remove();
-            }
+          if (currentBlock != purgedHeight) {
+            generators.values().removeIf(generator -> currentBlock >= generator.getBlock());
+            bestGenerators.removeIf(generator -> currentBlock >= generator.getBlock());
+            purgedHeight = currentBlock;
+          }
+          GeneratorStateImpl best;
+          while ((best = bestGenerators.peek()) != null
+              && (currentBlock >= best.getBlock() || generators.get(best.getAccountId()) != best)) {
+            bestGenerators.remove(best);
+          }
+          if (best != null) {
+            best.forge(blockchainProcessor);
           }
         } catch (BlockchainProcessor.BlockNotAcceptedException e) {
           logger.debug("Error in block generation thread", e);
@@ -97,13 +106,20 @@ public final class GeneratorImpl implements Generator {
 
   @Override
   public GeneratorState addNonce(String secretPhrase, Long nonce, byte[] publicKey) {
-    byte[] publicKeyHash = Crypto.sha256().digest(publicKey);
-    Long id = Convert.fullHashToId(publicKeyHash);
+    Long id = KeyCache.getAccountId(publicKey);
+    Round currentRound = getRound();
 
-    GeneratorStateImpl generator = new GeneratorStateImpl(secretPhrase, nonce, publicKey, id);
     GeneratorStateImpl curGen = generators.get(id);
-    if (curGen == null || generator.getBlock() > curGen.getBlock() || generator.getDeadline().compareTo(curGen.getDeadline()) < 0) {
-      generators.put(id, generator);
+    if (curGen != null && curGen.getBlock() == currentRound.height && curGen.nonce == nonce) {
+      // resubmission of the current best nonce, no need to read the plot again
+      return curGen;
+    }
+
+    GeneratorStateImpl generator = new GeneratorStateImpl(secretPhrase, nonce, publicKey, id, currentRound);
+    GeneratorStateImpl best = generators.merge(id, generator, (current, candidate) ->
+        candidate.getBlock() > current.getBlock() || candidate.getDeadline().compareTo(current.getDeadline()) < 0 ? candidate : current);
+    if (best == generator) {
+      bestGenerators.add(generator);
       listeners.notify(generator, Event.START_FORGING);
       logger.debug("Account " + Convert.toUnsignedLong(id) + " started mining, deadline " + generator.getDeadline() + " seconds");
     } else {
@@ -118,15 +134,25 @@ public final class GeneratorImpl implements Generator {
     return allGenerators;
   }
 
+  private Round getRound() {
+    Block lastBlock = blockchain.getLastBlock();
+    Round current = round;
+    if (current == null || current.lastBlockId != lastBlock.getId()) {
+      byte[] generationSignature = calculateGenerationSignature(lastBlock.getGenerationSignature(), lastBlock.getGeneratorId());
+      int height = lastBlock.getHeight() + 1;
+      current = new Round(lastBlock.getId(), height, generationSignature, calculateScoop(generationSignature, height), lastBlock.getBaseTarget());
+      round = current;
+    }
+    return current;
+  }
+
   @Override
   public byte[] calculateGenerationSignature(byte[] lastGenSig, long lastGenId) {
     ByteBuffer gensigbuf = ByteBuffer.allocate(32 + 8);
     gensigbuf.put(lastGenSig);
     gensigbuf.putLong(lastGenId);
 
-    Shabal256 md = new Shabal256();
-    md.update(gensigbuf.array());
-    return md.digest();
+    return ReusableDigest.SHABAL256.digest(gensigbuf.array());
   }
 
   @Override
@@ -135,9 +161,7 @@ public final class GeneratorImpl implements Generator {
     posbuf.put(genSig);
     posbuf.putLong(height);
 
-    Shabal256 md = new Shabal256();
-    md.update(posbuf.array());
-    BigInteger hashnum = new BigInteger(1, md.digest());
+    BigInteger hashnum = new BigInteger(1, ReusableDigest.SHABAL256.digest(posbuf.array()));
     return hashnum.mod(BigInteger.valueOf(MiningPlot.SCOOPS_PER_PLOT)).intValue();
   }
 
@@ -146,19 +170,12 @@ public final class GeneratorImpl implements Generator {
 
     MiningPlot plot = new MiningPlot(accountId, nonce, blockHeight, fluxCapacitor);
 
-    Shabal256 md = new Shabal256();
-    md.update(genSig);
-    plot.hashScoop(md, scoop);
-    byte[] hash = md.digest();
-    return new BigInteger(1, new byte[] { hash[7], hash[6], hash[5], hash[4], hash[3], hash[2], hash[1], hash[0] });
+    return calculateHit(accountId, nonce, genSig, plot.getScoop(scoop));
   }
 
   @Override
   public BigInteger calculateHit(long accountId, long nonce, byte[] genSig, byte[] scoopData) {
-    Shabal256 md = new Shabal256();
-    md.update(genSig);
-    md.update(scoopData);
-    byte[] hash = md.digest();
+    byte[] hash = ReusableDigest.SHABAL256.digest(genSig, scoopData);
     return new BigInteger(1, new byte[] { hash[7], hash[6], hash[5], hash[4], hash[3], hash[2], hash[1], hash[0] });
   }
 
@@ -172,29 +189,19 @@ public final class GeneratorImpl implements Generator {
     private final Long accountId;
     private final String secretPhrase;
     private final byte[] publicKey;
-    private volatile BigInteger deadline;
+    private final BigInteger deadline;
     private final long nonce;
     private final long block;
 
-    private GeneratorStateImpl(String secretPhrase, Long nonce, byte[] publicKey, Long account) {
+    private GeneratorStateImpl(String secretPhrase, Long nonce, byte[] publicKey, Long account, Round round) {
       this.secretPhrase = secretPhrase;
       this.publicKey = publicKey;
       // need to store publicKey in addition to accountId, because the account may not have had its publicKey set yet
       this.accountId = account;
       this.nonce = nonce;
+      this.block = round.height;
 
-      Block lastBlock = blockchain.getLastBlock();
-
-      this.block = (long) lastBlock.getHeight() + 1;
-
-      byte[] lastGenSig = lastBlock.getGenerationSignature();
-      Long lastGenerator = lastBlock.getGeneratorId();
-
-      byte[] newGenSig = calculateGenerationSignature(lastGenSig, lastGenerator);
-
-      int scoopNum = calculateScoop(newGenSig, lastBlock.getHeight() + 1L);
-
-      deadline = calculateDeadline(accountId, nonce, newGenSig, scoopNum, lastBlock.getBaseTarget(), lastBlock.getHeight() + 1);
+      deadline = calculateDeadline(accountId, nonce, round.generationSignature, round.scoop, round.baseTarget, round.height);
     }
 
     @Override
@@ -227,6 +234,23 @@ public final class GeneratorImpl implements Generator {
     }
   }
 
+  // mining parameters shared by all nonces submitted on top of the same block
+  private static final class Round {
+    private final long lastBlockId;
+    private final int height;
+    private final byte[] generationSignature;
+    private final int scoop;
+    private final long baseTarget;
+
+    private Round(long lastBlockId, int height, byte[] generationSignature, int scoop, long baseTarget) {
+      this.lastBlockId = lastBlockId;
+      this.height = height;
+      this.generationSignature = generationSignature;
+      this.scoop = scoop;
+      this.baseTarget = baseTarget;
+    }
+  }
+
   public static class MockGeneratorImpl implements Generator {
 
     private final Listeners<GeneratorState, Event> listeners = new Listeners<>();
@@ -3,6 +3,8 @@ package brs;
 import brs.db.BurstKey;
 import brs.util.Convert;
 
+import java.util.Comparator;
+
 public abstract class Order {
 
   private final long id;
@@ -67,6 +69,13 @@ public abstract class Order {
 
   public static class Ask extends Order {
 
+    /**
+     * Order in which asks are matched: lowest price first, then oldest, then lowest id.
+     */
+    public static final Comparator<Ask> PRIORITY = Comparator.comparingLong(Ask::getPriceNQT)
+        .thenComparingInt(Ask::getHeight)
+        .thenComparingLong(Ask::getId);
+
     public final BurstKey dbKey;
 
     public Ask(BurstKey dbKey, Transaction transaction, Attachment.ColoredCoinsAskOrderPlacement attachment) {
@@ -83,6 +92,13 @@ public abstract class Order {
 
   public static class Bid extends Order {
 
+    /**
+     * Order in which bids are matched: highest price first, then oldest, then lowest id.
+     */
+    public static final Comparator<Bid> PRIORITY = Comparator.comparingLong(Bid::getPriceNQT).reversed()
+        .thenComparingInt(Bid::getHeight)
+        .thenComparingLong(Bid::getId);
+
     public final BurstKey dbKey;
 
     public Bid(BurstKey dbKey, Transaction transaction, Attachment.ColoredCoinsBidOrderPlacement attachment) {
@@ -0,0 +1,147 @@
+package brs;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The blocks of the last {@code size} heights of the blockchain, indexed by id and by height.
+ *
+ * Pushed blocks are added by {@link #setLastBlock(Block)}, which also drops everything above the
+ * new last block when blocks are popped off or a push is rolled back. Blocks within the window
+ * that were loaded from the database can be added with {@link #offer(Block, long)}.
+ *
+ * As cached blocks are served instead of the database rows, their next block ids are kept in step
+ * with the chain: set when the following block is pushed, cleared on the new last block.
+ */
+final class RecentBlocks {
+
+  private final int size;
+
+  private final StampedLock lock = new StampedLock();
+  private final NavigableMap<Integer, Block> blocksByHeight = new TreeMap<>();
+  private final Map<Long, Block> blocksById = new HashMap<>();
+
+  /**
+   * Changes whenever blocks are dropped for another reason than leaving the window, so that blocks
+   * loaded from the database before that are not offered afterwards.
+   */
+  private long generation;
+
+  RecentBlocks(int size) {
+    this.size = size;
+  }
+
+  void setLastBlock(Block block) {
+    long stamp = lock.writeLock();
+    try {
+      if (size <= 0 || block == null) {
+        clear();
+        return;
+      }
+      int height = block.getHeight();
+      if (!blocksByHeight.tailMap(height, true).isEmpty()) {
+        removeFrom(height);
+        generation++;
+      }
+      Block previousBlock = blocksByHeight.get(height - 1);
+      if (previousBlock != null && previousBlock.getId() != block.getPreviousBlockId()) {
+        clear();
+      } else if (previousBlock != null) {
+        previousBlock.setNextBlockId(block.getId());
+      }
+      block.setNextBlockId(0);
+      put(block);
+      NavigableMap<Integer, Block> expired = blocksByHeight.headMap(height - size, true);
+      expired.values().forEach(expiredBlock -> blocksById.remove(expiredBlock.getId()));
+      expired.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  Block get(long blockId) {
+    long stamp = lock.readLock();
+    try {
+      return blocksById.get(blockId);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  Block getAtHeight(int height) {
+    long stamp = lock.readLock();
+    try {
+      return blocksByHeight.get(height);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * @return to be passed to {@link #offer(Block, long)} for blocks loaded after this call
+   */
+  long getGeneration() {
+    long stamp = lock.readLock();
+    try {
+      return generation;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Adds a block loaded from the database, if it is within the window and no blocks were dropped
+   * since {@code generation} was read.
+   */
+  void offer(Block block, long generation) {
+    if (block == null) {
+      return;
+    }
+    long stamp = lock.writeLock();
+    try {
+      if (generation != this.generation || blocksByHeight.isEmpty()) {
+        return;
+      }
+      int height = block.getHeight();
+      int lastHeight = blocksByHeight.lastKey();
+      if (height <= lastHeight && height > lastHeight - size && !blocksByHeight.containsKey(height)) {
+        Block nextBlock = blocksByHeight.get(height + 1);
+        if (nextBlock != null) {
+          block.setNextBlockId(nextBlock.getId());
+        }
+        put(block);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  int size() {
+    long stamp = lock.readLock();
+    try {
+      return blocksByHeight.size();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private void put(Block block) {
+    blocksByHeight.put(block.getHeight(), block);
+    blocksById.put(block.getId(), block);
+  }
+
+  private void removeFrom(int height) {
+    NavigableMap<Integer, Block> removed = blocksByHeight.tailMap(height, true);
+    removed.values().forEach(removedBlock -> blocksById.remove(removedBlock.getId()));
+    removed.clear();
+  }
+
+  private void clear() {
+    blocksByHeight.clear();
+    blocksById.clear();
+    generation++;
+  }
+}
@@ -0,0 +1,154 @@
+package brs;
+
+/**
+ * Open, high, low and close price and traded quantity of the trades of an asset within one
+ * {@link Timeframe}.
+ */
+public class TradeCandle {
+
+  /**
+   * Seconds between midnight UTC and the Burst epoch of 2014-08-11 02:00 UTC, the origin of the
+   * timestamps, so that candles of a day run from midnight to midnight UTC.
+   */
+  static final int EPOCH_OFFSET_FROM_UTC_MIDNIGHT = 2 * 60 * 60;
+
+  public enum Timeframe {
+    HOUR(1, "1h", 60 * 60, false),
+    DAY(2, "1d", 24 * 60 * 60, false),
+    BLOCKS(3, "360b", 360, true);
+
+    private final int code;
+    private final String name;
+    private final int length;
+    private final boolean byHeight;
+    private final int offset;
+
+    Timeframe(int code, String name, int length, boolean byHeight) {
+      this.code = code;
+      this.name = name;
+      this.length = length;
+      this.byHeight = byHeight;
+      this.offset = byHeight ? 0 : EPOCH_OFFSET_FROM_UTC_MIDNIGHT % length;
+    }
+
+    /**
+     * @return the value stored in the timeframe column
+     */
+    public int getCode() {
+      return code;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return the length of a candle, in seconds or in blocks
+     */
+    public int getLength() {
+      return length;
+    }
+
+    /**
+     * @return true if candles are delimited by block height instead of by timestamp
+     */
+    public boolean isByHeight() {
+      return byHeight;
+    }
+
+    /**
+     * @return the first timestamp or height of the candle the trade falls into; candles by
+     * timestamp start on whole UTC hours and days
+     */
+    public int getStart(Trade trade) {
+      int position = byHeight ? trade.getHeight() : trade.getTimestamp();
+      return position - Math.floorMod(position + offset, length);
+    }
+
+    public static Timeframe fromCode(int code) {
+      for (Timeframe timeframe : values()) {
+        if (timeframe.code == code) {
+          return timeframe;
+        }
+      }
+      return null;
+    }
+
+    public static Timeframe fromName(String name) {
+      for (Timeframe timeframe : values()) {
+        if (timeframe.name.equals(name)) {
+          return timeframe;
+        }
+      }
+      return null;
+    }
+  }
+
+  private final long assetId;
+  private final Timeframe timeframe;
+  private final int start;
+  private final long openNQT;
+  private final long highNQT;
+  private final long lowNQT;
+  private final long closeNQT;
+  private final long quantityQNT;
+  private final int tradeCount;
+  private final int height;
+
+  public TradeCandle(long assetId, Timeframe timeframe, int start, long openNQT, long highNQT, long lowNQT, long closeNQT,
+                     long quantityQNT, int tradeCount, int height) {
+    this.assetId = assetId;
+    this.timeframe = timeframe;
+    this.start = start;
+    this.openNQT = openNQT;
+    this.highNQT = highNQT;
+    this.lowNQT = lowNQT;
+    this.closeNQT = closeNQT;
+    this.quantityQNT = quantityQNT;
+    this.tradeCount = tradeCount;
+    this.height = height;
+  }
+
+  public long getAssetId() {
+    return assetId;
+  }
+
+  public Timeframe getTimeframe() {
+    return timeframe;
+  }
+
+  public int getStart() {
+    return start;
+  }
+
+  public long getOpenNQT() {
+    return openNQT;
+  }
+
+  public long getHighNQT() {
+    return highNQT;
+  }
+
+  public long getLowNQT() {
+    return lowNQT;
+  }
+
+  public long getCloseNQT() {
+    return closeNQT;
+  }
+
+  public long getQuantityQNT() {
+    return quantityQNT;
+  }
+
+  public int getTradeCount() {
+    return tradeCount;
+  }
+
+  /**
+   * @return the height of the last trade in the candle
+   */
+  public int getHeight() {
+    return height;
+  }
+}
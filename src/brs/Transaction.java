@@ -3,6 +3,7 @@ package brs;
 import brs.Appendix.AbstractAppendix;
 import brs.TransactionType.Payment;
 import brs.crypto.Crypto;
+import brs.crypto.ReusableDigest;
 import brs.db.BurstKey;
 import brs.fluxcapacitor.FeatureToggle;
 import brs.util.Convert;
@@ -13,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.security.MessageDigest;
 import java.util.*;
 
 public class Transaction implements Comparable<Transaction> {
@@ -365,12 +365,10 @@ public class Transaction implements Comparable<Transaction> {
       byte[] hash;
       if (useNQT()) {
         byte[] data = zeroSignature(getBytes());
-        byte[] signatureHash = Crypto.sha256().digest(signature != null ? signature : new byte[64]);
-        MessageDigest digest = Crypto.sha256();
-        digest.update(data);
-        hash = digest.digest(signatureHash);
+        byte[] signatureHash = ReusableDigest.SHA256.digest(signature != null ? signature : new byte[64]);
+        hash = ReusableDigest.SHA256.digest(data, signatureHash);
       } else {
-        hash = Crypto.sha256().digest(getBytes());
+        hash = ReusableDigest.SHA256.digest(getBytes());
       }
       BigInteger bigInteger = new BigInteger(1, new byte[] {hash[7], hash[6], hash[5], hash[4], hash[3], hash[2], hash[1], hash[0]});
       id = bigInteger.longValue();
@@ -643,6 +641,10 @@ public class Transaction implements Comparable<Transaction> {
     return Crypto.verify(signature, data, senderPublicKey, useNQT());
   }
 
+  public void addToSignatureBatch(Crypto.SignatureBatch batch) {
+    batch.add(signature, zeroSignature(getBytes()), senderPublicKey, useNQT());
+  }
+
   public int getSize() {
     return signatureOffset() + 64  + (version > 0 ? 4 + 4 + 8 : 0) + appendagesSize;
   }
@@ -690,7 +692,7 @@ public class Transaction implements Comparable<Transaction> {
     return flags;
   }
 
-  boolean isDuplicate(Map<TransactionType, Set<String>> duplicates) {
+  public boolean isDuplicate(Map<TransactionType, Set<String>> duplicates) {
     return type.isDuplicate(this, duplicates);
   }
 
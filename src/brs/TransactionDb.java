@@ -4,7 +4,9 @@ import brs.schema.tables.records.TransactionRecord;
 
 import java.sql.ResultSet;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.jooq.DSLContext;
 
 public interface TransactionDb {
@@ -22,6 +24,13 @@ public interface TransactionDb {
 
   List<Transaction> findBlockTransactions(long blockId);
 
+  /**
+   * Loads the transactions of several blocks with one query.
+   *
+   * @return the transactions of each block by block id, blocks without transactions are not included
+   */
+  Map<Long, List<Transaction>> findBlockTransactions(Collection<Long> blockIds);
+
   void saveTransactions(List<Transaction> transactions);
 
 }
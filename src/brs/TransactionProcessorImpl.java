@@ -11,6 +11,7 @@ import brs.services.PropertyService;
 import brs.services.TimeService;
 import brs.services.TransactionService;
 import brs.unconfirmedtransactions.UnconfirmedTransactionStore;
+import brs.util.Convert;
 import brs.util.JSON;
 import brs.util.Listener;
 import brs.util.Listeners;
@@ -28,6 +29,11 @@ public class TransactionProcessorImpl implements TransactionProcessor {
 
   private static final Logger logger = LoggerFactory.getLogger(TransactionProcessorImpl.class);
 
+  /**
+   * Most transactions pulled from a peer's announced inventory in one request.
+   */
+  private static final int MAX_REQUESTED_TRANSACTIONS = 100;
+
   private final boolean enableTransactionRebroadcasting;
   private final boolean testUnconfirmedTransactions;
 
@@ -113,9 +119,13 @@ public class TransactionProcessorImpl implements TransactionProcessor {
 
   private final Runnable processTransactionsThread = new Runnable() {
 
+      private final JSONStreamAware getUnconfirmedTransactionIdsRequest;
       private final JSONStreamAware getUnconfirmedTransactionsRequest;
       {
         JSONObject request = new JSONObject();
+        request.put("requestType", "getUnconfirmedTransactionIds");
+        getUnconfirmedTransactionIdsRequest = JSON.prepareRequest(request);
+        request = new JSONObject();
         request.put("requestType", "getUnconfirmedTransactions");
         getUnconfirmedTransactionsRequest = JSON.prepareRequest(request);
       }
@@ -156,7 +166,17 @@ public class TransactionProcessorImpl implements TransactionProcessor {
             if (peer == null) {
               return;
             }
-            JSONObject response = peer.send(getUnconfirmedTransactionsRequest);
+            JSONObject response = peer.send(getUnconfirmedTransactionIdsRequest);
+            if (response == null) {
+              return;
+            }
+            JSONArray transactionIds = (JSONArray)response.get("unconfirmedTransactionIds");
+            if (transactionIds == null) {
+              // peer does not announce its inventory yet, pull its whole pool
+              response = peer.send(getUnconfirmedTransactionsRequest);
+            } else {
+              response = requestMissingTransactions(peer, transactionIds);
+            }
             if (response == null) {
               return;
             }
@@ -179,6 +199,28 @@ public class TransactionProcessorImpl implements TransactionProcessor {
         }
       }
 
+      private JSONObject requestMissingTransactions(Peer peer, JSONArray transactionIds) {
+        List<Long> seenTransactionIds = new ArrayList<>();
+        JSONArray missingTransactionIds = new JSONArray();
+        for (Object transactionId : transactionIds) {
+          long id = Convert.parseUnsignedLong((String) transactionId);
+          if (unconfirmedTransactionStore.exists(id)) {
+            seenTransactionIds.add(id);
+          } else if (!peer.hasSeenTransaction(id) && missingTransactionIds.size() < MAX_REQUESTED_TRANSACTIONS) {
+            seenTransactionIds.add(id);
+            missingTransactionIds.add(transactionId);
+          }
+        }
+        peer.addSeenTransactions(seenTransactionIds);
+        if (missingTransactionIds.isEmpty()) {
+          return null;
+        }
+        JSONObject request = new JSONObject();
+        request.put("requestType", "getUnconfirmedTransactions");
+        request.put("transactionIds", missingTransactionIds);
+        return peer.send(JSON.prepareRequest(request));
+      }
+
     };
 
 
@@ -12,10 +12,13 @@ import brs.Order.Ask;
 import brs.Order.Bid;
 import brs.Trade;
 import brs.Trade.Event;
+import brs.TradeCandle;
 import brs.Transaction;
 import brs.db.BurstIterator;
 import brs.util.Listener;
 
+import java.util.List;
+
 public interface AssetExchange {
 
   BurstIterator<Asset> getAllAssets(int from, int to);
@@ -54,6 +57,8 @@ public interface AssetExchange {
 
   BurstIterator<Trade> getAccountAssetTrades(long accountId, long assetId, int from, int to);
 
+  List<TradeCandle> getCandles(long assetId, TradeCandle.Timeframe timeframe, int from, int to);
+
   BurstIterator<AccountAsset> getAccountAssetsOverview(long accountId, int height, int from, int to);
 
   BurstIterator<Asset> getAssetsIssuedBy(long accountId, int from, int to);
@@ -11,6 +11,7 @@ import brs.Order.Ask;
 import brs.Order.Bid;
 import brs.Trade;
 import brs.Trade.Event;
+import brs.TradeCandle;
 import brs.Transaction;
 import brs.db.BurstIterator;
 import brs.db.store.AccountStore;
@@ -21,6 +22,8 @@ import brs.db.store.TradeStore;
 import brs.services.AccountService;
 import brs.util.Listener;
 
+import java.util.List;
+
 public class AssetExchangeImpl implements AssetExchange {
 
   private final TradeServiceImpl tradeService;
@@ -118,6 +121,11 @@ public class AssetExchangeImpl implements AssetExchange {
     return assetService.getTrades(assetId, from, to);
   }
 
+  @Override
+  public List<TradeCandle> getCandles(long assetId, TradeCandle.Timeframe timeframe, int from, int to) {
+    return tradeService.getCandles(assetId, timeframe, from, to);
+  }
+
   @Override
   public BurstIterator<Trade> getAccountTrades(long id, int from, int to) {
     return tradeService.getAccountTrades(id, from, to);
@@ -108,11 +108,11 @@ class OrderServiceImpl {
   }
 
   private Ask getNextAskOrder(long assetId) {
-    return Burst.getStores().getOrderStore().getNextOrder(assetId);
+    return orderStore.getNextOrder(assetId);
   }
 
   private Bid getNextBidOrder(long assetId) {
-    return Burst.getStores().getOrderStore().getNextBid(assetId);
+    return orderStore.getNextBid(assetId);
   }
 
   private void matchOrders(long assetId) {
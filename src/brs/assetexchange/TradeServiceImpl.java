@@ -3,6 +3,7 @@ package brs.assetexchange;
 import brs.Block;
 import brs.Order;
 import brs.Trade;
+import brs.TradeCandle;
 import brs.Trade.Event;
 import brs.db.BurstIterator;
 import brs.db.BurstKey;
@@ -12,6 +13,8 @@ import brs.db.store.TradeStore;
 import brs.util.Listener;
 import brs.util.Listeners;
 
+import java.util.List;
+
 class TradeServiceImpl {
 
   private final Listeners<Trade,Event> listeners = new Listeners<>();
@@ -51,6 +54,10 @@ class TradeServiceImpl {
     return tradeTable.getAll(from, to);
   }
 
+  public List<TradeCandle> getCandles(long assetId, TradeCandle.Timeframe timeframe, int from, int to) {
+    return tradeStore.getCandles(assetId, timeframe, from, to);
+  }
+
   public boolean addListener(Listener<Trade> listener, Event eventType) {
     return listeners.addListener(listener, eventType);
   }
@@ -63,6 +70,7 @@ class TradeServiceImpl {
     BurstKey dbKey = tradeDbKeyFactory.newKey(askOrder.getId(), bidOrder.getId());
     Trade trade = new Trade(dbKey, assetId, block, askOrder, bidOrder);
     tradeTable.insert(trade);
+    tradeStore.addToCandles(trade);
     listeners.notify(trade, Event.TRADE);
     return trade;
   }
@@ -8,15 +8,13 @@
 package brs.at;
 
 import brs.Burst;
-import brs.crypto.hash.RIPEMD160;
+import brs.crypto.ReusableDigest;
 import brs.Constants;
 
 import brs.fluxcapacitor.FeatureToggle;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 
 import org.slf4j.Logger;
@@ -521,18 +519,11 @@ public class AT_API_Impl implements AT_API {
     b.put( state.get_A1() );
     b.put( state.get_A2() );
 
-    try {
-      MessageDigest md5 = MessageDigest.getInstance("MD5");
-      ByteBuffer mdb = ByteBuffer.wrap( md5.digest( b.array() ) );
-      mdb.order( ByteOrder.LITTLE_ENDIAN );
-
-      state.set_B1( AT_API_Helper.getByteArray( mdb.getLong(0) ) );
-      state.set_B1( AT_API_Helper.getByteArray( mdb.getLong(8) ) );
+    ByteBuffer mdb = ByteBuffer.wrap( ReusableDigest.MD5.digest( b.array() ) );
+    mdb.order( ByteOrder.LITTLE_ENDIAN );
 
-    } catch (NoSuchAlgorithmException e) {
-      //not expected to reach that point
-      logger.info("NoSuchAlgorithmException: ", e);
-    }
+    state.set_B1( AT_API_Helper.getByteArray( mdb.getLong(0) ) );
+    state.set_B1( AT_API_Helper.getByteArray( mdb.getLong(8) ) );
   }
 
 
@@ -545,18 +536,11 @@ public class AT_API_Impl implements AT_API {
       b.put( state.get_A1() );
       b.put( state.get_A2() );
 
-      try {
-        MessageDigest md5 = MessageDigest.getInstance("MD5");
-        ByteBuffer mdb = ByteBuffer.wrap( md5.digest( b.array() ) );
-        mdb.order( ByteOrder.LITTLE_ENDIAN );
-
-        return ( mdb.getLong(0) == AT_API_Helper.getLong( state.get_B1() ) &&
-                 mdb.getLong(8) == AT_API_Helper.getLong( state.get_B2() ) ) ? 1 : 0;
-      } catch (NoSuchAlgorithmException e) {
-        //not expected to reach that point
-        logger.info("NoSuchAlgorithmException: ", e);
-        throw new RuntimeException("Failed to check md5");
-      }
+      ByteBuffer mdb = ByteBuffer.wrap( ReusableDigest.MD5.digest( b.array() ) );
+      mdb.order( ByteOrder.LITTLE_ENDIAN );
+
+      return ( mdb.getLong(0) == AT_API_Helper.getLong( state.get_B1() ) &&
+               mdb.getLong(8) == AT_API_Helper.getLong( state.get_B2() ) ) ? 1 : 0;
     }
     else {
       return ( Arrays.equals( state.get_A1(), state.get_B1() ) &&
@@ -574,8 +558,7 @@ public class AT_API_Impl implements AT_API {
     b.put(state.get_A3());
     b.put(state.get_A4());
 
-    RIPEMD160 ripemd160 = new RIPEMD160();
-    ByteBuffer ripemdb = ByteBuffer.wrap(ripemd160.digest(b.array()));
+    ByteBuffer ripemdb = ByteBuffer.wrap(ReusableDigest.RIPEMD160.digest(b.array()));
     ripemdb.order(ByteOrder.LITTLE_ENDIAN);
 
     state.set_B1(AT_API_Helper.getByteArray(ripemdb.getLong(0)));
@@ -595,8 +578,7 @@ public class AT_API_Impl implements AT_API {
       b.put( state.get_A3() );
       b.put( state.get_A4() );
 
-      RIPEMD160 ripemd160 = new RIPEMD160();
-      ByteBuffer ripemdb = ByteBuffer.wrap( ripemd160.digest( b.array() ) );
+      ByteBuffer ripemdb = ByteBuffer.wrap( ReusableDigest.RIPEMD160.digest( b.array() ) );
       ripemdb.order( ByteOrder.LITTLE_ENDIAN );
 
       return ( ripemdb.getLong(0) == AT_API_Helper.getLong( state.get_B1() ) &&
@@ -621,20 +603,13 @@ public class AT_API_Impl implements AT_API {
     b.put( state.get_A3() );
     b.put( state.get_A4() );
 
-    try {
-      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
-      ByteBuffer shab = ByteBuffer.wrap( sha256.digest( b.array() ) );
-      shab.order( ByteOrder.LITTLE_ENDIAN );
-
-      state.set_B1( AT_API_Helper.getByteArray( shab.getLong( 0 ) ) );
-      state.set_B2( AT_API_Helper.getByteArray( shab.getLong( 8 ) ) );
-      state.set_B3( AT_API_Helper.getByteArray( shab.getLong( 16 ) ) );
-      state.set_B4( AT_API_Helper.getByteArray( shab.getLong( 24 ) ) );
+    ByteBuffer shab = ByteBuffer.wrap( ReusableDigest.SHA256.digest( b.array() ) );
+    shab.order( ByteOrder.LITTLE_ENDIAN );
 
-    } catch (NoSuchAlgorithmException e) {
-      //not expected to reach that point
-      logger.info("NoSuchAlgorithmException: ", e);
-    }
+    state.set_B1( AT_API_Helper.getByteArray( shab.getLong( 0 ) ) );
+    state.set_B2( AT_API_Helper.getByteArray( shab.getLong( 8 ) ) );
+    state.set_B3( AT_API_Helper.getByteArray( shab.getLong( 16 ) ) );
+    state.set_B4( AT_API_Helper.getByteArray( shab.getLong( 24 ) ) );
   }
 
   @Override
@@ -648,20 +623,13 @@ public class AT_API_Impl implements AT_API {
       b.put( state.get_A3() );
       b.put( state.get_A4() );
 
-      try {
-        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
-        ByteBuffer shab = ByteBuffer.wrap( sha256.digest( b.array() ) );
-        shab.order( ByteOrder.LITTLE_ENDIAN );
-
-        return ( shab.getLong(0) == AT_API_Helper.getLong( state.get_B1() ) &&
-                 shab.getLong(8) == AT_API_Helper.getLong( state.get_B2() ) &&
-                 shab.getLong(16) == AT_API_Helper.getLong( state.get_B3() ) &&
-                 shab.getLong(24) == AT_API_Helper.getLong( state.get_B4() ) ) ? 1 : 0;
-      } catch (NoSuchAlgorithmException e) {
-        //not expected to reach that point
-        logger.info("NoSuchAlgorithmException: ", e);
-        throw new RuntimeException("Failed to check sha256");
-      }
+      ByteBuffer shab = ByteBuffer.wrap( ReusableDigest.SHA256.digest( b.array() ) );
+      shab.order( ByteOrder.LITTLE_ENDIAN );
+
+      return ( shab.getLong(0) == AT_API_Helper.getLong( state.get_B1() ) &&
+               shab.getLong(8) == AT_API_Helper.getLong( state.get_B2() ) &&
+               shab.getLong(16) == AT_API_Helper.getLong( state.get_B3() ) &&
+               shab.getLong(24) == AT_API_Helper.getLong( state.get_B4() ) ) ? 1 : 0;
     }
     else {
       return ( Arrays.equals( state.get_A1(), state.get_B1() ) &&
@@ -792,20 +760,14 @@ public class AT_API_Impl implements AT_API {
       return;
     }
 
-    try {
-      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
-      sha256.update(state.getAp_data().array(), (int)val1, (int)(val2 > 256 ? 256 : val2));
-      ByteBuffer shab = ByteBuffer.wrap( sha256.digest() );
-      shab.order( ByteOrder.LITTLE_ENDIAN );
+    byte[] hash = new byte[32];
+    ReusableDigest.SHA256.digestInto(hash, 0, state.getAp_data().array(), (int)val1, (int)(val2 > 256 ? 256 : val2));
+    ByteBuffer shab = ByteBuffer.wrap( hash );
+    shab.order( ByteOrder.LITTLE_ENDIAN );
 
-      state.set_B1( AT_API_Helper.getByteArray( shab.getLong( 0 ) ) );
-      state.set_B2( AT_API_Helper.getByteArray( shab.getLong( 8 ) ) );
-      state.set_B3( AT_API_Helper.getByteArray( shab.getLong( 16 ) ) );
-      state.set_B4( AT_API_Helper.getByteArray( shab.getLong( 24 ) ) );
-    }
-    catch (NoSuchAlgorithmException e) {
-      //not expected to reach that point
-      logger.info("NoSuchAlgorithmException: ", e);
-    }
+    state.set_B1( AT_API_Helper.getByteArray( shab.getLong( 0 ) ) );
+    state.set_B2( AT_API_Helper.getByteArray( shab.getLong( 8 ) ) );
+    state.set_B3( AT_API_Helper.getByteArray( shab.getLong( 16 ) ) );
+    state.set_B4( AT_API_Helper.getByteArray( shab.getLong( 24 ) ) );
   }
 }
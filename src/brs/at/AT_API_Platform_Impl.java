@@ -4,14 +4,13 @@ import brs.Appendix;
 import brs.Constants;
 import brs.Burst;
 import brs.Transaction;
-import brs.crypto.Crypto;
+import brs.crypto.ReusableDigest;
 import brs.fluxcapacitor.FeatureToggle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.security.MessageDigest;
 
 import java.util.Arrays;
 
@@ -157,8 +156,6 @@ public class AT_API_Platform_Impl extends AT_API_Impl {
       return 0;
     }
 
-    MessageDigest digest = Crypto.sha256();
-
     byte[] senderPublicKey = tx.getSenderPublicKey();
 
     ByteBuffer bf = ByteBuffer.allocate( 32 + Long.SIZE + senderPublicKey.length );
@@ -167,8 +164,7 @@ public class AT_API_Platform_Impl extends AT_API_Impl {
     bf.putLong( tx.getId() );
     bf.put( senderPublicKey);
 
-    digest.update(bf.array());
-    byte[] byteRandom = digest.digest();
+    byte[] byteRandom = ReusableDigest.SHA256.digest(bf.array());
 
       //System.out.println( "info: random for txid: " + Convert.toUnsignedLong( tx.getId() ) + "is: " + random );
     return Math.abs( AT_API_Helper.getLong( Arrays.copyOfRange(byteRandom, 0, 8) ) );
@@ -4,6 +4,7 @@ import brs.AT;
 import brs.Account;
 import brs.Burst;
 import brs.Constants;
+import brs.crypto.ReusableDigest;
 import brs.fluxcapacitor.FeatureToggle;
 import brs.util.Convert;
 import org.slf4j.Logger;
@@ -12,7 +13,6 @@ import org.slf4j.LoggerFactory;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
@@ -315,66 +315,31 @@ public abstract class AT_Controller {
 
     LinkedHashMap< ByteBuffer, byte[] > ats = getATsFromBlock( blockATs );
 
+    if ( ats.size() > 1 && AT_Parallel_Executor.isEnabled() ) {
+      AT_Block atBlock = AT_Parallel_Executor.validateATs( ats, blockHeight );
+      if ( atBlock != null ) {
+        return atBlock;
+      }
+    }
+
     List< AT > processedATs = new ArrayList< >();
 
     boolean validated = true;
     long totalFee = 0;
-    MessageDigest digest = MessageDigest.getInstance( "MD5" );
-    byte[] md5;
     long totalAmount = 0;
 
     for ( ByteBuffer atIdBuffer : ats.keySet() ) {
       byte[] atId = atIdBuffer.array();
-      AT at = AT.getAT( atId );
 
       try {
-        at.clearTransactions();
-        at.setHeight(blockHeight);
-        at.setWaitForNumberOfBlocks( at.getSleepBetween() );
-
-        long atAccountBalance = getATAccountBalance( AT_API_Helper.getLong( atId ) );
-        if (atAccountBalance < AT_Constants.getInstance().STEP_FEE( at.getCreationBlockHeight() )
-            * AT_Constants.getInstance().API_STEP_MULTIPLIER( at.getCreationBlockHeight() ) ) {
-          throw new AT_Exception( "AT has insufficient balance to run" );
-        }
-
-        if ( at.freezeOnSameBalance() && (atAccountBalance - at.getG_balance() < at.minActivationAmount()) ) {
-          throw new AT_Exception( "AT should be frozen due to unchanged balance" );
-        }
-
-        if ( at.nextHeight() > blockHeight ) {
-          throw new AT_Exception( "AT not allowed to run again yet" );
-        }
-
-        at.setG_balance( atAccountBalance );
-
-        listCode(at, true, true);
-
-        runSteps( at );
+        AT at = prepareAT( atId, blockHeight );
 
-        long fee = at.getMachineState().steps * AT_Constants.getInstance().STEP_FEE( at.getCreationBlockHeight() );
-        if ( at.getMachineState().dead ) {
-          fee += at.getG_balance();
-          at.setG_balance(0L);
-        }
-        at.setP_balance( at.getG_balance() );
-
-        if (! Burst.getFluxCapacitor().isActive(FeatureToggle.AT_FIX_BLOCK_4, blockHeight)) {
-          totalAmount = makeTransactions( at );
-        }
-        else {
-          totalAmount += makeTransactions(at);
-        }
+        long fee = executeAT( at );
 
+        totalAmount = addAmount( totalAmount, commitAT( at, fee, ReusableDigest.MD5.digest( at.getBytes() ), ats.get( atIdBuffer ) ), blockHeight );
         totalFee += fee;
-        AT.addPendingFee(atId, fee);
 
         processedATs.add( at );
-
-        md5 = digest.digest( at.getBytes() );
-        if ( !Arrays.equals( md5, ats.get( atIdBuffer ) ) ) {
-          throw new AT_Exception( "Calculated md5 and recieved md5 are not matching" );
-        }
       }
       catch ( Exception e ) {
         //e.printStackTrace(System.out);
@@ -389,6 +354,69 @@ public abstract class AT_Controller {
       return new AT_Block( totalFee, totalAmount, new byte[ 1 ], validated );
   }
 
+  // loads an AT referenced by a block and checks it is allowed to run; reads state of the block transaction
+  static AT prepareAT( byte[] atId, int blockHeight ) throws AT_Exception {
+    AT at = AT.getAT( atId );
+
+    at.clearTransactions();
+    at.setHeight(blockHeight);
+    at.setWaitForNumberOfBlocks( at.getSleepBetween() );
+
+    long atAccountBalance = getATAccountBalance( AT_API_Helper.getLong( atId ) );
+    if (atAccountBalance < AT_Constants.getInstance().STEP_FEE( at.getCreationBlockHeight() )
+        * AT_Constants.getInstance().API_STEP_MULTIPLIER( at.getCreationBlockHeight() ) ) {
+      throw new AT_Exception( "AT has insufficient balance to run" );
+    }
+
+    if ( at.freezeOnSameBalance() && (atAccountBalance - at.getG_balance() < at.minActivationAmount()) ) {
+      throw new AT_Exception( "AT should be frozen due to unchanged balance" );
+    }
+
+    if ( at.nextHeight() > blockHeight ) {
+      throw new AT_Exception( "AT not allowed to run again yet" );
+    }
+
+    at.setG_balance( atAccountBalance );
+
+    return at;
+  }
+
+  // runs a prepared AT and returns its fee; only touches the AT itself and confirmed chain data
+  static long executeAT( AT at ) {
+    listCode(at, true, true);
+
+    runSteps( at );
+
+    long fee = at.getMachineState().steps * AT_Constants.getInstance().STEP_FEE( at.getCreationBlockHeight() );
+    if ( at.getMachineState().dead ) {
+      fee += at.getG_balance();
+      at.setG_balance(0L);
+    }
+    at.setP_balance( at.getG_balance() );
+
+    return fee;
+  }
+
+  // registers the outcome of an executed AT as pending, must be called in block order
+  static long commitAT( AT at, long fee, byte[] md5, byte[] expectedMd5 ) throws AT_Exception {
+    long amount = makeTransactions( at );
+
+    AT.addPendingFee(at.getId(), fee);
+
+    if ( !Arrays.equals( md5, expectedMd5 ) ) {
+      throw new AT_Exception( "Calculated md5 and recieved md5 are not matching" );
+    }
+
+    return amount;
+  }
+
+  static long addAmount( long totalAmount, long amount, int blockHeight ) {
+    if (! Burst.getFluxCapacitor().isActive(FeatureToggle.AT_FIX_BLOCK_4, blockHeight)) {
+      return amount;
+    }
+    return totalAmount + amount;
+  }
+
   public static LinkedHashMap< ByteBuffer, byte[] > getATsFromBlock( byte[] blockATs ) throws AT_Exception {
     if ( blockATs.length > 0 ) {
       if ( blockATs.length % (getCostOfOneAT() ) != 0 ) {
@@ -431,11 +459,11 @@ public abstract class AT_Controller {
     ByteBuffer b = ByteBuffer.allocate( payload );
     b.order( ByteOrder.LITTLE_ENDIAN );
 
-    MessageDigest digest = MessageDigest.getInstance( "MD5" );
     for ( AT at : processedATs ) {
       b.put( at.getId() );
-      digest.update( at.getBytes() );
-      b.put( digest.digest() );
+      byte[] atBytes = at.getBytes();
+      ReusableDigest.MD5.digestInto( b.array(), b.position(), atBytes, 0, atBytes.length );
+      b.position( b.position() + 16 );
     }
 
     return b.array();
@@ -0,0 +1,202 @@
+package brs.at;
+
+import brs.AT;
+import brs.Burst;
+import brs.common.Props;
+import brs.crypto.ReusableDigest;
+import brs.services.PropertyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Speculatively executes the ATs of a block on a worker pool during validation.
+ *
+ * The ATs of a block only interact through the pending fees and transactions registered in
+ * {@link AT}: balances are read before any AT runs and AT payments are only applied after the
+ * block is accepted. Loading and balance checks therefore run on the importing thread (inside the
+ * block's DB transaction), the machine code runs concurrently and the results are committed in
+ * block order, which preserves the conflict check of {@link AT#findPendingTransaction(byte[])}.
+ * If the speculative run fails for any reason the caller re-validates sequentially.
+ */
+public final class AT_Parallel_Executor {
+
+  private static final Logger logger = LoggerFactory.getLogger(AT_Parallel_Executor.class);
+
+  private static volatile long executionTimeoutMs = 30000;
+
+  private static final AtomicLong parallelBlocks = new AtomicLong();
+  private static final AtomicLong fallbacks = new AtomicLong();
+  private static final AtomicLong executionNanos = new AtomicLong();
+  private static final AtomicLong wallNanos = new AtomicLong();
+
+  private static volatile Boolean enabled;
+  private static volatile boolean suspended;
+  private static ExecutorService executor;
+
+  private AT_Parallel_Executor() {
+  }
+
+  static boolean isEnabled() {
+    if (enabled == null) {
+      PropertyService propertyService = Burst.getPropertyService();
+      enabled = propertyService != null && propertyService.getBoolean(Props.AT_PARALLEL_VALIDATION);
+    }
+    return enabled && ! suspended;
+  }
+
+  /**
+   * Suspends parallel validation while blocks are applied in a DB transaction spanning several
+   * blocks, whose changes the worker threads cannot see.
+   */
+  public static void setSuspended(boolean suspended) {
+    AT_Parallel_Executor.suspended = suspended;
+  }
+
+  private static synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      PropertyService propertyService = Burst.getPropertyService();
+      int threads = propertyService.getInt(Props.AT_PARALLEL_VALIDATION_THREADS,
+          propertyService.getInt(Props.CPU_NUM_CORES, Runtime.getRuntime().availableProcessors()));
+      if (threads <= 0) {
+        threads = Runtime.getRuntime().availableProcessors();
+      }
+      AtomicInteger threadNumber = new AtomicInteger();
+      executor = Executors.newFixedThreadPool(threads, runnable -> {
+        Thread thread = new Thread(runnable, "AT-validation-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+      logger.info("Parallel AT validation enabled with {} threads", threads);
+    }
+    return executor;
+  }
+
+  /**
+   * @return the validated block or null if speculative execution was abandoned, in which case
+   * nothing has been registered as pending and the ATs have to be validated sequentially
+   */
+  static AT_Block validateATs(LinkedHashMap<ByteBuffer, byte[]> ats, int blockHeight) throws AT_Exception {
+    long start = System.nanoTime();
+
+    List<AT> preparedATs = new ArrayList<>(ats.size());
+    List<byte[]> expectedMd5s = new ArrayList<>(ats.size());
+    for (Map.Entry<ByteBuffer, byte[]> entry : ats.entrySet()) {
+      try {
+        preparedATs.add(AT_Controller.prepareAT(entry.getKey().array(), blockHeight));
+        expectedMd5s.add(entry.getValue());
+      } catch (Exception e) {
+        throw new AT_Exception("ATs error. Block rejected (" + e + ")");
+      }
+    }
+
+    List<Future<Execution>> futures = new ArrayList<>(preparedATs.size());
+    for (AT at : preparedATs) {
+      futures.add(getExecutor().submit(() -> execute(at)));
+    }
+
+    List<Execution> executions = new ArrayList<>(futures.size());
+    try {
+      long deadline = start + TimeUnit.MILLISECONDS.toNanos(executionTimeoutMs);
+      for (Future<Execution> future : futures) {
+        executions.add(future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return abandon(futures, blockHeight, e);
+    } catch (ExecutionException | TimeoutException e) {
+      return abandon(futures, blockHeight, e);
+    }
+
+    long totalFee = 0;
+    long totalAmount = 0;
+    long blockExecutionNanos = 0;
+    for (int i = 0; i < executions.size(); i++) {
+      Execution execution = executions.get(i);
+      try {
+        long amount = AT_Controller.commitAT(execution.at, execution.fee, execution.md5, expectedMd5s.get(i));
+        totalAmount = AT_Controller.addAmount(totalAmount, amount, blockHeight);
+        totalFee += execution.fee;
+      } catch (Exception e) {
+        throw new AT_Exception("ATs error. Block rejected (" + e + ")");
+      }
+      blockExecutionNanos += execution.nanos;
+    }
+
+    for (AT at : preparedATs) {
+      at.saveState();
+    }
+
+    long blockWallNanos = System.nanoTime() - start;
+    executionNanos.addAndGet(blockExecutionNanos);
+    wallNanos.addAndGet(blockWallNanos);
+    if (parallelBlocks.incrementAndGet() % 500 == 0) {
+      logger.info("Parallel AT validation: {} blocks, {} fallbacks, average speedup {}",
+          parallelBlocks.get(), fallbacks.get(), String.format("%.2f", getSpeedup()));
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Validated {} ATs in parallel at height {}: execution {} ms, wall {} ms, speedup {}",
+          preparedATs.size(), blockHeight, TimeUnit.NANOSECONDS.toMillis(blockExecutionNanos),
+          TimeUnit.NANOSECONDS.toMillis(blockWallNanos), String.format("%.2f", (double) blockExecutionNanos / blockWallNanos));
+    }
+
+    return new AT_Block(totalFee, totalAmount, new byte[ 1 ], true);
+  }
+
+  private static AT_Block abandon(List<Future<Execution>> futures, int blockHeight, Exception e) {
+    futures.forEach(future -> future.cancel(true));
+    fallbacks.incrementAndGet();
+    logger.debug("Parallel AT validation at height " + blockHeight + " abandoned, falling back to sequential execution", e);
+    return null;
+  }
+
+  private static Execution execute(AT at) {
+    long start = System.nanoTime();
+    long fee = AT_Controller.executeAT(at);
+    byte[] md5 = ReusableDigest.MD5.digest(at.getBytes());
+    return new Execution(at, fee, md5, System.nanoTime() - start);
+  }
+
+  public static long getParallelBlocks() {
+    return parallelBlocks.get();
+  }
+
+  public static long getFallbacks() {
+    return fallbacks.get();
+  }
+
+  /**
+   * @return summed execution time of all ATs divided by the wall time spent validating them
+   */
+  public static double getSpeedup() {
+    long wall = wallNanos.get();
+    return wall > 0 ? (double) executionNanos.get() / wall : 0;
+  }
+
+  private static class Execution {
+    private final AT at;
+    private final long fee;
+    private final byte[] md5;
+    private final long nanos;
+
+    private Execution(AT at, long fee, byte[] md5, long nanos) {
+      this.at = at;
+      this.fee = fee;
+      this.md5 = md5;
+      this.nanos = nanos;
+    }
+  }
+}
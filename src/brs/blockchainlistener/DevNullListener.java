@@ -2,13 +2,20 @@ package brs.blockchainlistener;
 
 import brs.Account;
 import brs.Block;
+import brs.Constants;
 import brs.DigitalGoodsStore.Purchase;
-import brs.db.BurstIterator;
 import brs.services.AccountService;
 import brs.services.DGSGoodsStoreService;
 import brs.util.Convert;
 import brs.util.Listener;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Returns the pending purchases whose delivery deadline passed: the refunds are summed per buyer and
+ * the restocked quantities per goods, so that each account and goods is written once per block.
+ */
 public class DevNullListener implements Listener<Block> {
 
   private final AccountService accountService;
@@ -21,14 +28,26 @@ public class DevNullListener implements Listener<Block> {
 
   @Override
   public void notify(Block block) {
-    try (BurstIterator<Purchase> purchases = goodsService.getExpiredPendingPurchases(block.getTimestamp())) {
-      while (purchases.hasNext()) {
-        Purchase purchase = purchases.next();
-        Account buyer = accountService.getAccount(purchase.getBuyerId());
-        accountService.addToUnconfirmedBalanceNQT(buyer, Convert.safeMultiply(purchase.getQuantity(), purchase.getPriceNQT()));
-        goodsService.changeQuantity(purchase.getGoodsId(), purchase.getQuantity(), true);
-        goodsService.setPending(purchase, false);
-      }
+    List<Purchase> purchases = goodsService.getExpiredPendingPurchases(block.getTimestamp());
+    if (purchases.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Long> refunds = new LinkedHashMap<>();
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (Purchase purchase : purchases) {
+      refunds.merge(purchase.getBuyerId(), Convert.safeMultiply(purchase.getQuantity(), purchase.getPriceNQT()), Convert::safeAdd);
+      // goods never hold more than the listing maximum, so neither does the sum
+      quantities.merge(purchase.getGoodsId(), purchase.getQuantity(), (left, right) -> Math.min(left + right, Constants.MAX_DGS_LISTING_QUANTITY));
+      goodsService.setPending(purchase, false);
+    }
+
+    for (Map.Entry<Long, Long> refund : refunds.entrySet()) {
+      Account buyer = accountService.getAccount(refund.getKey());
+      accountService.addToUnconfirmedBalanceNQT(buyer, refund.getValue());
+    }
+    for (Map.Entry<Long, Integer> quantity : quantities.entrySet()) {
+      goodsService.changeQuantity(quantity.getKey(), quantity.getValue(), true);
     }
   }
 }
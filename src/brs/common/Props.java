@@ -37,6 +37,7 @@ public class Props {
 
   public static final String BRS_DEBUG_TRACE_LOG = "brs.debugTraceLog";
   public static final String BRS_COMMUNICATION_LOGGING_MASK = "brs.communicationLoggingMask";
+  public static final String BRS_BLOCK_PROCESSING_STATS = "brs.blockProcessingStats";
 
   // GPU options
   public static final String GPU_ACCELERATION     = "GPU.Acceleration";
@@ -50,6 +51,10 @@ public class Props {
   // CPU options
   public static final String CPU_NUM_CORES = "CPU.NumCores";
 
+  // AT options
+  public static final String AT_PARALLEL_VALIDATION = "AT.ParallelValidation";
+  public static final String AT_PARALLEL_VALIDATION_THREADS = "AT.ParallelValidationThreads";
+
 
   // DB options
   public static final String DB_URL          = "DB.Url";
@@ -60,6 +65,8 @@ public class Props {
 
   public static final String DB_TRIM_DERIVED_TABLES = "DB.trimDerivedTables";
   public static final String DB_MAX_ROLLBACK        = "DB.maxRollback";
+  public static final String DB_SYNC_COMMIT_BLOCKS  = "DB.SyncCommitBlocks";
+  public static final String DB_SYNC_COMMIT_MILLIS  = "DB.SyncCommitMillis";
 
   public static final String BRS_TEST_UNCONFIRMED_TRANSACTIONS = "brs.testUnconfirmedTransactions";
 
@@ -67,6 +74,7 @@ public class Props {
 
 
   public static final String BRS_BLOCK_CACHE_MB = "brs.blockCacheMB";
+  public static final String BRS_RECENT_BLOCKS = "brs.recentBlocks";
 
   // P2P options
   public static final String P2P_REBROADCAST_AFTER = "P2P.rebroadcastTxAfter";
@@ -117,7 +125,12 @@ public class Props {
   public static final String API_SSL_KEY_STORE_PASSWORD = "API.SSL_keyStorePassword";
   public static final String API_SERVER_IDLE_TIMEOUT = "API.ServerIdleTimeout";
   public static final String API_SERVER_ENFORCE_POST = "API.ServerEnforcePOST";
+  public static final String API_BULKHEADS = "API.Bulkheads";
+  public static final String API_BULKHEAD_TIMEOUT_MS = "API.BulkheadTimeoutMs";
+  public static final String API_BULKHEAD_THREADS = "API.Bulkhead.%s.Threads";
+  public static final String API_BULKHEAD_QUEUE_SIZE = "API.Bulkhead.%s.QueueSize";
 
+  public static final String JETTY_API_GZIP_FILTER = "JETTY.API.GZIPFilter";
   public static final String JETTY_API_GZIP_FILTER_METHODS = "JETTY.API.GZIPFilter.methods";
   public static final String JETTY_API_GZIP_FILTER_BUFFER_SIZE = "JETTY.API.GZIPFilter.bufferSize";
   public static final String JETTY_API_GZIP_FILTER_MIN_GZIP_SIZE = "JETTY.API.GZIPFilter.minGzipSize";
@@ -1,9 +1,14 @@
 package brs.crypto;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
@@ -28,6 +33,16 @@ public final class Crypto {
     }
   };
 
+  private static final int PUBLIC_KEY_TABLE_CACHE_SIZE = 4096;
+
+  // busy accounts sign repeatedly, so keep the verification tables of recently seen public keys
+  private static final Map<ByteBuffer, Curve25519.PublicKeyTable> publicKeyTables = new LinkedHashMap<ByteBuffer, Curve25519.PublicKeyTable>(PUBLIC_KEY_TABLE_CACHE_SIZE, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Curve25519.PublicKeyTable> eldest) {
+      return size() > PUBLIC_KEY_TABLE_CACHE_SIZE;
+    }
+  };
+
   private Crypto() {
   } //never
 
@@ -45,16 +60,16 @@ public final class Crypto {
   }
 
   public static byte[] getPublicKey(String secretPhrase) {
-    byte[] publicKey = new byte[32];
-    Curve25519.keygen(publicKey, null, Crypto.sha256().digest(Convert.toBytes(secretPhrase)));
-
-    return publicKey;
+    KeyCache.KeyPair keyPair = KeyCache.getKeyPair(secretPhrase);
+    Arrays.fill(keyPair.privateKey, (byte) 0);
+    Arrays.fill(keyPair.signingKey, (byte) 0);
+    return keyPair.publicKey;
   }
 
   public static byte[] getPrivateKey(String secretPhrase) {
-    byte[] s = Crypto.sha256().digest(Convert.toBytes(secretPhrase));
-    Curve25519.clamp(s);
-    return s;
+    KeyCache.KeyPair keyPair = KeyCache.getKeyPair(secretPhrase);
+    Arrays.fill(keyPair.signingKey, (byte) 0);
+    return keyPair.privateKey;
   }
 
   public static void curve(byte[] Z, byte[] k, byte[] P) {
@@ -63,23 +78,22 @@ public final class Crypto {
 
   public static byte[] sign(byte[] message, String secretPhrase) {
 
-    byte[] P = new byte[32];
-    byte[] s = new byte[32];
-    MessageDigest digest = Crypto.sha256();
-    Curve25519.keygen(P, s, digest.digest(Convert.toBytes(secretPhrase)));
-    byte[] m = digest.digest(message);
+    KeyCache.KeyPair keyPair = KeyCache.getKeyPair(secretPhrase);
+    Arrays.fill(keyPair.privateKey, (byte) 0);
+    byte[] s = keyPair.signingKey;
+    byte[] m = ReusableDigest.SHA256.digest(message);
 
-    digest.update(m);
-    byte[] x = digest.digest(s);
+    byte[] x = ReusableDigest.SHA256.digest(m, s);
 
     byte[] Y = new byte[32];
     Curve25519.keygen(Y, null, x);
 
-    digest.update(m);
-    byte[] h = digest.digest(Y);
+    byte[] h = ReusableDigest.SHA256.digest(m, Y);
 
     byte[] v = new byte[32];
     Curve25519.sign(v, h, x, s);
+    Arrays.fill(s, (byte) 0);
+    Arrays.fill(x, (byte) 0);
 
     byte[] signature = new byte[64];
     System.arraycopy(v, 0, signature, 0, 32);
@@ -89,6 +103,11 @@ public final class Crypto {
   }
 
   public static boolean verify(byte[] signature, byte[] message, byte[] publicKey, boolean enforceCanonical) {
+    return verify(signature, message, publicKey, enforceCanonical, new byte[32], new byte[64]);
+  }
+
+  // Y receives the recovered point, buffer holds sha256(message) || Y and then the resulting hash
+  private static boolean verify(byte[] signature, byte[] message, byte[] publicKey, boolean enforceCanonical, byte[] Y, byte[] buffer) {
 
     if (enforceCanonical && !Curve25519.isCanonicalSignature(signature)) {
       logger.debug("Rejecting non-canonical signature");
@@ -100,19 +119,76 @@ public final class Crypto {
       return false;
     }
 
-    byte[] Y = new byte[32];
-    byte[] v = new byte[32];
-    System.arraycopy(signature, 0, v, 0, 32);
-    byte[] h = new byte[32];
-    System.arraycopy(signature, 32, h, 0, 32);
-    Curve25519.verify(Y, v, h, publicKey);
+    Curve25519.verify(Y, signature, getPublicKeyTable(publicKey));
+
+    ReusableDigest.SHA256.digestInto(buffer, 0, message, 0, message.length);
+    System.arraycopy(Y, 0, buffer, 32, 32);
+    ReusableDigest.SHA256.digestInto(buffer, 0, buffer, 0, 64);
 
-    MessageDigest digest = Crypto.sha256();
-    byte[] m = digest.digest(message);
-    digest.update(m);
-    byte[] h2 = digest.digest(Y);
+    for (int i = 0; i < 32; i++) {
+      if (buffer[i] != signature[32 + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
 
-    return Arrays.equals(h, h2);
+  private static Curve25519.PublicKeyTable getPublicKeyTable(byte[] publicKey) {
+    ByteBuffer key = ByteBuffer.wrap(publicKey);
+    Curve25519.PublicKeyTable table;
+    synchronized (publicKeyTables) {
+      table = publicKeyTables.get(key);
+    }
+    if (table == null) {
+      table = Curve25519.precompute(publicKey);
+      synchronized (publicKeyTables) {
+        publicKeyTables.put(ByteBuffer.wrap(publicKey.clone()), table);
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Collects signatures to be verified together, sharing the digest, the output buffer and
+   * the precomputed public keys between them.
+   */
+  public static final class SignatureBatch {
+    private final List<byte[]> signatures;
+    private final List<byte[]> messages;
+    private final List<byte[]> publicKeys;
+    private final List<Boolean> enforceCanonicals;
+
+    public SignatureBatch(int expectedSize) {
+      signatures = new ArrayList<>(expectedSize);
+      messages = new ArrayList<>(expectedSize);
+      publicKeys = new ArrayList<>(expectedSize);
+      enforceCanonicals = new ArrayList<>(expectedSize);
+    }
+
+    public void add(byte[] signature, byte[] message, byte[] publicKey, boolean enforceCanonical) {
+      signatures.add(signature);
+      messages.add(message);
+      publicKeys.add(publicKey);
+      enforceCanonicals.add(enforceCanonical);
+    }
+
+    public int size() {
+      return signatures.size();
+    }
+
+    /**
+     * @return the index of the first invalid signature, or -1 if all signatures are valid
+     */
+    public int verify() {
+      byte[] Y = new byte[32];
+      byte[] buffer = new byte[64];
+      for (int i = 0; i < signatures.size(); i++) {
+        if (!Crypto.verify(signatures.get(i), messages.get(i), publicKeys.get(i), enforceCanonicals.get(i), Y, buffer)) {
+          return i;
+        }
+      }
+      return -1;
+    }
   }
 
   public static byte[] aesEncrypt(byte[] plaintext, byte[] myPrivateKey, byte[] theirPublicKey) {
@@ -142,12 +142,27 @@ final class Curve25519 {
    *   @param P  [in]  public key
    */
   public static void verify(byte[] Y, byte[] v, byte[] h, byte[] P) {
-    /* Y = v abs(P) + h G  */
-    byte[] d = new byte[32];
-    long10[] p = new long10[] { new long10(), new long10() }, s = new long10[] { new long10(), new long10() }, yx = new long10[] { new long10(), new long10(), new long10() }, yz = new long10[] { new long10(), new long10(), new long10() },
-        t1 = new long10[] { new long10(), new long10(), new long10() }, t2 = new long10[] { new long10(), new long10(), new long10() };
+    verify(Y, v, 0, h, 0, precompute(P));
+  }
 
-    int vi = 0, hi = 0, di = 0, nvh = 0, i, j, k;
+  /* Same as above for a 64 byte signature (v followed by h) and a precomputed public key
+   *   @param Y          [out] signature public key
+   *   @param signature  [in]  signature value and hash
+   *   @param table      [in]  precomputed public key, see precompute()
+   */
+  public static void verify(byte[] Y, byte[] signature, PublicKeyTable table) {
+    verify(Y, signature, 0, signature, 32, table);
+  }
+
+  /* Precomputes the points of a public key used by verify: P, P+G and P-G.
+   * They only depend on the public key, so they can be reused for every
+   * signature of that key.
+   *   @param P  [in]  public key
+   */
+  public static PublicKeyTable precompute(byte[] P) {
+    long10[] p = new long10[] { new long10(), new long10() }, s = new long10[] { new long10(), new long10() },
+        t1 = new long10[] { new long10(), new long10() }, t2 = new long10[] { new long10(), new long10() };
+    int j;
 
     /* set p[0] to G and p[1] to P  */
 
@@ -179,10 +194,21 @@ final class Curve25519 {
     mul_small(s[0], s[0], 1); /* reduce s[0] */
     mul_small(s[1], s[1], 1); /* reduce s[1] */
 
+    return new PublicKeyTable(p, s);
+  }
+
+  private static void verify(byte[] Y, byte[] v, int vOff, byte[] h, int hOff, PublicKeyTable table) {
+    /* Y = v abs(P) + h G  */
+    byte[] d = new byte[32];
+    long10[] p = table.p, s = table.s, yx = new long10[] { new long10(), new long10(), new long10() }, yz = new long10[] { new long10(), new long10(), new long10() },
+        t1 = new long10[] { new long10(), new long10(), new long10() }, t2 = new long10[] { new long10(), new long10(), new long10() };
+
+    int vi = 0, hi = 0, di = 0, nvh = 0, i, j, k;
+
     /* prepare the chain  */
     for (i = 0; i < 32; i++) {
-      vi = (vi >> 8) ^ (v[i] & 0xFF) ^ ((v[i] & 0xFF) << 1);
-      hi = (hi >> 8) ^ (h[i] & 0xFF) ^ ((h[i] & 0xFF) << 1);
+      vi = (vi >> 8) ^ (v[vOff + i] & 0xFF) ^ ((v[vOff + i] & 0xFF) << 1);
+      hi = (hi >> 8) ^ (h[hOff + i] & 0xFF) ^ ((h[hOff + i] & 0xFF) << 1);
       nvh = ~(vi ^ hi);
       di = (nvh & (di & 0x80) >> 7) ^ vi;
       di ^= nvh & (di & 0x01) << 1;
@@ -216,8 +242,8 @@ final class Curve25519 {
 
     /* and go for it! */
     for (i = 32; i-- != 0;) {
-      vi = (vi << 8) | (v[i] & 0xFF);
-      hi = (hi << 8) | (h[i] & 0xFF);
+      vi = (vi << 8) | (v[vOff + i] & 0xFF);
+      hi = (hi << 8) | (h[hOff + i] & 0xFF);
       di = (di << 8) | (d[i] & 0xFF);
 
       for (j = 8; j-- != 0;) {
@@ -271,6 +297,17 @@ final class Curve25519 {
 
   ///////////////////////////////////////////////////////////////////////////
 
+  /* Public key points used by verify, immutable once computed */
+  public static final class PublicKeyTable {
+    private final long10[] p;
+    private final long10[] s;
+
+    private PublicKeyTable(long10[] p, long10[] s) {
+      this.p = p;
+      this.s = s;
+    }
+  }
+
   /* sahn0:
    * Using this class instead of long[10] to avoid bounds checks. */
   private static final class long10 {
@@ -0,0 +1,131 @@
+package brs.crypto;
+
+import brs.util.Convert;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Memoises the derivations that miners and API users repeat for every request: passphrase to
+ * key pair (SHA-256 plus a Curve25519 keygen) and public key to account id.
+ *
+ * Key pairs are looked up by a salted hash of the passphrase, so neither the passphrase nor the
+ * key material derived from it is used as a map key. Lookups hand out copies and evicted entries
+ * are overwritten with zeros.
+ */
+public final class KeyCache {
+
+  static final int KEY_PAIR_CACHE_SIZE = 256;
+  static final int ACCOUNT_ID_CACHE_SIZE = 16384;
+
+  private static final byte[] salt = new byte[32];
+
+  static {
+    new SecureRandom().nextBytes(salt);
+  }
+
+  private static final Map<ByteBuffer, KeyPair> keyPairs = new LinkedHashMap<ByteBuffer, KeyPair>(KEY_PAIR_CACHE_SIZE, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ByteBuffer, KeyPair> eldest) {
+      if (size() > KEY_PAIR_CACHE_SIZE) {
+        eldest.getValue().erase();
+        return true;
+      }
+      return false;
+    }
+  };
+
+  private static final Map<ByteBuffer, Long> accountIds = new LinkedHashMap<ByteBuffer, Long>(ACCOUNT_ID_CACHE_SIZE, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Long> eldest) {
+      return size() > ACCOUNT_ID_CACHE_SIZE;
+    }
+  };
+
+  private KeyCache() {
+  }
+
+  /**
+   * @return a copy of the key pair for the passphrase, owned by the caller
+   */
+  static KeyPair getKeyPair(String secretPhrase) {
+    byte[] secretBytes = Convert.toBytes(secretPhrase);
+    ByteBuffer key = ByteBuffer.wrap(ReusableDigest.SHA256.digest(salt, secretBytes));
+
+    synchronized (keyPairs) {
+      KeyPair keyPair = keyPairs.get(key);
+      if (keyPair != null) {
+        Arrays.fill(secretBytes, (byte) 0);
+        return keyPair.copy();
+      }
+    }
+
+    byte[] publicKey = new byte[32];
+    byte[] signingKey = new byte[32];
+    byte[] privateKey = ReusableDigest.SHA256.digest(secretBytes);
+    Arrays.fill(secretBytes, (byte) 0);
+    Curve25519.keygen(publicKey, signingKey, privateKey);
+    KeyPair keyPair = new KeyPair(publicKey, privateKey, signingKey);
+
+    synchronized (keyPairs) {
+      if (!keyPairs.containsKey(key)) {
+        keyPairs.put(key, keyPair.copy());
+      }
+    }
+    return keyPair;
+  }
+
+  public static long getAccountId(byte[] publicKey) {
+    ByteBuffer key = ByteBuffer.wrap(publicKey.clone());
+    synchronized (accountIds) {
+      Long id = accountIds.get(key);
+      if (id != null) {
+        return id;
+      }
+    }
+    long id = Convert.fullHashToId(ReusableDigest.SHA256.digest(publicKey));
+    synchronized (accountIds) {
+      accountIds.put(key, id);
+    }
+    return id;
+  }
+
+  /**
+   * Drops all entries and erases the cached key material.
+   */
+  public static void clear() {
+    synchronized (keyPairs) {
+      keyPairs.values().forEach(KeyPair::erase);
+      keyPairs.clear();
+    }
+    synchronized (accountIds) {
+      accountIds.clear();
+    }
+  }
+
+  static final class KeyPair {
+    final byte[] publicKey;
+    // clamped SHA-256 of the passphrase, used for key agreement
+    final byte[] privateKey;
+    final byte[] signingKey;
+
+    private KeyPair(byte[] publicKey, byte[] privateKey, byte[] signingKey) {
+      this.publicKey = publicKey;
+      this.privateKey = privateKey;
+      this.signingKey = signingKey;
+    }
+
+    private KeyPair copy() {
+      return new KeyPair(publicKey.clone(), privateKey.clone(), signingKey.clone());
+    }
+
+    void erase() {
+      Arrays.fill(publicKey, (byte) 0);
+      Arrays.fill(privateKey, (byte) 0);
+      Arrays.fill(signingKey, (byte) 0);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package brs.crypto;
+
+import brs.crypto.hash.Digest;
+import brs.crypto.hash.RIPEMD160;
+import brs.crypto.hash.Shabal256;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread digest instances for one-shot hashing.
+ *
+ * Every call resets the thread's instance, hashes the whole input and returns, so the shared
+ * instance never escapes and nested use from the same thread can't interleave. Callers that
+ * feed a digest incrementally across other calls (e.g. a payload hash over the transactions of
+ * a block) should keep using their own instance from {@link Crypto#sha256()}.
+ */
+public enum ReusableDigest {
+
+  SHA256(() -> new JdkEngine(Crypto.getMessageDigest("SHA-256"))),
+  MD5(() -> new JdkEngine(Crypto.getMessageDigest("MD5"))),
+  RIPEMD160(() -> new BrsEngine(new RIPEMD160())),
+  SHABAL256(() -> new BrsEngine(new Shabal256()));
+
+  private final ThreadLocal<Engine> engine;
+  private final int length;
+
+  ReusableDigest(Supplier<Engine> factory) {
+    this.engine = ThreadLocal.withInitial(factory);
+    this.length = factory.get().length();
+  }
+
+  public int getDigestLength() {
+    return length;
+  }
+
+  public byte[] digest(byte[] input) {
+    byte[] out = new byte[length];
+    digestInto(out, 0, input, 0, input.length);
+    return out;
+  }
+
+  public byte[] digest(byte[] input1, byte[] input2) {
+    byte[] out = new byte[length];
+    digestInto(out, 0, input1, input2);
+    return out;
+  }
+
+  /**
+   * Hashes {@code input} into {@code out}, which must have room for {@link #getDigestLength()}
+   * bytes. Input and output may overlap, the input is consumed before the output is written.
+   */
+  public void digestInto(byte[] out, int outOff, byte[] input, int off, int len) {
+    Engine e = borrow();
+    e.update(input, off, len);
+    e.digestInto(out, outOff);
+  }
+
+  public void digestInto(byte[] out, int outOff, byte[] input1, byte[] input2) {
+    Engine e = borrow();
+    e.update(input1, 0, input1.length);
+    e.update(input2, 0, input2.length);
+    e.digestInto(out, outOff);
+  }
+
+  private Engine borrow() {
+    Engine e = engine.get();
+    e.reset();
+    return e;
+  }
+
+  private interface Engine {
+    void update(byte[] input, int off, int len);
+
+    void digestInto(byte[] out, int off);
+
+    void reset();
+
+    int length();
+  }
+
+  private static final class JdkEngine implements Engine {
+    private final MessageDigest digest;
+
+    private JdkEngine(MessageDigest digest) {
+      this.digest = digest;
+    }
+
+    @Override
+    public void update(byte[] input, int off, int len) {
+      digest.update(input, off, len);
+    }
+
+    @Override
+    public void digestInto(byte[] out, int off) {
+      try {
+        digest.digest(out, off, digest.getDigestLength());
+      } catch (DigestException e) {
+        throw new IllegalArgumentException(e.getMessage(), e);
+      }
+    }
+
+    @Override
+    public void reset() {
+      digest.reset();
+    }
+
+    @Override
+    public int length() {
+      return digest.getDigestLength();
+    }
+  }
+
+  private static final class BrsEngine implements Engine {
+    private final Digest digest;
+
+    private BrsEngine(Digest digest) {
+      this.digest = digest;
+    }
+
+    @Override
+    public void update(byte[] input, int off, int len) {
+      digest.update(input, off, len);
+    }
+
+    @Override
+    public void digestInto(byte[] out, int off) {
+      digest.digest(out, off, digest.getDigestLength());
+    }
+
+    @Override
+    public void reset() {
+      digest.reset();
+    }
+
+    @Override
+    public int length() {
+      return digest.getDigestLength();
+    }
+  }
+}
@@ -473,6 +473,39 @@ final class H2DbVersion {
       case 176:
         apply("ALTER TABLE alias ALTER COLUMN alias_name_lower VARCHAR NOT NULL");
       case 177:
+        apply("CREATE TABLE IF NOT EXISTS trade_candle (db_id IDENTITY, asset_id BIGINT NOT NULL, timeframe INT NOT NULL, "
+              + "start INT NOT NULL, open_price BIGINT NOT NULL, high_price BIGINT NOT NULL, low_price BIGINT NOT NULL, "
+              + "close_price BIGINT NOT NULL, quantity BIGINT NOT NULL, trade_count INT NOT NULL, height INT NOT NULL)");
+      case 178:
+        apply("CREATE UNIQUE INDEX IF NOT EXISTS trade_candle_idx ON trade_candle (asset_id, timeframe, start DESC)");
+      case 179:
+        apply("CREATE INDEX IF NOT EXISTS trade_candle_height_idx ON trade_candle (height)");
+      case 180:
+        apply("INSERT INTO trade_candle (asset_id, timeframe, start, open_price, high_price, low_price, close_price, "
+              + "quantity, trade_count, height) SELECT c.asset_id, 1, c.start, "
+              + "(SELECT price FROM trade WHERE db_id = c.first_id), c.high_price, c.low_price, "
+              + "(SELECT price FROM trade WHERE db_id = c.last_id), c.quantity, c.trade_count, c.height "
+              + "FROM (SELECT asset_id, timestamp / 3600 * 3600 AS start, MIN(db_id) AS first_id, MAX(db_id) AS last_id, "
+              + "MAX(price) AS high_price, MIN(price) AS low_price, SUM(quantity) AS quantity, "
+              + "COUNT(*) AS trade_count, MAX(height) AS height FROM trade GROUP BY asset_id, timestamp / 3600 * 3600) c");
+      case 181:
+        // days start at midnight UTC, two hours before the Burst epoch
+        apply("INSERT INTO trade_candle (asset_id, timeframe, start, open_price, high_price, low_price, close_price, "
+              + "quantity, trade_count, height) SELECT c.asset_id, 2, c.start, "
+              + "(SELECT price FROM trade WHERE db_id = c.first_id), c.high_price, c.low_price, "
+              + "(SELECT price FROM trade WHERE db_id = c.last_id), c.quantity, c.trade_count, c.height "
+              + "FROM (SELECT asset_id, (timestamp + 7200) / 86400 * 86400 - 7200 AS start, MIN(db_id) AS first_id, MAX(db_id) AS last_id, "
+              + "MAX(price) AS high_price, MIN(price) AS low_price, SUM(quantity) AS quantity, "
+              + "COUNT(*) AS trade_count, MAX(height) AS height FROM trade GROUP BY asset_id, (timestamp + 7200) / 86400 * 86400 - 7200) c");
+      case 182:
+        apply("INSERT INTO trade_candle (asset_id, timeframe, start, open_price, high_price, low_price, close_price, "
+              + "quantity, trade_count, height) SELECT c.asset_id, 3, c.start, "
+              + "(SELECT price FROM trade WHERE db_id = c.first_id), c.high_price, c.low_price, "
+              + "(SELECT price FROM trade WHERE db_id = c.last_id), c.quantity, c.trade_count, c.height "
+              + "FROM (SELECT asset_id, height / 360 * 360 AS start, MIN(db_id) AS first_id, MAX(db_id) AS last_id, "
+              + "MAX(price) AS high_price, MIN(price) AS low_price, SUM(quantity) AS quantity, "
+              + "COUNT(*) AS trade_count, MAX(height) AS height FROM trade GROUP BY asset_id, height / 360 * 360) c");
+      case 183:
         return;
       default:
         throw new RuntimeException("Database inconsistent with code, probably trying to run older code on newer database");
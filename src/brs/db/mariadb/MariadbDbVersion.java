@@ -577,6 +577,50 @@ final class MariadbDbVersion {
       case 177:
         apply( initialDbVersion == 0 ? "UPDATE version set next_update = '177';" : "DROP TRIGGER IF EXISTS lower_alias_name_update;");
       case 178:
+        apply("CREATE TABLE trade_candle("
+              + "    db_id BIGINT AUTO_INCREMENT,"
+              + "    asset_id BIGINT NOT NULL,"
+              + "    timeframe INT NOT NULL,"
+              + "    start INT NOT NULL,"
+              + "    open_price BIGINT NOT NULL,"
+              + "    high_price BIGINT NOT NULL,"
+              + "    low_price BIGINT NOT NULL,"
+              + "    close_price BIGINT NOT NULL,"
+              + "    quantity BIGINT NOT NULL,"
+              + "    trade_count INT NOT NULL,"
+              + "    height INT NOT NULL,"
+              + "    PRIMARY KEY (db_id)"
+              + ") ENGINE = InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;");
+      case 179:
+        apply("CREATE UNIQUE INDEX trade_candle_idx ON trade_candle(asset_id, timeframe, start DESC);");
+      case 180:
+        apply("CREATE INDEX trade_candle_height_idx ON trade_candle(height);");
+      case 181:
+        apply("INSERT INTO trade_candle (asset_id, timeframe, start, open_price, high_price, low_price, close_price, "
+              + "quantity, trade_count, height) SELECT c.asset_id, 1, c.start, "
+              + "(SELECT price FROM trade WHERE db_id = c.first_id), c.high_price, c.low_price, "
+              + "(SELECT price FROM trade WHERE db_id = c.last_id), c.quantity, c.trade_count, c.height "
+              + "FROM (SELECT asset_id, timestamp DIV 3600 * 3600 AS start, MIN(db_id) AS first_id, MAX(db_id) AS last_id, "
+              + "MAX(price) AS high_price, MIN(price) AS low_price, SUM(quantity) AS quantity, "
+              + "COUNT(*) AS trade_count, MAX(height) AS height FROM trade GROUP BY asset_id, timestamp DIV 3600 * 3600) c;");
+      case 182:
+        // days start at midnight UTC, two hours before the Burst epoch
+        apply("INSERT INTO trade_candle (asset_id, timeframe, start, open_price, high_price, low_price, close_price, "
+              + "quantity, trade_count, height) SELECT c.asset_id, 2, c.start, "
+              + "(SELECT price FROM trade WHERE db_id = c.first_id), c.high_price, c.low_price, "
+              + "(SELECT price FROM trade WHERE db_id = c.last_id), c.quantity, c.trade_count, c.height "
+              + "FROM (SELECT asset_id, (timestamp + 7200) DIV 86400 * 86400 - 7200 AS start, MIN(db_id) AS first_id, MAX(db_id) AS last_id, "
+              + "MAX(price) AS high_price, MIN(price) AS low_price, SUM(quantity) AS quantity, "
+              + "COUNT(*) AS trade_count, MAX(height) AS height FROM trade GROUP BY asset_id, (timestamp + 7200) DIV 86400 * 86400 - 7200) c;");
+      case 183:
+        apply("INSERT INTO trade_candle (asset_id, timeframe, start, open_price, high_price, low_price, close_price, "
+              + "quantity, trade_count, height) SELECT c.asset_id, 3, c.start, "
+              + "(SELECT price FROM trade WHERE db_id = c.first_id), c.high_price, c.low_price, "
+              + "(SELECT price FROM trade WHERE db_id = c.last_id), c.quantity, c.trade_count, c.height "
+              + "FROM (SELECT asset_id, height DIV 360 * 360 AS start, MIN(db_id) AS first_id, MAX(db_id) AS last_id, "
+              + "MAX(price) AS high_price, MIN(price) AS low_price, SUM(quantity) AS quantity, "
+              + "COUNT(*) AS trade_count, MAX(height) AS height FROM trade GROUP BY asset_id, height DIV 360 * 360) c;");
+      case 184:
         return;
       default:
         throw new RuntimeException("Database inconsistent with code, probably trying to run older code on newer database");
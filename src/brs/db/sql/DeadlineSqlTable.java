@@ -0,0 +1,217 @@
+package brs.db.sql;
+
+import brs.db.BurstKey;
+import brs.db.store.DerivedTableManager;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.TableImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Versioned table that knows when each of its entities is due next, such as the next payment of a
+ * subscription or the deadline of an escrow.
+ *
+ * The due time of all latest rows is kept in memory, ordered by due time and then id, so that
+ * finding the entities due at a block does not scan the table. Inserts and deletes of the current
+ * transaction are kept apart and only merged into the index in {@link #finish()}, right before the
+ * block is committed; a rolled back transaction drops them. The index is loaded lazily, from a
+ * transaction that did not change the table yet, and dropped by {@link #rollback(int)}, both when
+ * blocks are popped off and when a block fails after finish(), for instance in its commit.
+ *
+ * Tables whose entities stop being due while their rows live on, such as delivered purchases,
+ * override {@link #isIndexed} and {@link #indexedCondition()} to keep only the open ones.
+ */
+abstract class DeadlineSqlTable<T> extends VersionedEntitySqlTable<T> {
+
+  private static final Comparator<Due> DUE_ORDER = Comparator.<Due>comparingInt(due -> due.time).thenComparingLong(due -> due.id);
+
+  private final BurstKey.LongKeyFactory<T> idKeyFactory;
+  private final TableField<?, Long> idField;
+  private final TableField<?, Integer> timeField;
+  private final String changedTable;
+  private final String deletedTable;
+
+  private final Object lock = new Object();
+  private NavigableSet<Due> dueIndex;
+  private Map<Long, Due> dueById;
+
+  DeadlineSqlTable(String table, TableImpl<?> tableClass, BurstKey.LongKeyFactory<T> dbKeyFactory, TableField<?, Long> idField,
+                   TableField<?, Integer> timeField, DerivedTableManager derivedTableManager) {
+    super(table, tableClass, dbKeyFactory, derivedTableManager);
+    this.idKeyFactory = dbKeyFactory;
+    this.idField = idField;
+    this.timeField = timeField;
+    this.changedTable = table + "_due";
+    this.deletedTable = table + "_due_deleted";
+  }
+
+  protected abstract long getId(T t);
+
+  /**
+   * @return the value of the time column of the entity
+   */
+  protected abstract int getDueTime(T t);
+
+  /**
+   * @return whether the entity belongs in the index, must agree with {@link #indexedCondition()}
+   */
+  protected boolean isIndexed(T t) {
+    return true;
+  }
+
+  /**
+   * @return the condition on the latest rows that belong in the index
+   */
+  protected Condition indexedCondition() {
+    return DSL.trueCondition();
+  }
+
+  /**
+   * @return the ids of the entities due at or before the time, ordered by due time and id, or null
+   * if the index is not available in this transaction
+   */
+  List<Long> getDueIds(int time) {
+    if (!Db.isInTransaction()) {
+      return null;
+    }
+    Map<DbKey, Object> changed = Db.getBatch(changedTable);
+    Map<DbKey, Object> deleted = Db.getBatch(deletedTable);
+
+    List<Due> due = new ArrayList<>();
+    synchronized (lock) {
+      if (dueIndex == null) {
+        if (!changed.isEmpty() || !deleted.isEmpty()) {
+          // the table holds changes of this transaction that might still be rolled back
+          return null;
+        }
+        load();
+      }
+      for (Due committed : dueIndex.headSet(new Due(Long.MAX_VALUE, time), true)) {
+        BurstKey dbKey = idKeyFactory.newKey(committed.id);
+        if (!changed.containsKey(dbKey) && !deleted.containsKey(dbKey)) {
+          due.add(committed);
+        }
+      }
+    }
+    for (Object pending : changed.values()) {
+      if (((Due) pending).time <= time) {
+        due.add((Due) pending);
+      }
+    }
+    due.sort(DUE_ORDER);
+
+    List<Long> ids = new ArrayList<>(due.size());
+    for (Due entity : due) {
+      ids.add(entity.id);
+    }
+    return ids;
+  }
+
+  @Override
+  public void insert(T t) {
+    super.insert(t);
+    DbKey dbKey = (DbKey) dbKeyFactory.newKey(t);
+    if (isIndexed(t)) {
+      Db.getBatch(deletedTable).remove(dbKey);
+      Db.getBatch(changedTable).put(dbKey, new Due(getId(t), getDueTime(t)));
+    } else {
+      Db.getBatch(changedTable).remove(dbKey);
+      Db.getBatch(deletedTable).put(dbKey, new Due(getId(t), getDueTime(t)));
+    }
+  }
+
+  @Override
+  public boolean delete(T t) {
+    boolean deleted = super.delete(t);
+    if (t != null) {
+      DbKey dbKey = (DbKey) dbKeyFactory.newKey(t);
+      Db.getBatch(changedTable).remove(dbKey);
+      Db.getBatch(deletedTable).put(dbKey, new Due(getId(t), getDueTime(t)));
+    }
+    return deleted;
+  }
+
+  @Override
+  public void finish() {
+    super.finish();
+    Map<DbKey, Object> changed = Db.getBatch(changedTable);
+    Map<DbKey, Object> deleted = Db.getBatch(deletedTable);
+    synchronized (lock) {
+      if (dueIndex != null) {
+        for (Object entity : deleted.values()) {
+          remove(((Due) entity).id);
+        }
+        for (Object entity : changed.values()) {
+          Due due = (Due) entity;
+          remove(due.id);
+          dueIndex.add(due);
+          dueById.put(due.id, due);
+        }
+      }
+    }
+    changed.clear();
+    deleted.clear();
+  }
+
+  @Override
+  public void rollback(int height) {
+    super.rollback(height);
+    clear();
+  }
+
+  @Override
+  public void truncate() {
+    super.truncate();
+    clear();
+  }
+
+  private void clear() {
+    synchronized (lock) {
+      dueIndex = null;
+      dueById = null;
+    }
+    Db.getBatch(changedTable).clear();
+    Db.getBatch(deletedTable).clear();
+  }
+
+  private void remove(long id) {
+    Due due = dueById.remove(id);
+    if (due != null) {
+      dueIndex.remove(due);
+    }
+  }
+
+  private void load() {
+    NavigableSet<Due> index = new TreeSet<>(DUE_ORDER);
+    Map<Long, Due> byId = new HashMap<>();
+    DSLContext ctx = Db.getDSLContext();
+    for (Record2<Long, Integer> record : ctx.select(idField, timeField).from(tableClass)
+        .where(tableClass.field("latest", Boolean.class).isTrue()).and(indexedCondition()).fetch()) {
+      Due due = new Due(record.value1(), record.value2());
+      index.add(due);
+      byId.put(due.id, due);
+    }
+    dueIndex = index;
+    dueById = byId;
+  }
+
+  private static final class Due {
+    private final long id;
+    private final int time;
+
+    private Due(long id, int time) {
+      this.id = id;
+      this.time = time;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package brs.db.sql;
+
+import brs.Order;
+import brs.db.BurstIterator;
+import brs.db.BurstKey;
+import brs.db.store.DerivedTableManager;
+import org.jooq.DSLContext;
+import org.jooq.SelectQuery;
+import org.jooq.impl.TableImpl;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Order table the asset exchange matcher works on in memory.
+ *
+ * Within a database transaction the open orders of an asset are loaded once, on the first
+ * {@link #getFirst(long)}, and kept sorted in matching priority. Inserted and deleted orders only
+ * update that book, and are written to the table in {@link #finish()}, so an order that is filled
+ * in several trades of the same block is written once. Books and pending writes live in the
+ * transaction, so they are dropped with it on rollback and rebuilt from the table afterwards.
+ */
+abstract class OrderSqlTable<T extends Order> extends VersionedEntitySqlTable<T> {
+
+  private static final DbKey.LongKeyFactory<Long> assetDbKeyFactory = new DbKey.LongKeyFactory<Long>("asset_id") {
+      @Override
+      public BurstKey newKey(Long assetId) {
+        return newKey(assetId.longValue());
+      }
+    };
+
+  private final String booksTable;
+  private final String deletedTable;
+  private final Comparator<? super T> priority;
+
+  OrderSqlTable(String table, TableImpl<?> tableClass, BurstKey.Factory<T> dbKeyFactory, DerivedTableManager derivedTableManager, Comparator<? super T> priority) {
+    super(table, tableClass, dbKeyFactory, derivedTableManager);
+    this.booksTable = table + "_book";
+    this.deletedTable = table + "_deleted";
+    this.priority = priority;
+  }
+
+  /**
+   * @return the open order of the asset to match first, or null if there is none
+   */
+  T getFirst(long assetId) {
+    NavigableSet<T> book = getBook(assetId);
+    return book.isEmpty() ? null : book.first();
+  }
+
+  @Override
+  public T get(BurstKey dbKey) {
+    if (Db.isInTransaction()) {
+      if (Db.getBatch(deletedTable).containsKey(dbKey)) {
+        return null;
+      }
+      T t = (T) Db.getBatch(table).get(dbKey);
+      if (t != null) {
+        return t;
+      }
+    }
+    return super.get(dbKey);
+  }
+
+  @Override
+  public void insert(T t) {
+    if (!Db.isInTransaction()) {
+      throw new IllegalStateException("Not in transaction");
+    }
+    DbKey dbKey = (DbKey) dbKeyFactory.newKey(t);
+    T cachedT = (T) Db.getCache(table).get(dbKey);
+    if (cachedT == null) {
+      Db.getCache(table).put(dbKey, t);
+    } else if (t != cachedT) {
+      throw new IllegalStateException("Different instance found in Db cache, perhaps trying to save an object "
+                                      + "that was read outside the current transaction");
+    }
+    Db.getBatch(deletedTable).remove(dbKey);
+    Db.getBatch(table).put(dbKey, t);
+
+    NavigableSet<T> book = getLoadedBook(t.getAssetId());
+    if (book != null) {
+      book.remove(t);
+      book.add(t);
+    }
+  }
+
+  @Override
+  public boolean delete(T t) {
+    if (t == null) {
+      return false;
+    }
+    if (!Db.isInTransaction()) {
+      throw new IllegalStateException("Not in transaction");
+    }
+    DbKey dbKey = (DbKey) dbKeyFactory.newKey(t);
+    Db.getCache(table).remove(dbKey);
+    Db.getBatch(table).remove(dbKey);
+    Db.getBatch(deletedTable).put(dbKey, t);
+
+    NavigableSet<T> book = getLoadedBook(t.getAssetId());
+    if (book != null) {
+      book.remove(t);
+    }
+    return true;
+  }
+
+  @Override
+  public void finish() {
+    if (!Db.isInTransaction()) {
+      throw new IllegalStateException("Not in transaction");
+    }
+    Map<DbKey, Object> inserted = Db.getBatch(table);
+    Map<DbKey, Object> deleted = Db.getBatch(deletedTable);
+    for (Object t : inserted.values()) {
+      super.insert((T) t);
+    }
+    for (Object t : deleted.values()) {
+      super.delete((T) t);
+    }
+    inserted.clear();
+    deleted.clear();
+  }
+
+  @Override
+  public void rollback(int height) {
+    super.rollback(height);
+    clearTransactionState();
+  }
+
+  @Override
+  public void truncate() {
+    super.truncate();
+    clearTransactionState();
+  }
+
+  private void clearTransactionState() {
+    Db.getBatch(table).clear();
+    Db.getBatch(deletedTable).clear();
+    Db.getCache(booksTable).clear();
+  }
+
+  private NavigableSet<T> getLoadedBook(long assetId) {
+    return (NavigableSet<T>) Db.getCache(booksTable).get(assetDbKeyFactory.newKey(assetId));
+  }
+
+  private NavigableSet<T> getBook(long assetId) {
+    NavigableSet<T> book = getLoadedBook(assetId);
+    if (book == null) {
+      book = loadBook(assetId);
+      Db.getCache(booksTable).put((DbKey) assetDbKeyFactory.newKey(assetId), book);
+    }
+    return book;
+  }
+
+  private NavigableSet<T> loadBook(long assetId) {
+    NavigableSet<T> book = new TreeSet<>(priority);
+    Map<DbKey, Object> deleted = Db.getBatch(deletedTable);
+
+    DSLContext ctx = Db.getDSLContext();
+    SelectQuery query = ctx.selectQuery();
+    query.addFrom(tableClass);
+    query.addConditions(tableClass.field("asset_id", Long.class).eq(assetId));
+    query.addConditions(tableClass.field("latest", Boolean.class).isTrue());
+    try (BurstIterator<T> orders = getManyBy(ctx, query, true)) {
+      while (orders.hasNext()) {
+        T order = orders.next();
+        if (!deleted.containsKey(dbKeyFactory.newKey(order))) {
+          book.add(order);
+        }
+      }
+    }
+
+    // orders placed in this transaction are not in the table yet
+    for (Object order : Db.getBatch(table).values()) {
+      if (((T) order).getAssetId() == assetId) {
+        book.remove(order);
+        book.add((T) order);
+      }
+    }
+    return book;
+  }
+}
@@ -6,8 +6,12 @@ import brs.db.BurstIterator;
 import brs.db.store.BlockchainStore;
 import brs.schema.tables.records.BlockRecord;
 import java.sql.ResultSet;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.Condition;
@@ -19,6 +23,11 @@ import static brs.schema.Tables.TRANSACTION;
 
 public class SqlBlockchainStore implements BlockchainStore {
 
+  /**
+   * Number of blocks read ahead by block iterators to load their transactions with one query
+   */
+  static final int TRANSACTION_BATCH_SIZE = 100;
+
   private final TransactionDb transactionDb = Burst.getDbs().getTransactionDb();
   private final BlockDb blockDb = Burst.getDbs().getBlockDb();
 
@@ -27,7 +36,7 @@ public class SqlBlockchainStore implements BlockchainStore {
     try ( DSLContext ctx = Db.getDSLContext() ) {
       int blockchainHeight = Burst.getBlockchain().getHeight();
       return
-        getBlocks(
+        withTransactions(
           ctx,
           ctx.selectFrom(BLOCK).where(
             BLOCK.HEIGHT.between(to > 0 ? blockchainHeight - to : 0).and(blockchainHeight - Math.max(from, 0))
@@ -49,7 +58,7 @@ public class SqlBlockchainStore implements BlockchainStore {
       }
       // DbUtils.limitsClause(from, to)))
       return
-        getBlocks(
+        withTransactions(
           ctx,
           query.orderBy(BLOCK.HEIGHT.desc()).fetchResultSet()
         );
@@ -64,6 +73,21 @@ public class SqlBlockchainStore implements BlockchainStore {
     return new DbIterator<>(ctx, rs, blockDb::loadBlock);
   }
 
+  private BurstIterator<Block> withTransactions(DSLContext ctx, ResultSet rs) {
+    return new TransactionLoadingIterator(getBlocks(ctx, rs));
+  }
+
+  private void loadTransactions(List<Block> blocks) {
+    List<Long> blockIds = new ArrayList<>(blocks.size());
+    for (Block block : blocks) {
+      blockIds.add(block.getId());
+    }
+    Map<Long, List<Transaction>> transactions = transactionDb.findBlockTransactions(blockIds);
+    for (Block block : blocks) {
+      block.setTransactions(transactions.getOrDefault(block.getId(), new ArrayList<>()));
+    }
+  }
+
   @Override
   public List<Long> getBlockIdsAfter(long blockId, int limit) {
     if (limit > 1440) {
@@ -94,6 +118,7 @@ public class SqlBlockchainStore implements BlockchainStore {
             blocksAfter.add(blockDb.loadBlock(cursor.fetchNext()));
           }
         }
+        loadTransactions(blocksAfter);
         return blocksAfter;
     }
     catch ( Exception e ) {
@@ -172,4 +197,49 @@ public class SqlBlockchainStore implements BlockchainStore {
   public void scan(int height)
   {
   }
+
+  /**
+   * Reads up to {@link #TRANSACTION_BATCH_SIZE} blocks ahead and loads their transactions with
+   * one query, instead of one query per block once {@link Block#getTransactions()} is called.
+   */
+  private class TransactionLoadingIterator implements BurstIterator<Block> {
+
+    private final BurstIterator<Block> blocks;
+    private final Deque<Block> batch = new ArrayDeque<>(TRANSACTION_BATCH_SIZE);
+
+    private TransactionLoadingIterator(BurstIterator<Block> blocks) {
+      this.blocks = blocks;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !batch.isEmpty() || blocks.hasNext();
+    }
+
+    @Override
+    public Block next() {
+      if (batch.isEmpty()) {
+        List<Block> nextBatch = new ArrayList<>(TRANSACTION_BATCH_SIZE);
+        while (nextBatch.size() < TRANSACTION_BATCH_SIZE && blocks.hasNext()) {
+          nextBatch.add(blocks.next());
+        }
+        if (nextBatch.isEmpty()) {
+          throw new NoSuchElementException();
+        }
+        loadTransactions(nextBatch);
+        batch.addAll(nextBatch);
+      }
+      return batch.poll();
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("Removal not suported");
+    }
+
+    @Override
+    public void close() {
+      blocks.close();
+    }
+  }
 }
@@ -12,6 +12,7 @@ import brs.db.store.DigitalGoodsStoreStore;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.SortField;
 import org.jooq.Field;
@@ -40,7 +41,7 @@ public class SqlDigitalGoodsStoreStore implements DigitalGoodsStoreStore {
         }
       };
 
-  private final VersionedEntityTable<DigitalGoodsStore.Purchase> purchaseTable;
+  private final DeadlineSqlTable<DigitalGoodsStore.Purchase> purchaseTable;
 
   @Deprecated
   private final VersionedValuesTable<DigitalGoodsStore.Purchase, EncryptedData> feedbackTable;
@@ -65,7 +66,27 @@ public class SqlDigitalGoodsStoreStore implements DigitalGoodsStoreStore {
   private final VersionedEntityTable<DigitalGoodsStore.Goods> goodsTable;
 
   public SqlDigitalGoodsStoreStore(DerivedTableManager derivedTableManager) {
-    purchaseTable = new VersionedEntitySqlTable<DigitalGoodsStore.Purchase>("purchase", brs.schema.Tables.PURCHASE, purchaseDbKeyFactory, derivedTableManager) {
+    purchaseTable = new DeadlineSqlTable<DigitalGoodsStore.Purchase>("purchase", PURCHASE, purchaseDbKeyFactory, PURCHASE.ID, PURCHASE.DEADLINE, derivedTableManager) {
+      @Override
+      protected long getId(DigitalGoodsStore.Purchase purchase) {
+        return purchase.getId();
+      }
+
+      @Override
+      protected int getDueTime(DigitalGoodsStore.Purchase purchase) {
+        return purchase.getDeliveryDeadlineTimestamp();
+      }
+
+      @Override
+      protected boolean isIndexed(DigitalGoodsStore.Purchase purchase) {
+        return purchase.isPending();
+      }
+
+      @Override
+      protected Condition indexedCondition() {
+        return PURCHASE.PENDING.isTrue();
+      }
+
       @Override
       protected DigitalGoodsStore.Purchase load(DSLContext ctx, ResultSet rs) throws SQLException {
         return new SQLPurchase(rs);
@@ -162,8 +183,21 @@ public class SqlDigitalGoodsStoreStore implements DigitalGoodsStoreStore {
   }
 
   @Override
-  public BurstIterator<DigitalGoodsStore.Purchase> getExpiredPendingPurchases(final int timestamp) {
-    return getPurchaseTable().getManyBy(PURCHASE.DEADLINE.lt(timestamp).and(PURCHASE.PENDING.isTrue()), 0, -1);
+  public List<DigitalGoodsStore.Purchase> getExpiredPendingPurchases(final int timestamp) {
+    List<DigitalGoodsStore.Purchase> expiredPurchases = new ArrayList<>();
+    List<Long> expiredIds = purchaseTable.getDueIds(timestamp - 1);
+    if (expiredIds != null) {
+      for (Long purchaseId : expiredIds) {
+        expiredPurchases.add(purchaseTable.get(purchaseDbKeyFactory.newKey(purchaseId)));
+      }
+      return expiredPurchases;
+    }
+    try (BurstIterator<DigitalGoodsStore.Purchase> purchases = purchaseTable.getManyBy(PURCHASE.DEADLINE.lt(timestamp).and(PURCHASE.PENDING.isTrue()), 0, -1)) {
+      while (purchases.hasNext()) {
+        expiredPurchases.add(purchases.next());
+      }
+    }
+    return expiredPurchases;
   }
 
   private EncryptedData loadEncryptedData(ResultSet rs, String dataColumn, String nonceColumn) throws SQLException {
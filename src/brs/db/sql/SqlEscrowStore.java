@@ -25,7 +25,7 @@ public class SqlEscrowStore implements EscrowStore {
       }
     };
 
-  private final VersionedEntityTable<Escrow> escrowTable;
+  private final DeadlineSqlTable<Escrow> escrowTable;
   private final DbKey.LinkKeyFactory<Escrow.Decision> decisionDbKeyFactory =
       new DbKey.LinkKeyFactory<Escrow.Decision>("escrow_id", "account_id") {
         @Override
@@ -38,7 +38,17 @@ public class SqlEscrowStore implements EscrowStore {
 
 
   public SqlEscrowStore(DerivedTableManager derivedTableManager) {
-    escrowTable = new VersionedEntitySqlTable<Escrow>("escrow", brs.schema.Tables.ESCROW, escrowDbKeyFactory, derivedTableManager) {
+    escrowTable = new DeadlineSqlTable<Escrow>("escrow", ESCROW, escrowDbKeyFactory, ESCROW.ID, ESCROW.DEADLINE, derivedTableManager) {
+      @Override
+      protected long getId(Escrow escrow) {
+        return escrow.getId();
+      }
+
+      @Override
+      protected int getDueTime(Escrow escrow) {
+        return escrow.getDeadline();
+      }
+
       @Override
       protected Escrow load(DSLContext ctx, ResultSet rs) throws SQLException {
         return new SqlEscrow(rs);
@@ -114,6 +124,21 @@ public class SqlEscrowStore implements EscrowStore {
 
 
 
+  @Override
+  public List<Long> getExpiredEscrowIds(int timestamp) {
+    List<Long> expiredIds = escrowTable.getDueIds(timestamp - 1);
+    if (expiredIds != null) {
+      return expiredIds;
+    }
+    expiredIds = new ArrayList<>();
+    try (BurstIterator<Escrow> expiredEscrows = escrowTable.getManyBy(ESCROW.DEADLINE.lt(timestamp), 0, -1)) {
+      while (expiredEscrows.hasNext()) {
+        expiredIds.add(expiredEscrows.next().getId());
+      }
+    }
+    return expiredIds;
+  }
+
   @Override
   public List<Transaction> getResultTransactions() {
     return resultTransactions;
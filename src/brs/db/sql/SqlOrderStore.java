@@ -25,10 +25,10 @@ public class SqlOrderStore implements OrderStore {
       }
 
     };
-  protected VersionedEntityTable<Order.Ask> askOrderTable;
+  protected OrderSqlTable<Order.Ask> askOrderTable;
 
   public SqlOrderStore(DerivedTableManager derivedTableManager) {
-    askOrderTable = new VersionedEntitySqlTable<Order.Ask>("ask_order", brs.schema.Tables.ASK_ORDER, askOrderDbKeyFactory, derivedTableManager) {
+    askOrderTable = new OrderSqlTable<Order.Ask>("ask_order", brs.schema.Tables.ASK_ORDER, askOrderDbKeyFactory, derivedTableManager, Order.Ask.PRIORITY) {
       @Override
       protected Order.Ask load(DSLContext ctx, ResultSet rs) throws SQLException {
         return new SqlAsk(rs);
@@ -47,7 +47,7 @@ public class SqlOrderStore implements OrderStore {
       }
     };
 
-    bidOrderTable = new VersionedEntitySqlTable<Order.Bid>("bid_order", brs.schema.Tables.BID_ORDER, bidOrderDbKeyFactory, derivedTableManager) {
+    bidOrderTable = new OrderSqlTable<Order.Bid>("bid_order", brs.schema.Tables.BID_ORDER, bidOrderDbKeyFactory, derivedTableManager, Order.Bid.PRIORITY) {
 
       @Override
       protected Order.Bid load(DSLContext ctx, ResultSet rs) throws SQLException {
@@ -78,7 +78,7 @@ public class SqlOrderStore implements OrderStore {
       }
 
     };
-  protected VersionedEntityTable<Order.Bid> bidOrderTable;
+  protected OrderSqlTable<Order.Bid> bidOrderTable;
 
   @Override
   public VersionedEntityTable<Order.Bid> getBidOrderTable() {
@@ -107,6 +107,9 @@ public class SqlOrderStore implements OrderStore {
 
   @Override
   public Order.Ask getNextOrder(long assetId) {
+    if (Db.isInTransaction()) {
+      return askOrderTable.getFirst(assetId);
+    }
     DSLContext ctx = Db.getDSLContext();
     SelectQuery query = ctx.selectFrom(brs.schema.Tables.ASK_ORDER).where(
       brs.schema.Tables.ASK_ORDER.ASSET_ID.eq(assetId).and(brs.schema.Tables.ASK_ORDER.LATEST.isTrue())
@@ -198,6 +201,9 @@ public class SqlOrderStore implements OrderStore {
 
   @Override
   public Order.Bid getNextBid(long assetId) {
+    if (Db.isInTransaction()) {
+      return bidOrderTable.getFirst(assetId);
+    }
     DSLContext ctx = Db.getDSLContext();
     SelectQuery query = ctx.selectFrom(brs.schema.Tables.BID_ORDER).where(
       brs.schema.Tables.BID_ORDER.ASSET_ID.eq(assetId).and(brs.schema.Tables.BID_ORDER.LATEST.isTrue())
@@ -26,10 +26,20 @@ public class SqlSubscriptionStore implements SubscriptionStore {
       }
     };
 
-  private final VersionedEntityTable<Subscription> subscriptionTable;
+  private final DeadlineSqlTable<Subscription> subscriptionTable;
 
   public SqlSubscriptionStore(DerivedTableManager derivedTableManager) {
-    subscriptionTable = new VersionedEntitySqlTable<Subscription>("subscription", brs.schema.Tables.SUBSCRIPTION, subscriptionDbKeyFactory, derivedTableManager) {
+    subscriptionTable = new DeadlineSqlTable<Subscription>("subscription", SUBSCRIPTION, subscriptionDbKeyFactory, SUBSCRIPTION.ID, SUBSCRIPTION.TIME_NEXT, derivedTableManager) {
+      @Override
+      protected long getId(Subscription subscription) {
+        return subscription.getId();
+      }
+
+      @Override
+      protected int getDueTime(Subscription subscription) {
+        return subscription.getTimeNext();
+      }
+
       @Override
       protected Subscription load(DSLContext ctx, ResultSet rs) throws SQLException {
         return new SqlSubscription(rs);
@@ -84,8 +94,21 @@ public class SqlSubscriptionStore implements SubscriptionStore {
   }
 
   @Override
-  public BurstIterator<Subscription> getUpdateSubscriptions(int timestamp) {
-    return subscriptionTable.getManyBy(getUpdateOnBlockClause(timestamp), 0, -1);
+  public List<Subscription> getUpdateSubscriptions(int timestamp) {
+    List<Subscription> subscriptions = new ArrayList<>();
+    List<Long> dueIds = subscriptionTable.getDueIds(timestamp);
+    if (dueIds != null) {
+      for (Long id : dueIds) {
+        subscriptions.add(subscriptionTable.get(subscriptionDbKeyFactory.newKey(id)));
+      }
+      return subscriptions;
+    }
+    try (BurstIterator<Subscription> updateSubscriptions = subscriptionTable.getManyBy(getUpdateOnBlockClause(timestamp), 0, -1)) {
+      while (updateSubscriptions.hasNext()) {
+        subscriptions.add(updateSubscriptions.next());
+      }
+    }
+    return subscriptions;
   }
 
   protected void saveSubscription(DSLContext ctx, Subscription subscription) throws SQLException {
@@ -1,12 +1,14 @@
 package brs.db.sql;
 
 import brs.Trade;
+import brs.TradeCandle;
 import brs.db.BurstIterator;
 import brs.db.BurstKey;
 import brs.db.store.DerivedTableManager;
 import brs.db.store.TradeStore;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import org.jooq.DSLContext;
 import org.jooq.SelectQuery;
 
@@ -23,6 +25,7 @@ public class SqlTradeStore implements TradeStore {
     };
 
   private final EntitySqlTable<Trade> tradeTable;
+  private final TradeCandleSqlTable candleTable;
 
   public SqlTradeStore(DerivedTableManager derivedTableManager) {
     tradeTable = new EntitySqlTable<Trade>("trade", TRADE, tradeDbKeyFactory, derivedTableManager) {
@@ -38,6 +41,7 @@ public class SqlTradeStore implements TradeStore {
       }
 
     };
+    candleTable = new TradeCandleSqlTable(derivedTableManager);
   }
 
   @Override
@@ -99,6 +103,16 @@ public class SqlTradeStore implements TradeStore {
     return ctx.fetchCount(ctx.selectFrom(TRADE).where(TRADE.ASSET_ID.eq(assetId)));
   }
 
+  @Override
+  public void addToCandles(Trade trade) {
+    candleTable.add(trade);
+  }
+
+  @Override
+  public List<TradeCandle> getCandles(long assetId, TradeCandle.Timeframe timeframe, int from, int to) {
+    return candleTable.getCandles(assetId, timeframe, from, to);
+  }
+
   protected void saveTrade(DSLContext ctx, Trade trade) {
     ctx.insertInto(
       TRADE,
@@ -10,7 +10,10 @@ import java.nio.ByteOrder;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.jooq.DSLContext;
 import org.jooq.BatchBindStep;
@@ -187,6 +190,26 @@ public class SqlTransactionDb implements TransactionDb {
     }
   }
 
+  @Override
+  public Map<Long, List<Transaction>> findBlockTransactions(Collection<Long> blockIds) {
+    Map<Long, List<Transaction>> transactions = new HashMap<>();
+    if (blockIds.isEmpty()) {
+      return transactions;
+    }
+    try (DSLContext ctx = Db.getDSLContext();
+         Cursor<TransactionRecord> transactionRecords = ctx.selectFrom(TRANSACTION).
+                 where(TRANSACTION.BLOCK_ID.in(blockIds).and(TRANSACTION.SIGNATURE.isNotNull())).
+                 orderBy(TRANSACTION.DB_ID.asc()).fetchLazy()) {
+      for (TransactionRecord transactionRecord : transactionRecords) {
+        transactions.computeIfAbsent(transactionRecord.getBlockId(), blockId -> new ArrayList<>()).add(loadTransaction(transactionRecord));
+      }
+      return transactions;
+    } catch (BurstException.ValidationException e) {
+      throw new RuntimeException("Transaction already in database for one of " + blockIds.size()
+              + " blocks does not pass validation!", e);
+    }
+  }
+
   private byte[] getAttachmentBytes(Transaction transaction) {
     int bytesLength = 0;
     for (Appendix appendage : transaction.getAppendages()) {
@@ -0,0 +1,147 @@
+package brs.db.sql;
+
+import brs.Trade;
+import brs.TradeCandle;
+import brs.TradeCandle.Timeframe;
+import brs.db.store.DerivedTableManager;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SelectQuery;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static brs.schema.Tables.TRADE;
+import static brs.schema.Tables.TRADE_CANDLE;
+
+/**
+ * Candles of all {@link Timeframe}s, updated in place with every trade.
+ *
+ * Rows carry the height of their last trade. Rolling back deletes the rows changed above the
+ * rollback height and rebuilds them from the trades that remain below it.
+ */
+class TradeCandleSqlTable extends DerivedSqlTable {
+
+  TradeCandleSqlTable(DerivedTableManager derivedTableManager) {
+    super("trade_candle", TRADE_CANDLE, derivedTableManager);
+  }
+
+  void add(Trade trade) {
+    if (!Db.isInTransaction()) {
+      throw new IllegalStateException("Not in transaction");
+    }
+    DSLContext ctx = Db.getDSLContext();
+    for (Timeframe timeframe : Timeframe.values()) {
+      int start = timeframe.getStart(trade);
+      int updated = ctx.update(TRADE_CANDLE)
+          .set(TRADE_CANDLE.HIGH_PRICE, DSL.greatest(TRADE_CANDLE.HIGH_PRICE, DSL.val(trade.getPriceNQT())))
+          .set(TRADE_CANDLE.LOW_PRICE, DSL.least(TRADE_CANDLE.LOW_PRICE, DSL.val(trade.getPriceNQT())))
+          .set(TRADE_CANDLE.CLOSE_PRICE, trade.getPriceNQT())
+          .set(TRADE_CANDLE.QUANTITY, TRADE_CANDLE.QUANTITY.add(trade.getQuantityQNT()))
+          .set(TRADE_CANDLE.TRADE_COUNT, TRADE_CANDLE.TRADE_COUNT.add(1))
+          .set(TRADE_CANDLE.HEIGHT, trade.getHeight())
+          .where(candleConditions(trade.getAssetId(), timeframe, start))
+          .execute();
+      if (updated == 0) {
+        save(ctx, new TradeCandle(trade.getAssetId(), timeframe, start, trade.getPriceNQT(), trade.getPriceNQT(),
+                                  trade.getPriceNQT(), trade.getPriceNQT(), trade.getQuantityQNT(), 1, trade.getHeight()));
+      }
+    }
+  }
+
+  /**
+   * @return the candles of the asset, latest first
+   */
+  List<TradeCandle> getCandles(long assetId, Timeframe timeframe, int from, int to) {
+    try (DSLContext ctx = Db.getDSLContext()) {
+      SelectQuery<Record> query = ctx.selectQuery();
+      query.addFrom(TRADE_CANDLE);
+      query.addConditions(TRADE_CANDLE.ASSET_ID.eq(assetId), TRADE_CANDLE.TIMEFRAME.eq(timeframe.getCode()));
+      query.addOrderBy(TRADE_CANDLE.START.desc());
+      DbUtils.applyLimits(query, from, to);
+
+      List<TradeCandle> candles = new ArrayList<>();
+      for (Record record : query.fetch()) {
+        candles.add(new TradeCandle(record.get(TRADE_CANDLE.ASSET_ID), timeframe, record.get(TRADE_CANDLE.START),
+                                    record.get(TRADE_CANDLE.OPEN_PRICE), record.get(TRADE_CANDLE.HIGH_PRICE),
+                                    record.get(TRADE_CANDLE.LOW_PRICE), record.get(TRADE_CANDLE.CLOSE_PRICE),
+                                    record.get(TRADE_CANDLE.QUANTITY), record.get(TRADE_CANDLE.TRADE_COUNT),
+                                    record.get(TRADE_CANDLE.HEIGHT)));
+      }
+      return candles;
+    }
+  }
+
+  @Override
+  public void rollback(int height) {
+    if (!Db.isInTransaction()) {
+      throw new IllegalStateException("Not in transaction");
+    }
+    DSLContext ctx = Db.getDSLContext();
+    Result<Record3<Long, Integer, Integer>> changed = ctx.select(TRADE_CANDLE.ASSET_ID, TRADE_CANDLE.TIMEFRAME, TRADE_CANDLE.START)
+        .from(TRADE_CANDLE).where(TRADE_CANDLE.HEIGHT.gt(height)).fetch();
+    super.rollback(height);
+
+    for (Record3<Long, Integer, Integer> candle : changed) {
+      Timeframe timeframe = Timeframe.fromCode(candle.value2());
+      if (timeframe != null) {
+        TradeCandle rebuilt = rebuild(ctx, candle.value1(), timeframe, candle.value3(), height);
+        if (rebuilt != null) {
+          save(ctx, rebuilt);
+        }
+      }
+    }
+  }
+
+  private TradeCandle rebuild(DSLContext ctx, long assetId, Timeframe timeframe, int start, int height) {
+    Condition inCandle = timeframe.isByHeight()
+        ? TRADE.HEIGHT.between(start, start + timeframe.getLength() - 1)
+        : TRADE.TIMESTAMP.between(start, start + timeframe.getLength() - 1);
+    long openNQT = 0;
+    long highNQT = 0;
+    long lowNQT = 0;
+    long closeNQT = 0;
+    long quantityQNT = 0;
+    int tradeCount = 0;
+    int lastHeight = 0;
+    for (Record3<Long, Long, Integer> trade : ctx.select(TRADE.PRICE, TRADE.QUANTITY, TRADE.HEIGHT).from(TRADE)
+        .where(TRADE.ASSET_ID.eq(assetId)).and(inCandle).and(TRADE.HEIGHT.le(height))
+        .orderBy(TRADE.DB_ID.asc()).fetch()) {
+      long priceNQT = trade.value1();
+      if (tradeCount == 0) {
+        openNQT = highNQT = lowNQT = priceNQT;
+      }
+      highNQT = Math.max(highNQT, priceNQT);
+      lowNQT = Math.min(lowNQT, priceNQT);
+      closeNQT = priceNQT;
+      quantityQNT += trade.value2();
+      tradeCount++;
+      lastHeight = Math.max(lastHeight, trade.value3());
+    }
+    if (tradeCount == 0) {
+      return null;
+    }
+    return new TradeCandle(assetId, timeframe, start, openNQT, highNQT, lowNQT, closeNQT, quantityQNT, tradeCount, lastHeight);
+  }
+
+  private void save(DSLContext ctx, TradeCandle candle) {
+    ctx.insertInto(
+      TRADE_CANDLE,
+      TRADE_CANDLE.ASSET_ID, TRADE_CANDLE.TIMEFRAME, TRADE_CANDLE.START, TRADE_CANDLE.OPEN_PRICE, TRADE_CANDLE.HIGH_PRICE,
+      TRADE_CANDLE.LOW_PRICE, TRADE_CANDLE.CLOSE_PRICE, TRADE_CANDLE.QUANTITY, TRADE_CANDLE.TRADE_COUNT, TRADE_CANDLE.HEIGHT
+    ).values(
+      candle.getAssetId(), candle.getTimeframe().getCode(), candle.getStart(), candle.getOpenNQT(), candle.getHighNQT(),
+      candle.getLowNQT(), candle.getCloseNQT(), candle.getQuantityQNT(), candle.getTradeCount(), candle.getHeight()
+    ).execute();
+  }
+
+  private static Condition candleConditions(long assetId, Timeframe timeframe, int start) {
+    return TRADE_CANDLE.ASSET_ID.eq(assetId)
+        .and(TRADE_CANDLE.TIMEFRAME.eq(timeframe.getCode()))
+        .and(TRADE_CANDLE.START.eq(start));
+  }
+}
@@ -6,6 +6,7 @@ import brs.db.BurstIterator;
 import brs.db.BurstKey;
 import brs.db.VersionedEntityTable;
 import brs.db.VersionedValuesTable;
+import java.util.List;
 
 
 public interface DigitalGoodsStoreStore {
@@ -40,5 +41,8 @@ public interface DigitalGoodsStoreStore {
 
   BurstIterator<DigitalGoodsStore.Purchase> getPendingSellerPurchases(long sellerId, int from, int to);
 
-  BurstIterator<DigitalGoodsStore.Purchase> getExpiredPendingPurchases(int timestamp);
+  /**
+   * @return the pending purchases whose delivery deadline is before the timestamp
+   */
+  List<DigitalGoodsStore.Purchase> getExpiredPendingPurchases(int timestamp);
 }
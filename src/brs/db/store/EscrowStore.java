@@ -21,6 +21,11 @@ public interface EscrowStore {
 
   Collection<Escrow> getEscrowTransactionsByParticipant(Long accountId);
 
+  /**
+   * @return the ids of the escrows whose deadline is before the timestamp
+   */
+  List<Long> getExpiredEscrowIds(int timestamp);
+
   List<Transaction> getResultTransactions();
 
   BurstIterator<Escrow.Decision> getDecisions(Long id);
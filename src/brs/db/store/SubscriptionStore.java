@@ -5,6 +5,8 @@ import brs.db.BurstIterator;
 import brs.db.BurstKey;
 import brs.db.VersionedEntityTable;
 
+import java.util.List;
+
 public interface SubscriptionStore {
 
   BurstKey.LongKeyFactory<Subscription> getSubscriptionDbKeyFactory();
@@ -17,5 +19,5 @@ public interface SubscriptionStore {
 
   BurstIterator<Subscription> getSubscriptionsToId(Long accountId);
 
-  BurstIterator<Subscription> getUpdateSubscriptions(int timestamp);
+  List<Subscription> getUpdateSubscriptions(int timestamp);
 }
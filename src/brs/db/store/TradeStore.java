@@ -1,10 +1,13 @@
 package brs.db.store;
 
 import brs.Trade;
+import brs.TradeCandle;
 import brs.db.BurstIterator;
 import brs.db.BurstKey;
 import brs.db.sql.EntitySqlTable;
 
+import java.util.List;
+
 public interface TradeStore {
   BurstIterator<Trade> getAllTrades(int from, int to);
 
@@ -16,6 +19,10 @@ public interface TradeStore {
 
   int getTradeCount(long assetId);
 
+  void addToCandles(Trade trade);
+
+  List<TradeCandle> getCandles(long assetId, TradeCandle.Timeframe timeframe, int from, int to);
+
   BurstKey.LinkKeyFactory<Trade> getTradeDbKeyFactory();
 
   EntitySqlTable<Trade> getTradeTable();
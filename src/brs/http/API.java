@@ -8,6 +8,7 @@ import brs.TransactionProcessor;
 import brs.assetexchange.AssetExchange;
 import brs.common.Props;
 import brs.services.*;
+import brs.statistics.BlockProcessingStats;
 import brs.util.Subnet;
 import brs.util.ThreadPool;
 import org.eclipse.jetty.server.*;
@@ -31,6 +32,7 @@ public final class API {
   private static final Logger logger = LoggerFactory.getLogger(API.class);
   private static final int TESTNET_API_PORT = 6876;
   private static Server apiServer;
+  private static APIServlet apiServlet;
 
   public API(TransactionProcessor transactionProcessor,
              Blockchain blockchain, BlockchainProcessor blockchainProcessor, ParameterService parameterService,
@@ -39,7 +41,7 @@ public final class API {
              SubscriptionService subscriptionService, ATService atService,
              TimeService timeService, EconomicClustering economicClustering, PropertyService propertyService,
              ThreadPool threadPool, TransactionService transactionService, BlockService blockService,
-             Generator generator, APITransactionManager apiTransactionManager) {
+             Generator generator, APITransactionManager apiTransactionManager, BlockProcessingStats blockProcessingStats) {
 
     enableDebugAPI = propertyService.getBoolean(Props.API_DEBUG);
     List<String> allowedBotHostsList = propertyService.getStringList(Props.API_ALLOWED);
@@ -118,12 +120,15 @@ public final class API {
         apiHandler.setWelcomeFiles(new String[]{"index.html"});
       }
 
-      ServletHolder peerServletHolder = new ServletHolder(new APIServlet(transactionProcessor, blockchain, blockchainProcessor, parameterService,
-                                                                         accountService, aliasService, assetExchange, escrowService, digitalGoodsStoreService,
-                                                                         subscriptionService, atService, timeService, economicClustering, transactionService, blockService, generator, propertyService, apiTransactionManager));
+      apiServlet = new APIServlet(transactionProcessor, blockchain, blockchainProcessor, parameterService,
+                                  accountService, aliasService, assetExchange, escrowService, digitalGoodsStoreService,
+                                  subscriptionService, atService, timeService, economicClustering, transactionService, blockService, generator, propertyService, apiTransactionManager,
+                                  blockProcessingStats);
+      ServletHolder peerServletHolder = new ServletHolder(apiServlet);
+      peerServletHolder.setAsyncSupported(true);
       apiHandler.addServlet(peerServletHolder, "/burst");
 
-      if (propertyService.getBoolean("JETTY.API.GzipFilter")) {
+      if (propertyService.getBoolean(Props.JETTY_API_GZIP_FILTER)) {
         FilterHolder gzipFilterHolder = apiHandler.addFilter(GzipFilter.class, "/burst", null);
         gzipFilterHolder.setInitParameter("methods",     propertyService.getString(Props.JETTY_API_GZIP_FILTER_METHODS));
         gzipFilterHolder.setInitParameter("bufferSize",  propertyService.getString(Props.JETTY_API_GZIP_FILTER_BUFFER_SIZE));
@@ -191,6 +196,9 @@ public final class API {
         logger.info("Failed to stop API server", e);
       }
     }
+    if (apiServlet != null) {
+      apiServlet.shutdown();
+    }
   }
 
 }
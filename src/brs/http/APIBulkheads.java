@@ -0,0 +1,160 @@
+package brs.http;
+
+import brs.common.Props;
+import brs.services.PropertyService;
+import org.json.simple.JSONObject;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded executors the API servlet hands requests to, one per group of {@link APITag}s, so that
+ * slow database bound calls can only exhaust their own group and never starve mining or info calls.
+ */
+final class APIBulkheads {
+
+  enum Group {
+    MINING("Mining", 4, 200),
+    ACCOUNTS("Accounts", 8, 100),
+    AE("AE", 4, 100),
+    INFO("Info", 4, 100),
+    OTHER("Other", 8, 200);
+
+    private final String name;
+    private final int defaultThreads;
+    private final int defaultQueueSize;
+
+    Group(String name, int defaultThreads, int defaultQueueSize) {
+      this.name = name;
+      this.defaultThreads = defaultThreads;
+      this.defaultQueueSize = defaultQueueSize;
+    }
+
+    static Group of(Set<APITag> apiTags) {
+      if (apiTags.contains(APITag.MINING)) {
+        return MINING;
+      }
+      if (apiTags.contains(APITag.AE)) {
+        return AE;
+      }
+      if (apiTags.contains(APITag.ACCOUNTS)) {
+        return ACCOUNTS;
+      }
+      if (apiTags.contains(APITag.INFO)) {
+        return INFO;
+      }
+      return OTHER;
+    }
+  }
+
+  static final class Bulkhead {
+
+    private final Group group;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    Bulkhead(Group group, int threads, int queueSize) {
+      this.group = group;
+      AtomicInteger threadNumber = new AtomicInteger();
+      executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+        Thread thread = new Thread(runnable, "api-" + group.name.toLowerCase() + "-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.allowCoreThreadTimeOut(true);
+    }
+
+    Group getGroup() {
+      return group;
+    }
+
+    /**
+     * @return false if the group's threads are busy and its queue is full
+     */
+    boolean execute(Runnable task) {
+      try {
+        executor.execute(task);
+        accepted.incrementAndGet();
+        return true;
+      } catch (RejectedExecutionException e) {
+        rejected.incrementAndGet();
+        return false;
+      }
+    }
+
+    void timedOut() {
+      timedOut.incrementAndGet();
+    }
+
+    long getAccepted() {
+      return accepted.get();
+    }
+
+    long getRejected() {
+      return rejected.get();
+    }
+
+    long getTimedOut() {
+      return timedOut.get();
+    }
+
+    JSONObject getStats() {
+      JSONObject stats = new JSONObject();
+      stats.put("threads", executor.getMaximumPoolSize());
+      stats.put("active", executor.getActiveCount());
+      stats.put("queued", executor.getQueue().size());
+      stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+      stats.put("accepted", getAccepted());
+      stats.put("completed", executor.getCompletedTaskCount());
+      stats.put("rejected", getRejected());
+      stats.put("timedOut", getTimedOut());
+      return stats;
+    }
+
+    void shutdown() {
+      executor.shutdownNow();
+    }
+  }
+
+  private final Map<Group, Bulkhead> bulkheads = new EnumMap<>(Group.class);
+  private final long timeoutMs;
+
+  APIBulkheads(PropertyService propertyService) {
+    for (Group group : Group.values()) {
+      int threads = propertyService.getInt(String.format(Props.API_BULKHEAD_THREADS, group.name), group.defaultThreads);
+      int queueSize = propertyService.getInt(String.format(Props.API_BULKHEAD_QUEUE_SIZE, group.name), group.defaultQueueSize);
+      bulkheads.put(group, new Bulkhead(group, Math.max(threads, 1), Math.max(queueSize, 1)));
+    }
+    timeoutMs = propertyService.getInt(Props.API_BULKHEAD_TIMEOUT_MS, 30000);
+  }
+
+  Bulkhead get(Group group) {
+    return bulkheads.get(group);
+  }
+
+  long getTimeoutMs() {
+    return timeoutMs;
+  }
+
+  JSONObject getStats() {
+    JSONObject stats = new JSONObject();
+    for (Bulkhead bulkhead : bulkheads.values()) {
+      stats.put(bulkhead.group.name, bulkhead.getStats());
+    }
+    return stats;
+  }
+
+  void shutdown() {
+    bulkheads.values().forEach(Bulkhead::shutdown);
+  }
+}
@@ -1,7 +1,9 @@
 package brs.http;
 
+import static brs.http.JSONResponses.ERROR_BUSY;
 import static brs.http.JSONResponses.ERROR_INCORRECT_REQUEST;
 import static brs.http.JSONResponses.ERROR_NOT_ALLOWED;
+import static brs.http.JSONResponses.ERROR_TIMEOUT;
 import static brs.http.JSONResponses.POST_REQUIRED;
 
 import brs.Blockchain;
@@ -24,6 +26,7 @@ import brs.services.PropertyService;
 import brs.services.SubscriptionService;
 import brs.services.TimeService;
 import brs.services.TransactionService;
+import brs.statistics.BlockProcessingStats;
 import brs.util.JSON;
 import brs.util.Subnet;
 import java.io.IOException;
@@ -31,13 +34,21 @@ import java.io.Writer;
 import java.net.InetAddress;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
@@ -52,12 +63,15 @@ public final class APIServlet extends HttpServlet {
       AccountService accountService, AliasService aliasService, AssetExchange assetExchange,
       EscrowService escrowService, DGSGoodsStoreService digitalGoodsStoreService,
       SubscriptionService subscriptionService, ATService atService, TimeService timeService, EconomicClustering economicClustering, TransactionService transactionService,
-      BlockService blockService, Generator generator, PropertyService propertyService, APITransactionManager apiTransactionManager) {
+      BlockService blockService, Generator generator, PropertyService propertyService, APITransactionManager apiTransactionManager,
+      BlockProcessingStats blockProcessingStats) {
 
     enforcePost = propertyService.getBoolean(Props.API_SERVER_ENFORCE_POST);
     acceptSurplusParams = propertyService.getBoolean(Props.API_ACCEPT_SURPLUS_PARAMS, false);
+    bulkheads = propertyService.getBoolean(Props.API_BULKHEADS, true) ? new APIBulkheads(propertyService) : null;
     
     final Map<String, APIRequestHandler> map = new HashMap<>();
+    final OrderBookSnapshots orderBookSnapshots = new OrderBookSnapshots(blockchain, blockchainProcessor, assetExchange);
 
     map.put("broadcastTransaction", new BroadcastTransaction(transactionProcessor, parameterService, transactionService));
     map.put("calculateFullHash", new CalculateFullHash());
@@ -100,6 +114,7 @@ public final class APIServlet extends HttpServlet {
     map.put("getBlockId", new GetBlockId(blockchain));
     map.put("getBlocks", new GetBlocks(blockchain, blockService));
     map.put("getBlockchainStatus", new GetBlockchainStatus(blockchainProcessor, blockchain, timeService));
+    map.put("getBlockProcessingStats", new GetBlockProcessingStats(blockProcessingStats));
     map.put("getConstants", GetConstants.instance);
     map.put("getDGSGoods", new GetDGSGoods(digitalGoodsStoreService));
     map.put("getDGSGood", new GetDGSGood(parameterService));
@@ -109,6 +124,7 @@ public final class APIServlet extends HttpServlet {
     map.put("getGuaranteedBalance", new GetGuaranteedBalance(parameterService));
     map.put("getECBlock", new GetECBlock(blockchain, timeService, economicClustering));
     map.put("getMyInfo", GetMyInfo.instance);
+    map.put("getAPIStats", new GetAPIStats(bulkheads));
     //map.put("getNextBlockGenerators", GetNextBlockGenerators.instance);
     map.put("getPeer", GetPeer.instance);
     map.put("getPeers", GetPeers.instance);
@@ -117,6 +133,7 @@ public final class APIServlet extends HttpServlet {
     map.put("getState", new GetState(blockchain, assetExchange, accountService, escrowService, aliasService, timeService, generator));
     map.put("getTime", new GetTime(timeService));
     map.put("getTrades", new GetTrades(parameterService, assetExchange));
+    map.put("getTradeCandles", new GetTradeCandles(parameterService, assetExchange));
     map.put("getAllTrades", new GetAllTrades(assetExchange));
     map.put("getAssetTransfers", new GetAssetTransfers(parameterService, accountService, assetExchange));
     map.put("getTransaction", new GetTransaction(transactionProcessor, blockchain));
@@ -132,9 +149,11 @@ public final class APIServlet extends HttpServlet {
     map.put("getAskOrder", new GetAskOrder(assetExchange));
     map.put("getAskOrderIds", new GetAskOrderIds(parameterService, assetExchange));
     map.put("getAskOrders", new GetAskOrders(parameterService, assetExchange));
+    map.put("getBestOrders", new GetBestOrders(orderBookSnapshots));
     map.put("getBidOrder", new GetBidOrder(assetExchange));
     map.put("getBidOrderIds", new GetBidOrderIds(parameterService, assetExchange));
     map.put("getBidOrders", new GetBidOrders(parameterService, assetExchange));
+    map.put("getOrderBook", new GetOrderBook(orderBookSnapshots));
     map.put("issueAsset", new IssueAsset(parameterService, blockchain, apiTransactionManager));
     // map.put("leaseBalance", new LeaseBalance(parameterService, blockchain, accountService, apiTransactionManager));
     map.put("longConvert", LongConvert.instance);
@@ -154,8 +173,9 @@ public final class APIServlet extends HttpServlet {
     //map.put("stopForging", StopForging.instance);
     //map.put("getForging", GetForging.instance);
     map.put("transferAsset", new TransferAsset(parameterService, blockchain, apiTransactionManager, accountService));
-    map.put("getMiningInfo", new GetMiningInfo(blockchain));
+    map.put("getMiningInfo", new GetMiningInfo(blockchain, blockchainProcessor));
     map.put("submitNonce", new SubmitNonce(accountService, blockchain, generator));
+    map.put("submitNonces", new SubmitNonces(accountService, blockchain, generator));
     map.put("getRewardRecipient", new GetRewardRecipient(parameterService, blockchain, accountService));
     map.put("setRewardRecipient", new SetRewardRecipient(parameterService, blockchain, accountService, apiTransactionManager));
     map.put("getAccountsWithRewardRecipient", new GetAccountsWithRewardRecipient(parameterService, accountService));
@@ -205,6 +225,10 @@ public final class APIServlet extends HttpServlet {
       return apiTags;
     }
 
+    /**
+     * @return the response, or null if the handler started async processing and answers the request
+     * itself, which only handlers running on the Jetty thread may do
+     */
     abstract JSONStreamAware processRequest(HttpServletRequest request) throws BurstException;
 
     final void validateRequest(HttpServletRequest req) throws ParameterException {
@@ -226,10 +250,21 @@ public final class APIServlet extends HttpServlet {
       return false;
     }
 
+    /**
+     * @return the bulkhead group this request runs in, or null to run it on the calling Jetty thread.
+     * Handlers in a group get a {@link DetachedRequest}, which only carries the parameters, method,
+     * remote host and address, headers and attributes of the request.
+     */
+    APIBulkheads.Group getBulkheadGroup() {
+      return APIBulkheads.Group.of(apiTags);
+    }
+
   }
 
   private static boolean enforcePost;
 
+  private final APIBulkheads bulkheads;
+
   static Map<String, APIRequestHandler> apiRequestHandlers;
 
   @Override
@@ -286,34 +321,246 @@ public final class APIServlet extends HttpServlet {
         return;
       }
 
-      try {
-        if (apiRequestHandler.startDbTransaction()) {
-          Burst.getStores().beginTransaction();
+      APIBulkheads.Group group = apiRequestHandler.getBulkheadGroup();
+      if (bulkheads != null && group != null && req.isAsyncSupported()) {
+        response = null;
+        processAsync(req, resp, apiRequestHandler, bulkheads.get(group), startTime);
+        return;
+      }
+
+      response = processRequest(req, apiRequestHandler, startTime);
+
+    } finally {
+      if (response != null) {
+        writeResponse(resp, response);
+      }
+    }
+
+  }
+
+  /**
+   * Hands the request to its bulkhead and releases the Jetty thread. The handler works on a copy of
+   * the request, so a request that timed out (and got its error response) can be recycled by Jetty
+   * while the handler is still running. A request that timed out while still queued is not processed
+   * at all, so that a client told it failed does not see it take effect later.
+   */
+  private void processAsync(HttpServletRequest req, HttpServletResponse resp, APIRequestHandler apiRequestHandler,
+                            APIBulkheads.Bulkhead bulkhead, long startTime) throws IOException {
+    HttpServletRequest detachedRequest = new DetachedRequest(req);
+    AsyncContext asyncContext = req.startAsync();
+    asyncContext.setTimeout(bulkheads.getTimeoutMs());
+
+    AtomicBoolean responded = new AtomicBoolean();
+    asyncContext.addListener(new AsyncListener() {
+      @Override
+      public void onTimeout(AsyncEvent event) throws IOException {
+        if (responded.compareAndSet(false, true)) {
+          bulkhead.timedOut();
+          try {
+            writeResponse(resp, ERROR_TIMEOUT);
+          } finally {
+            asyncContext.complete();
+          }
         }
-        apiRequestHandler.validateRequest(req);
-        response = apiRequestHandler.processRequest(req);
-      } catch (ParameterException e) {
-        response = e.getErrorResponse();
-      } catch (BurstException | RuntimeException e) {
-        logger.debug("Error processing API request", e);
-        response = ERROR_INCORRECT_REQUEST;
-      } finally {
-        if (apiRequestHandler.startDbTransaction()) {
-          Burst.getStores().endTransaction();
+      }
+
+      @Override
+      public void onError(AsyncEvent event) {
+        if (responded.compareAndSet(false, true)) {
+          asyncContext.complete();
+        }
+      }
+
+      @Override
+      public void onComplete(AsyncEvent event) {
+      }
+
+      @Override
+      public void onStartAsync(AsyncEvent event) {
+      }
+    });
+
+    boolean accepted = bulkhead.execute(() -> {
+      if (responded.get()) {
+        return;
+      }
+      JSONStreamAware response = processRequest(detachedRequest, apiRequestHandler, startTime);
+      if (responded.compareAndSet(false, true)) {
+        try {
+          writeResponse(resp, response);
+        } catch (IOException | RuntimeException e) {
+          logger.debug("Error writing API response", e);
+        } finally {
+          asyncContext.complete();
         }
       }
+    });
 
-      if (response instanceof JSONObject) {
-        ((JSONObject) response).put("requestProcessingTime", System.currentTimeMillis() - startTime);
+    if (!accepted && responded.compareAndSet(false, true)) {
+      try {
+        writeResponse(resp, ERROR_BUSY);
+      } finally {
+        asyncContext.complete();
       }
+    }
+  }
 
+  private static JSONStreamAware processRequest(HttpServletRequest req, APIRequestHandler apiRequestHandler, long startTime) {
+    JSONStreamAware response;
+    try {
+      if (apiRequestHandler.startDbTransaction()) {
+        Burst.getStores().beginTransaction();
+      }
+      apiRequestHandler.validateRequest(req);
+      response = apiRequestHandler.processRequest(req);
+    } catch (ParameterException e) {
+      response = e.getErrorResponse();
+    } catch (BurstException | RuntimeException e) {
+      logger.debug("Error processing API request", e);
+      response = ERROR_INCORRECT_REQUEST;
     } finally {
-      resp.setContentType("text/plain; charset=UTF-8");
-      try (Writer writer = resp.getWriter()) {
-        response.writeJSONString(writer);
+      if (apiRequestHandler.startDbTransaction()) {
+        Burst.getStores().endTransaction();
       }
     }
 
+    if (response instanceof JSONObject) {
+      ((JSONObject) response).put("requestProcessingTime", System.currentTimeMillis() - startTime);
+    }
+    return response;
+  }
+
+  static void writeResponse(HttpServletResponse resp, JSONStreamAware response) throws IOException {
+    resp.setContentType("text/plain; charset=UTF-8");
+    try (Writer writer = resp.getWriter()) {
+      response.writeJSONString(writer);
+    }
+  }
+
+  void shutdown() {
+    if (bulkheads != null) {
+      bulkheads.shutdown();
+    }
+  }
+
+  /**
+   * Copy of the parameters, method, remote host and address, headers and attributes of a request,
+   * detached from Jetty's request object. Handlers running in a bulkhead must not use any other
+   * getter, such as the body, the session or date headers, as those still go to the request Jetty
+   * recycles.
+   */
+  private static final class DetachedRequest extends HttpServletRequestWrapper {
+
+    private final Map<String, String[]> parameters;
+    private final String method;
+    private final String remoteHost;
+    private final String remoteAddr;
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    private DetachedRequest(HttpServletRequest req) {
+      super(req);
+      this.parameters = Collections.unmodifiableMap(new HashMap<>(req.getParameterMap()));
+      this.method = req.getMethod();
+      this.remoteHost = req.getRemoteHost();
+      this.remoteAddr = req.getRemoteAddr();
+      Enumeration<String> headerNames = req.getHeaderNames();
+      while (headerNames != null && headerNames.hasMoreElements()) {
+        String name = headerNames.nextElement();
+        headers.put(name, Collections.list(req.getHeaders(name)));
+      }
+      Enumeration<String> attributeNames = req.getAttributeNames();
+      while (attributeNames != null && attributeNames.hasMoreElements()) {
+        String name = attributeNames.nextElement();
+        Object value = req.getAttribute(name);
+        if (value != null) {
+          attributes.put(name, value);
+        }
+      }
+    }
+
+    @Override
+    public String getHeader(String name) {
+      List<String> values = headers.get(name);
+      return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      List<String> values = headers.get(name);
+      return Collections.enumeration(values == null ? Collections.emptyList() : values);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+      return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+      String value = getHeader(name);
+      return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+      return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+      return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+      if (value == null) {
+        attributes.remove(name);
+      } else {
+        attributes.put(name, value);
+      }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+      attributes.remove(name);
+    }
+
+    @Override
+    public String getParameter(String name) {
+      String[] values = parameters.get(name);
+      return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+      return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+      return parameters.get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+      return parameters;
+    }
+
+    @Override
+    public String getMethod() {
+      return method;
+    }
+
+    @Override
+    public String getRemoteHost() {
+      return remoteHost;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+      return remoteAddr;
+    }
   }
 
 }
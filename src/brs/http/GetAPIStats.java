@@ -0,0 +1,24 @@
+package brs.http;
+
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+import javax.servlet.http.HttpServletRequest;
+
+public final class GetAPIStats extends APIServlet.APIRequestHandler {
+
+  private final APIBulkheads bulkheads;
+
+  GetAPIStats(APIBulkheads bulkheads) {
+    super(new APITag[] {APITag.INFO});
+    this.bulkheads = bulkheads;
+  }
+
+  @Override
+  JSONStreamAware processRequest(HttpServletRequest req) {
+    JSONObject response = new JSONObject();
+    response.put("bulkheads", bulkheads == null ? new JSONObject() : bulkheads.getStats());
+    return response;
+  }
+
+}
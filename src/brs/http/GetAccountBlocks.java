@@ -15,11 +15,13 @@ import brs.db.BurstIterator;
 import brs.http.common.Parameters;
 import brs.services.BlockService;
 import brs.services.ParameterService;
-import org.json.simple.JSONArray;
+import brs.util.JSONWriter;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class GetAccountBlocks extends APIServlet.APIRequestHandler {
 
@@ -44,16 +46,17 @@ public final class GetAccountBlocks extends APIServlet.APIRequestHandler {
 
     boolean includeTransactions = Parameters.isTrue(req.getParameter(INCLUDE_TRANSACTIONS_PARAMETER));
 
-    JSONArray blocks = new JSONArray();
+    List<Block> blocks = new ArrayList<>();
     try (BurstIterator<? extends Block> iterator = blockchain.getBlocks(account, timestamp, firstIndex, lastIndex)) {
       while (iterator.hasNext()) {
-        Block block = iterator.next();
-        blocks.add(JSONData.block(block, includeTransactions, blockchain.getHeight(), blockService.getBlockReward(block), blockService.getScoopNum(block)));
+        blocks.add(iterator.next());
       }
     }
 
+    int currentHeight = blockchain.getHeight();
     JSONObject response = new JSONObject();
-    response.put(BLOCKS_RESPONSE, blocks);
+    response.put(BLOCKS_RESPONSE, JSONWriter.array(blocks, block ->
+        JSONData.streamBlock(block, includeTransactions, currentHeight, blockService.getBlockReward(block), blockService.getScoopNum(block))));
 
     return response;
   }
@@ -15,10 +15,12 @@ import brs.BurstException;
 import brs.Transaction;
 import brs.db.BurstIterator;
 import brs.services.ParameterService;
-import org.json.simple.JSONArray;
+import brs.util.JSONWriter;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
 import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class GetAccountTransactions extends APIServlet.APIRequestHandler {
 
@@ -59,17 +61,17 @@ public final class GetAccountTransactions extends APIServlet.APIRequestHandler {
       throw new IllegalArgumentException("lastIndex must be greater or equal to firstIndex");
     }
 
-    JSONArray transactions = new JSONArray();
+    List<Transaction> transactions = new ArrayList<>();
     try (BurstIterator<? extends Transaction> iterator = blockchain.getTransactions(account, numberOfConfirmations, type, subtype, timestamp,
                                                                                                firstIndex, lastIndex)) {
       while (iterator.hasNext()) {
-        Transaction transaction = iterator.next();
-        transactions.add(JSONData.transaction(transaction, blockchain.getHeight()));
+        transactions.add(iterator.next());
       }
     }
 
+    int currentHeight = blockchain.getHeight();
     JSONObject response = new JSONObject();
-    response.put(TRANSACTIONS_RESPONSE, transactions);
+    response.put(TRANSACTIONS_RESPONSE, JSONWriter.array(transactions, transaction -> JSONData.streamTransaction(transaction, currentHeight)));
     return response;
 
   }
@@ -0,0 +1,77 @@
+package brs.http;
+
+import static brs.http.JSONResponses.INCORRECT_ASSET;
+import static brs.http.JSONResponses.INCORRECT_ASSETS_COUNT;
+import static brs.http.JSONResponses.UNKNOWN_ASSET;
+import static brs.http.common.Parameters.ASSETS_PARAMETER;
+import static brs.http.common.ResultFields.ASSETS_RESPONSE;
+import static brs.http.common.ResultFields.ASSET_RESPONSE;
+import static brs.http.common.ResultFields.BEST_ASK_RESPONSE;
+import static brs.http.common.ResultFields.BEST_BID_RESPONSE;
+import static brs.http.common.ResultFields.HEIGHT_RESPONSE;
+
+import brs.util.Convert;
+import javax.servlet.http.HttpServletRequest;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+/**
+ * The best ask and bid price level of each of the given assets, at most {@link #MAX_ASSETS} of them.
+ * Sides without open orders are left out.
+ */
+public final class GetBestOrders extends APIServlet.APIRequestHandler {
+
+  static final int MAX_ASSETS = 100;
+
+  private final OrderBookSnapshots orderBookSnapshots;
+
+  GetBestOrders(OrderBookSnapshots orderBookSnapshots) {
+    super(new APITag[] {APITag.AE}, ASSETS_PARAMETER, ASSETS_PARAMETER, ASSETS_PARAMETER);
+    this.orderBookSnapshots = orderBookSnapshots;
+  }
+
+  @Override
+  JSONStreamAware processRequest(HttpServletRequest req) {
+
+    String[] assets = req.getParameterValues(ASSETS_PARAMETER);
+
+    JSONObject response = new JSONObject();
+    JSONArray assetsJSONArray = new JSONArray();
+    response.put(ASSETS_RESPONSE, assetsJSONArray);
+    if (assets == null) {
+      return response;
+    }
+    if (assets.length > MAX_ASSETS) {
+      return INCORRECT_ASSETS_COUNT;
+    }
+    for (String assetIdString : assets) {
+      if (assetIdString == null || assetIdString.isEmpty()) {
+        continue;
+      }
+      long assetId;
+      try {
+        assetId = Convert.parseUnsignedLong(assetIdString);
+      } catch (RuntimeException e) {
+        return INCORRECT_ASSET;
+      }
+      OrderBookSnapshots.Snapshot snapshot = orderBookSnapshots.get(assetId);
+      if (snapshot == null) {
+        return UNKNOWN_ASSET;
+      }
+
+      JSONObject assetJSON = new JSONObject();
+      assetJSON.put(ASSET_RESPONSE, Convert.toUnsignedLong(assetId));
+      assetJSON.put(HEIGHT_RESPONSE, snapshot.getHeight());
+      if (snapshot.getBestAsk() != null) {
+        assetJSON.put(BEST_ASK_RESPONSE, snapshot.getBestAsk().toJSON());
+      }
+      if (snapshot.getBestBid() != null) {
+        assetJSON.put(BEST_BID_RESPONSE, snapshot.getBestBid().toJSON());
+      }
+      assetsJSONArray.add(assetJSON);
+    }
+    return response;
+  }
+
+}
@@ -0,0 +1,64 @@
+package brs.http;
+
+import static brs.http.common.ResultFields.COUNT_RESPONSE;
+import static brs.http.common.ResultFields.ENABLED_RESPONSE;
+import static brs.http.common.ResultFields.FALLBACKS_RESPONSE;
+import static brs.http.common.ResultFields.MAX_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.MEAN_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.P50_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.P90_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.P99_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.PARALLEL_ATS_RESPONSE;
+import static brs.http.common.ResultFields.PARALLEL_BLOCKS_RESPONSE;
+import static brs.http.common.ResultFields.PHASES_RESPONSE;
+import static brs.http.common.ResultFields.SPEEDUP_RESPONSE;
+
+import brs.at.AT_Parallel_Executor;
+import brs.statistics.BlockProcessingStats;
+import brs.statistics.LatencyHistogram;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Latencies of the phases of block processing in microseconds, recorded when brs.blockProcessingStats
+ * is enabled, along with how parallel AT validation fared.
+ */
+public final class GetBlockProcessingStats extends APIServlet.APIRequestHandler {
+
+  private final BlockProcessingStats blockProcessingStats;
+
+  GetBlockProcessingStats(BlockProcessingStats blockProcessingStats) {
+    super(new APITag[] {APITag.BLOCKS, APITag.INFO});
+    this.blockProcessingStats = blockProcessingStats;
+  }
+
+  @Override
+  JSONStreamAware processRequest(HttpServletRequest req) {
+    JSONObject response = new JSONObject();
+    response.put(ENABLED_RESPONSE, blockProcessingStats.isEnabled());
+
+    JSONObject phases = new JSONObject();
+    for (BlockProcessingStats.Phase phase : BlockProcessingStats.Phase.values()) {
+      LatencyHistogram histogram = blockProcessingStats.getHistogram(phase);
+      JSONObject json = new JSONObject();
+      json.put(COUNT_RESPONSE, histogram.getCount());
+      json.put(MEAN_MICROS_RESPONSE, histogram.getMeanMicros());
+      json.put(P50_MICROS_RESPONSE, histogram.getP50Micros());
+      json.put(P90_MICROS_RESPONSE, histogram.getP90Micros());
+      json.put(P99_MICROS_RESPONSE, histogram.getP99Micros());
+      json.put(MAX_MICROS_RESPONSE, histogram.getMaxMicros());
+      phases.put(phase.getName(), json);
+    }
+    response.put(PHASES_RESPONSE, phases);
+
+    JSONObject parallelATs = new JSONObject();
+    parallelATs.put(PARALLEL_BLOCKS_RESPONSE, AT_Parallel_Executor.getParallelBlocks());
+    parallelATs.put(FALLBACKS_RESPONSE, AT_Parallel_Executor.getFallbacks());
+    parallelATs.put(SPEEDUP_RESPONSE, AT_Parallel_Executor.getSpeedup());
+    response.put(PARALLEL_ATS_RESPONSE, parallelATs);
+    return response;
+  }
+
+}
@@ -9,11 +9,13 @@ import brs.Blockchain;
 import brs.db.BurstIterator;
 import brs.http.common.Parameters;
 import brs.services.BlockService;
-import org.json.simple.JSONArray;
+import brs.util.JSONWriter;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class GetBlocks extends APIServlet.APIRequestHandler {
 
@@ -37,16 +39,17 @@ public final class GetBlocks extends APIServlet.APIRequestHandler {
 
     boolean includeTransactions = Parameters.isTrue(req.getParameter(Parameters.INCLUDE_TRANSACTIONS_PARAMETER));
 
-    JSONArray blocks = new JSONArray();
+    List<Block> blocks = new ArrayList<>();
     try (BurstIterator<? extends Block> iterator = blockchain.getBlocks(firstIndex, lastIndex)) {
       while (iterator.hasNext()) {
-        Block block = iterator.next();
-        blocks.add(JSONData.block(block, includeTransactions, blockchain.getHeight(), blockService.getBlockReward(block), blockService.getScoopNum(block)));
+        blocks.add(iterator.next());
       }
     }
 
+    int currentHeight = blockchain.getHeight();
     JSONObject response = new JSONObject();
-    response.put("blocks", blocks);
+    response.put("blocks", JSONWriter.array(blocks, block ->
+        JSONData.streamBlock(block, includeTransactions, currentHeight, blockService.getBlockReward(block), blockService.getScoopNum(block))));
 
     return response;
   }
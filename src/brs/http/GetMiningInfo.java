@@ -2,45 +2,182 @@ package brs.http;
 
 import brs.Block;
 import brs.Blockchain;
-import brs.crypto.hash.Shabal256;
-import brs.Burst;
+import brs.BlockchainProcessor;
+import brs.crypto.ReusableDigest;
 import brs.util.Convert;
+import brs.util.JSON;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static brs.http.common.Parameters.BLOCK_HEIGHT_PARAMETER;
+
+/**
+ * Serves the mining info of the next block, computed once per pushed or popped block.
+ *
+ * If the caller passes the height it already mines on as blockheight, the request is parked with
+ * servlet async processing until the next block arrives (long poll), at most
+ * {@link #LONG_POLL_TIMEOUT_MS}, without holding a thread. Only {@link #MAX_LONG_POLLS} requests are
+ * parked at a time, others are answered right away.
+ */
 public final class GetMiningInfo extends APIServlet.APIRequestHandler {
 
+  private static final Logger logger = LoggerFactory.getLogger(GetMiningInfo.class);
+
+  static final long LONG_POLL_TIMEOUT_MS = 30000;
+  static final int MAX_LONG_POLLS = 100;
+
   private final Blockchain blockchain;
+  private final Object lock = new Object();
+  private final List<LongPoll> longPolls = new ArrayList<>();
 
-  GetMiningInfo(Blockchain blockchain) {
-    super(new APITag[] {APITag.MINING, APITag.INFO});
+  private volatile MiningInfo miningInfo;
+
+  GetMiningInfo(Blockchain blockchain, BlockchainProcessor blockchainProcessor) {
+    super(new APITag[] {APITag.MINING, APITag.INFO}, BLOCK_HEIGHT_PARAMETER);
     this.blockchain = blockchain;
+
+    blockchainProcessor.addListener(block -> update(), BlockchainProcessor.Event.BLOCK_PUSHED);
+    blockchainProcessor.addListener(block -> update(), BlockchainProcessor.Event.BLOCK_POPPED);
   }
-	
+
   @Override
   JSONStreamAware processRequest(HttpServletRequest req) {
-    JSONObject response = new JSONObject();
-		
-    response.put("height", Long.toString((long)Burst.getBlockchain().getHeight() + 1));
-		
+    MiningInfo current = getMiningInfo();
+
+    String waitHeight = Convert.emptyToNull(req.getParameter(BLOCK_HEIGHT_PARAMETER));
+    if (waitHeight == null || !waitHeight.equals(Long.toString(current.height)) || !req.isAsyncSupported()) {
+      return current.json;
+    }
+
+    synchronized (lock) {
+      if (miningInfo != current || longPolls.size() >= MAX_LONG_POLLS) {
+        return miningInfo.json;
+      }
+      LongPoll longPoll = new LongPoll(req.startAsync());
+      longPoll.asyncContext.setTimeout(LONG_POLL_TIMEOUT_MS);
+      longPoll.asyncContext.addListener(longPoll);
+      longPolls.add(longPoll);
+    }
+    return null;
+  }
+
+  /**
+   * Runs on the Jetty thread like before: it is answered from memory, and long polls are parked with
+   * servlet async processing, which only works on the request Jetty handed in.
+   */
+  @Override
+  APIBulkheads.Group getBulkheadGroup() {
+    return null;
+  }
+
+  private MiningInfo getMiningInfo() {
+    MiningInfo current = miningInfo;
+    if (current == null) {
+      update();
+      current = miningInfo;
+    }
+    return current;
+  }
+
+  private void update() {
     Block lastBlock = blockchain.getLastBlock();
-    byte[] lastGenSig = lastBlock.getGenerationSignature();
-    Long lastGenerator = lastBlock.getGeneratorId();
-		
+
     ByteBuffer buf = ByteBuffer.allocate(32 + 8);
-    buf.put(lastGenSig);
-    buf.putLong(lastGenerator);
-		
-    Shabal256 md = new Shabal256();
-    md.update(buf.array());
-    byte[] newGenSig = md.digest();
-		
+    buf.put(lastBlock.getGenerationSignature());
+    buf.putLong(lastBlock.getGeneratorId());
+
+    byte[] newGenSig = ReusableDigest.SHABAL256.digest(buf.array());
+
+    long height = (long) lastBlock.getHeight() + 1;
+
+    JSONObject response = new JSONObject();
+    response.put("height", Long.toString(height));
     response.put("generationSignature", Convert.toHexString(newGenSig));
     response.put("baseTarget", Long.toString(lastBlock.getBaseTarget()));
-		
-    return response;
+
+    MiningInfo updated = new MiningInfo(height, JSON.prepare(response));
+    List<LongPoll> answered;
+    synchronized (lock) {
+      miningInfo = updated;
+      answered = new ArrayList<>(longPolls);
+      longPolls.clear();
+    }
+    // written on container threads, so that slow clients do not hold up block processing
+    for (LongPoll longPoll : answered) {
+      longPoll.asyncContext.start(() -> longPoll.answer(updated.json));
+    }
+  }
+
+  private final class LongPoll implements AsyncListener {
+    private final AsyncContext asyncContext;
+    private final AtomicBoolean answered = new AtomicBoolean();
+
+    private LongPoll(AsyncContext asyncContext) {
+      this.asyncContext = asyncContext;
+    }
+
+    private void answer(JSONStreamAware json) {
+      if (!answered.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        APIServlet.writeResponse((HttpServletResponse) asyncContext.getResponse(), json);
+      } catch (IOException | RuntimeException e) {
+        logger.debug("Error answering mining info long poll", e);
+      } finally {
+        asyncContext.complete();
+      }
+    }
+
+    private void remove() {
+      synchronized (lock) {
+        longPolls.remove(this);
+      }
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      remove();
+      answer(miningInfo.json);
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      remove();
+      if (answered.compareAndSet(false, true)) {
+        asyncContext.complete();
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+
+  private static final class MiningInfo {
+    private final long height;
+    private final JSONStreamAware json;
+
+    private MiningInfo(long height, JSONStreamAware json) {
+      this.height = height;
+      this.json = json;
+    }
   }
 }
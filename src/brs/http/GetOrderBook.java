@@ -0,0 +1,69 @@
+package brs.http;
+
+import static brs.http.JSONResponses.INCORRECT_ASSET;
+import static brs.http.JSONResponses.MISSING_ASSET;
+import static brs.http.JSONResponses.UNKNOWN_ASSET;
+import static brs.http.common.Parameters.ASSET_PARAMETER;
+import static brs.http.common.Parameters.DEPTH_PARAMETER;
+import static brs.http.common.ResultFields.ASK_LEVELS_RESPONSE;
+import static brs.http.common.ResultFields.ASSET_RESPONSE;
+import static brs.http.common.ResultFields.BID_LEVELS_RESPONSE;
+import static brs.http.common.ResultFields.HEIGHT_RESPONSE;
+
+import brs.util.Convert;
+import javax.servlet.http.HttpServletRequest;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+/**
+ * The open orders of an asset aggregated into price levels, the best {@code depth} levels per side.
+ */
+public final class GetOrderBook extends APIServlet.APIRequestHandler {
+
+  static final int DEFAULT_DEPTH = 10;
+
+  private final OrderBookSnapshots orderBookSnapshots;
+
+  GetOrderBook(OrderBookSnapshots orderBookSnapshots) {
+    super(new APITag[] {APITag.AE}, ASSET_PARAMETER, DEPTH_PARAMETER);
+    this.orderBookSnapshots = orderBookSnapshots;
+  }
+
+  @Override
+  JSONStreamAware processRequest(HttpServletRequest req) {
+
+    String assetValue = Convert.emptyToNull(req.getParameter(ASSET_PARAMETER));
+    if (assetValue == null) {
+      return MISSING_ASSET;
+    }
+    long assetId;
+    try {
+      assetId = Convert.parseUnsignedLong(assetValue);
+    } catch (RuntimeException e) {
+      return INCORRECT_ASSET;
+    }
+    int depth = getDepth(req);
+
+    OrderBookSnapshots.Snapshot snapshot = orderBookSnapshots.get(assetId);
+    if (snapshot == null) {
+      return UNKNOWN_ASSET;
+    }
+
+    JSONObject response = new JSONObject();
+    response.put(ASSET_RESPONSE, Convert.toUnsignedLong(assetId));
+    response.put(HEIGHT_RESPONSE, snapshot.getHeight());
+    response.put(ASK_LEVELS_RESPONSE, OrderBookSnapshots.Level.toJSON(snapshot.getAsks(), depth));
+    response.put(BID_LEVELS_RESPONSE, OrderBookSnapshots.Level.toJSON(snapshot.getBids(), depth));
+    return response;
+  }
+
+  private static int getDepth(HttpServletRequest req) {
+    try {
+      int depth = Integer.parseInt(req.getParameter(DEPTH_PARAMETER));
+      return Math.max(1, Math.min(depth, OrderBookSnapshots.MAX_DEPTH));
+    } catch (NumberFormatException e) {
+      return DEFAULT_DEPTH;
+    }
+  }
+
+}
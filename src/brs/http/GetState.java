@@ -85,6 +85,8 @@ public final class GetState extends APIServlet.APIRequestHandler {
       //response.put("numberOfVotes", Vote.getCount());
     }
     response.put("numberOfPeers", Peers.getAllPeers().size());
+    response.put("numberOfSkippedBroadcasts", Peers.getSkippedBroadcasts());
+    response.put("numberOfDroppedBroadcasts", Peers.getDroppedBroadcasts());
     response.put("numberOfUnlockedAccounts", generator.getAllGenerators().size());
     Peer lastBlockchainFeeder = Burst.getBlockchainProcessor().getLastBlockchainFeeder();
     response.put("lastBlockchainFeeder", lastBlockchainFeeder == null ? null : lastBlockchainFeeder.getAnnouncedAddress());
@@ -0,0 +1,61 @@
+package brs.http;
+
+import static brs.http.JSONResponses.INCORRECT_TIMEFRAME;
+import static brs.http.common.Parameters.ASSET_PARAMETER;
+import static brs.http.common.Parameters.FIRST_INDEX_PARAMETER;
+import static brs.http.common.Parameters.LAST_INDEX_PARAMETER;
+import static brs.http.common.Parameters.TIMEFRAME_PARAMETER;
+import static brs.http.common.ResultFields.CANDLES_RESPONSE;
+
+import brs.Asset;
+import brs.BurstException;
+import brs.TradeCandle;
+import brs.assetexchange.AssetExchange;
+import brs.services.ParameterService;
+import brs.util.Convert;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Open, high, low, close and volume of the trades of an asset per timeframe, latest candle first.
+ * The start of a candle is a timestamp for the 1h and 1d timeframes, on whole UTC hours and days,
+ * and a height for 360b.
+ */
+public final class GetTradeCandles extends APIServlet.APIRequestHandler {
+
+  private final ParameterService parameterService;
+  private final AssetExchange assetExchange;
+
+  GetTradeCandles(ParameterService parameterService, AssetExchange assetExchange) {
+    super(new APITag[] {APITag.AE}, ASSET_PARAMETER, TIMEFRAME_PARAMETER, FIRST_INDEX_PARAMETER, LAST_INDEX_PARAMETER);
+    this.parameterService = parameterService;
+    this.assetExchange = assetExchange;
+  }
+
+  @Override
+  JSONStreamAware processRequest(HttpServletRequest req) throws BurstException {
+
+    String timeframeValue = Convert.emptyToNull(req.getParameter(TIMEFRAME_PARAMETER));
+    TradeCandle.Timeframe timeframe = timeframeValue == null ? TradeCandle.Timeframe.HOUR : TradeCandle.Timeframe.fromName(timeframeValue);
+    if (timeframe == null) {
+      return INCORRECT_TIMEFRAME;
+    }
+
+    Asset asset = parameterService.getAsset(req);
+    int firstIndex = ParameterParser.getFirstIndex(req);
+    int lastIndex = ParameterParser.getLastIndex(req);
+
+    JSONArray candles = new JSONArray();
+    for (TradeCandle candle : assetExchange.getCandles(asset.getId(), timeframe, firstIndex, lastIndex)) {
+      candles.add(JSONData.tradeCandle(candle));
+    }
+
+    JSONObject response = new JSONObject();
+    response.put(CANDLES_RESPONSE, candles);
+    return response;
+  }
+
+}
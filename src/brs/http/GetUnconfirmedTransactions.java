@@ -4,11 +4,13 @@ import brs.Transaction;
 import brs.TransactionProcessor;
 import brs.db.BurstIterator;
 import brs.util.Convert;
-import org.json.simple.JSONArray;
+import brs.util.JSONWriter;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
 
 import static brs.http.JSONResponses.INCORRECT_ACCOUNT;
 import static brs.http.common.Parameters.ACCOUNT_PARAMETER;
@@ -36,16 +38,16 @@ public final class GetUnconfirmedTransactions extends APIServlet.APIRequestHandl
       }
     }
 
-    JSONArray transactions = new JSONArray();
+    List<Transaction> transactions = new ArrayList<>();
     for ( Transaction transaction : transactionProcessor.getAllUnconfirmedTransactions()) {
       if (accountId != 0 && !(accountId == transaction.getSenderId() || accountId == transaction.getRecipientId())) {
         continue;
       }
-      transactions.add(JSONData.unconfirmedTransaction(transaction));
+      transactions.add(transaction);
     }
 
     JSONObject response = new JSONObject();
-    response.put("unconfirmedTransactions", transactions);
+    response.put("unconfirmedTransactions", JSONWriter.array(transactions, JSONData::streamUnconfirmedTransaction));
     return response;
   }
 
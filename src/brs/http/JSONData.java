@@ -19,6 +19,7 @@ import static brs.http.common.ResultFields.BLOCK_REWARD_RESPONSE;
 import static brs.http.common.ResultFields.BLOCK_SIGNATURE_RESPONSE;
 import static brs.http.common.ResultFields.BLOCK_TIMESTAMP_RESPONSE;
 import static brs.http.common.ResultFields.BUYER_RESPONSE;
+import static brs.http.common.ResultFields.CLOSE_NQT_RESPONSE;
 import static brs.http.common.ResultFields.CONFIRMATIONS_RESPONSE;
 import static brs.http.common.ResultFields.DATA_RESPONSE;
 import static brs.http.common.ResultFields.DEADLINE_ACTION_RESPONSE;
@@ -45,8 +46,10 @@ import static brs.http.common.ResultFields.GOODS_IS_TEXT_RESPONSE;
 import static brs.http.common.ResultFields.GOODS_RESPONSE;
 import static brs.http.common.ResultFields.GUARANTEED_BALANCE_NQT_RESPONSE;
 import static brs.http.common.ResultFields.HEIGHT_RESPONSE;
+import static brs.http.common.ResultFields.HIGH_NQT_RESPONSE;
 import static brs.http.common.ResultFields.ID_RESPONSE;
 import static brs.http.common.ResultFields.ID_RS_RESPONSE;
+import static brs.http.common.ResultFields.LOW_NQT_RESPONSE;
 import static brs.http.common.ResultFields.NAME_RESPONSE;
 import static brs.http.common.ResultFields.NEXT_BLOCK_RESPONSE;
 import static brs.http.common.ResultFields.NONCE_RESPONSE;
@@ -55,6 +58,7 @@ import static brs.http.common.ResultFields.NUMBER_OF_ACCOUNTS_RESPONSE;
 import static brs.http.common.ResultFields.NUMBER_OF_TRADES_RESPONSE;
 import static brs.http.common.ResultFields.NUMBER_OF_TRANSACTIONS_RESPONSE;
 import static brs.http.common.ResultFields.NUMBER_OF_TRANSFERS_RESPONSE;
+import static brs.http.common.ResultFields.OPEN_NQT_RESPONSE;
 import static brs.http.common.ResultFields.ORDER_RESPONSE;
 import static brs.http.common.ResultFields.PAYLOAD_HASH_RESPONSE;
 import static brs.http.common.ResultFields.PAYLOAD_LENGTH_RESPONSE;
@@ -80,8 +84,10 @@ import static brs.http.common.ResultFields.SENDER_RS_RESPONSE;
 import static brs.http.common.ResultFields.SIGNATURE_HASH_RESPONSE;
 import static brs.http.common.ResultFields.SIGNATURE_RESPONSE;
 import static brs.http.common.ResultFields.SIGNERS_RESPONSE;
+import static brs.http.common.ResultFields.START_RESPONSE;
 import static brs.http.common.ResultFields.SUBTYPE_RESPONSE;
 import static brs.http.common.ResultFields.TAGS_RESPONSE;
+import static brs.http.common.ResultFields.TIMEFRAME_RESPONSE;
 import static brs.http.common.ResultFields.TIMESTAMP_RESPONSE;
 import static brs.http.common.ResultFields.TIME_NEXT_RESPONSE;
 import static brs.http.common.ResultFields.TOTAL_AMOUNT_NQT_RESPONSE;
@@ -103,8 +109,10 @@ import brs.peer.Peer;
 import brs.db.BurstIterator;
 import brs.services.AccountService;
 import brs.util.Convert;
+import brs.util.JSONWriter;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -195,6 +203,23 @@ public final class JSONData {
 
   static JSONObject block(Block block, boolean includeTransactions, int currentBlockchainHeight, long blockReward, int scoopNum) {
     JSONObject json = new JSONObject();
+    JSONArray transactions = new JSONArray();
+    for (Transaction transaction : block.getTransactions()) {
+      transactions.add(includeTransactions ? transaction(transaction, currentBlockchainHeight) : Convert.toUnsignedLong(transaction.getId()));
+    }
+    block(json::put, block, blockReward, scoopNum, transactions);
+    return json;
+  }
+
+  /**
+   * Same as {@link #block(Block, boolean, int, long, int)}, written straight to the response.
+   */
+  static JSONStreamAware streamBlock(Block block, boolean includeTransactions, int currentBlockchainHeight, long blockReward, int scoopNum) {
+    return JSONWriter.object(json -> block(json, block, blockReward, scoopNum,
+        JSONWriter.array(block.getTransactions(), transaction -> includeTransactions ? streamTransaction(transaction, currentBlockchainHeight) : Convert.toUnsignedLong(transaction.getId()))));
+  }
+
+  private static void block(JSONWriter.Fields json, Block block, long blockReward, int scoopNum, Object transactions) {
     json.put(BLOCK_RESPONSE, block.getStringId());
     json.put(HEIGHT_RESPONSE, block.getHeight());
     putAccount(json, GENERATOR_RESPONSE, block.getGeneratorId());
@@ -226,13 +251,7 @@ public final class JSONData {
     }
 
     json.put(BLOCK_SIGNATURE_RESPONSE, Convert.toHexString(block.getBlockSignature()));
-
-    JSONArray transactions = new JSONArray();
-    for (Transaction transaction : block.getTransactions()) {
-      transactions.add(includeTransactions ? transaction(transaction, currentBlockchainHeight) : Convert.toUnsignedLong(transaction.getId()));
-    }
     json.put(TRANSACTIONS_RESPONSE, transactions);
-    return json;
   }
 
   static JSONObject encryptedData(EncryptedData encryptedData) {
@@ -306,6 +325,7 @@ public final class JSONData {
     json.put("platform", peer.getPlatform());
     json.put("blacklisted", peer.isBlacklisted());
     json.put("lastUpdated", peer.getLastUpdated());
+    json.put("broadcastLatency", peer.getBroadcastLatency());
     return json;
   }
 
@@ -385,6 +405,21 @@ public final class JSONData {
     return json;
   }
 
+  static JSONObject tradeCandle(TradeCandle candle) {
+    JSONObject json = new JSONObject();
+    json.put(ASSET_RESPONSE, Convert.toUnsignedLong(candle.getAssetId()));
+    json.put(TIMEFRAME_RESPONSE, candle.getTimeframe().getName());
+    json.put(START_RESPONSE, candle.getStart());
+    json.put(OPEN_NQT_RESPONSE, String.valueOf(candle.getOpenNQT()));
+    json.put(HIGH_NQT_RESPONSE, String.valueOf(candle.getHighNQT()));
+    json.put(LOW_NQT_RESPONSE, String.valueOf(candle.getLowNQT()));
+    json.put(CLOSE_NQT_RESPONSE, String.valueOf(candle.getCloseNQT()));
+    json.put(QUANTITY_QNT_RESPONSE, String.valueOf(candle.getQuantityQNT()));
+    json.put(NUMBER_OF_TRADES_RESPONSE, candle.getTradeCount());
+    json.put(HEIGHT_RESPONSE, candle.getHeight());
+    return json;
+  }
+
   static JSONObject assetTransfer(AssetTransfer assetTransfer, Asset asset) {
     JSONObject json = new JSONObject();
     json.put(ASSET_TRANSFER_RESPONSE, Convert.toUnsignedLong(assetTransfer.getId()));
@@ -404,6 +439,15 @@ public final class JSONData {
 
   static JSONObject unconfirmedTransaction(Transaction transaction) {
     JSONObject json = new JSONObject();
+    unconfirmedTransaction(json::put, transaction);
+    return json;
+  }
+
+  static JSONStreamAware streamUnconfirmedTransaction(Transaction transaction) {
+    return JSONWriter.object(json -> unconfirmedTransaction(json, transaction));
+  }
+
+  private static void unconfirmedTransaction(JSONWriter.Fields json, Transaction transaction) {
     json.put(TYPE_RESPONSE, transaction.getType().getType());
     json.put(SUBTYPE_RESPONSE, transaction.getType().getSubtype());
     json.put(TIMESTAMP_RESPONSE, transaction.getTimestamp());
@@ -443,16 +487,23 @@ public final class JSONData {
       json.put(EC_BLOCK_ID_RESPONSE, Convert.toUnsignedLong(transaction.getECBlockId()));
       json.put(EC_BLOCK_HEIGHT_RESPONSE, transaction.getECBlockHeight());
     }
+  }
 
+  public static JSONObject transaction(Transaction transaction, int currentBlockchainHeight) {
+    JSONObject json = new JSONObject();
+    transaction(json::put, transaction, currentBlockchainHeight);
     return json;
   }
 
-  public static JSONObject transaction(Transaction transaction, int currentBlockchainHeight) {
-    JSONObject json = unconfirmedTransaction(transaction);
+  static JSONStreamAware streamTransaction(Transaction transaction, int currentBlockchainHeight) {
+    return JSONWriter.object(json -> transaction(json, transaction, currentBlockchainHeight));
+  }
+
+  private static void transaction(JSONWriter.Fields json, Transaction transaction, int currentBlockchainHeight) {
+    unconfirmedTransaction(json, transaction);
     json.put(BLOCK_RESPONSE, Convert.toUnsignedLong(transaction.getBlockId()));
     json.put(CONFIRMATIONS_RESPONSE, currentBlockchainHeight - transaction.getHeight());
     json.put(BLOCK_TIMESTAMP_RESPONSE, transaction.getBlockTimestamp());
-    return json;
   }
 
   // ugly, hopefully temporary
@@ -476,6 +527,10 @@ public final class JSONData {
   }
 
   static void putAccount(JSONObject json, String name, long accountId) {
+    putAccount(json::put, name, accountId);
+  }
+
+  private static void putAccount(JSONWriter.Fields json, String name, long accountId) {
     json.put(name, Convert.toUnsignedLong(accountId));
     json.put(name + "RS", Convert.rsAccount(accountId));
   }
@@ -42,6 +42,8 @@ public final class JSONResponses {
   public static final JSONStreamAware MISSING_ASSET = missing(ASSET_PARAMETER);
   public static final JSONStreamAware UNKNOWN_ASSET = unknown(ASSET_PARAMETER);
   public static final JSONStreamAware INCORRECT_ASSET = incorrect(ASSET_PARAMETER);
+  public static final JSONStreamAware INCORRECT_ASSETS_COUNT = incorrect(ASSETS_PARAMETER, "(at most " + GetBestOrders.MAX_ASSETS + " assets per request)");
+  public static final JSONStreamAware INCORRECT_TIMEFRAME = incorrect(TIMEFRAME_PARAMETER, "(must be one of 1h, 1d, 360b)");
   public static final JSONStreamAware UNKNOWN_BLOCK = unknown(BLOCK_PARAMETER);
   public static final JSONStreamAware INCORRECT_BLOCK = incorrect(BLOCK_PARAMETER);
   public static final JSONStreamAware INCORRECT_NUMBER_OF_CONFIRMATIONS = incorrect(NUMBER_OF_CONFIRMATIONS_PARAMETER);
@@ -142,6 +144,22 @@ public final class JSONResponses {
     ERROR_INCORRECT_REQUEST = JSON.prepare(response);
   }
 
+  public static final JSONStreamAware ERROR_BUSY;
+  static {
+    JSONObject response = new JSONObject();
+    response.put(ERROR_CODE_RESPONSE, 10);
+    response.put(ERROR_DESCRIPTION_RESPONSE, "Server busy");
+    ERROR_BUSY = JSON.prepare(response);
+  }
+
+  public static final JSONStreamAware ERROR_TIMEOUT;
+  static {
+    JSONObject response = new JSONObject();
+    response.put(ERROR_CODE_RESPONSE, 10);
+    response.put(ERROR_DESCRIPTION_RESPONSE, "Request timed out");
+    ERROR_TIMEOUT = JSON.prepare(response);
+  }
+
   public static final JSONStreamAware NOT_FORGING;
   static {
     JSONObject response = new JSONObject();
@@ -0,0 +1,166 @@
+package brs.http;
+
+import brs.Blockchain;
+import brs.BlockchainProcessor;
+import brs.Order;
+import brs.assetexchange.AssetExchange;
+import brs.db.BurstIterator;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static brs.http.common.ResultFields.ORDERS_RESPONSE;
+import static brs.http.common.ResultFields.PRICE_NQT_RESPONSE;
+import static brs.http.common.ResultFields.QUANTITY_QNT_RESPONSE;
+
+/**
+ * The open orders of assets aggregated into price levels, read from the order tables once per block
+ * and asset and served from memory until the next block is pushed or popped. Only existing assets
+ * are loaded and kept.
+ */
+final class OrderBookSnapshots {
+
+  static final int MAX_DEPTH = 100;
+
+  private final Blockchain blockchain;
+  private final AssetExchange assetExchange;
+
+  private final ConcurrentMap<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  OrderBookSnapshots(Blockchain blockchain, BlockchainProcessor blockchainProcessor, AssetExchange assetExchange) {
+    this.blockchain = blockchain;
+    this.assetExchange = assetExchange;
+
+    blockchainProcessor.addListener(block -> snapshots.clear(), BlockchainProcessor.Event.BLOCK_PUSHED);
+    blockchainProcessor.addListener(block -> snapshots.clear(), BlockchainProcessor.Event.BLOCK_POPPED);
+  }
+
+  /**
+   * @return the order book of the asset, or null if there is no such asset
+   */
+  Snapshot get(long assetId) {
+    long lastBlockId = blockchain.getLastBlock().getId();
+    Snapshot snapshot = snapshots.get(assetId);
+    if (snapshot == null || snapshot.lastBlockId != lastBlockId) {
+      if (assetExchange.getAsset(assetId) == null) {
+        return null;
+      }
+      // the last block is read before the orders, so a block pushed in between only causes a reload
+      snapshot = load(assetId, lastBlockId);
+      snapshots.put(assetId, snapshot);
+    }
+    return snapshot;
+  }
+
+  private Snapshot load(long assetId, long lastBlockId) {
+    int height = blockchain.getHeight();
+    List<Level> asks;
+    try (BurstIterator<Order.Ask> askOrders = assetExchange.getSortedAskOrders(assetId, 0, -1)) {
+      asks = levels(askOrders);
+    }
+    List<Level> bids;
+    try (BurstIterator<Order.Bid> bidOrders = assetExchange.getSortedBidOrders(assetId, 0, -1)) {
+      bids = levels(bidOrders);
+    }
+    return new Snapshot(lastBlockId, height, asks, bids);
+  }
+
+  private static List<Level> levels(BurstIterator<? extends Order> orders) {
+    List<Level> levels = new ArrayList<>();
+    Level level = null;
+    while (orders.hasNext()) {
+      Order order = orders.next();
+      if (level == null || level.priceNQT != order.getPriceNQT()) {
+        if (levels.size() == MAX_DEPTH) {
+          break;
+        }
+        level = new Level(order.getPriceNQT());
+        levels.add(level);
+      }
+      level.quantityQNT += order.getQuantityQNT();
+      level.orders++;
+    }
+    return Collections.unmodifiableList(levels);
+  }
+
+  static final class Snapshot {
+    private final long lastBlockId;
+    private final int height;
+    private final List<Level> asks;
+    private final List<Level> bids;
+
+    private Snapshot(long lastBlockId, int height, List<Level> asks, List<Level> bids) {
+      this.lastBlockId = lastBlockId;
+      this.height = height;
+      this.asks = asks;
+      this.bids = bids;
+    }
+
+    int getHeight() {
+      return height;
+    }
+
+    /**
+     * @return the ask price levels, lowest price first
+     */
+    List<Level> getAsks() {
+      return asks;
+    }
+
+    /**
+     * @return the bid price levels, highest price first
+     */
+    List<Level> getBids() {
+      return bids;
+    }
+
+    Level getBestAsk() {
+      return asks.isEmpty() ? null : asks.get(0);
+    }
+
+    Level getBestBid() {
+      return bids.isEmpty() ? null : bids.get(0);
+    }
+  }
+
+  static final class Level {
+    private final long priceNQT;
+    private long quantityQNT;
+    private int orders;
+
+    private Level(long priceNQT) {
+      this.priceNQT = priceNQT;
+    }
+
+    long getPriceNQT() {
+      return priceNQT;
+    }
+
+    long getQuantityQNT() {
+      return quantityQNT;
+    }
+
+    int getOrders() {
+      return orders;
+    }
+
+    JSONObject toJSON() {
+      JSONObject json = new JSONObject();
+      json.put(PRICE_NQT_RESPONSE, String.valueOf(priceNQT));
+      json.put(QUANTITY_QNT_RESPONSE, String.valueOf(quantityQNT));
+      json.put(ORDERS_RESPONSE, orders);
+      return json;
+    }
+
+    static JSONArray toJSON(List<Level> levels, int depth) {
+      JSONArray json = new JSONArray();
+      levels.stream().limit(depth).forEach(level -> json.add(level.toJSON()));
+      return json;
+    }
+  }
+}
@@ -59,6 +59,17 @@ public final class SubmitNonce extends APIServlet.APIRequestHandler {
 
     byte[] secretPublicKey = Crypto.getPublicKey(secret);
     Account secretAccount = accountService.getAccount(secretPublicKey);
+    return submit(accountService, blockchain, generator, secret, secretAccount, accountId, nonce);
+  }
+
+  /**
+   * Checks that the passphrase may mine for the given (or its own) account and hands the nonce
+   * to the generator. Shared with {@link SubmitNonces}.
+   */
+  static JSONObject submit(AccountService accountService, Blockchain blockchain, Generator generator,
+                           String secret, Account secretAccount, String accountId, long nonce) {
+    JSONObject response = new JSONObject();
+
     if(secretAccount != null) {
       Account genAccount;
       if(accountId != null) {
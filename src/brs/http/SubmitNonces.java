@@ -0,0 +1,114 @@
+package brs.http;
+
+import brs.Account;
+import brs.Blockchain;
+import brs.Generator;
+import brs.crypto.Crypto;
+import brs.services.AccountService;
+import brs.util.Convert;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashSet;
+import java.util.Set;
+
+import static brs.http.common.Parameters.*;
+
+/**
+ * Batch variant of {@link SubmitNonce}: one passphrase and any number of nonces, each optionally
+ * paired with the account it was found for (by position of the repeated accountId parameter).
+ */
+public final class SubmitNonces extends APIServlet.APIRequestHandler {
+
+  static final int MAX_NONCES = 100;
+
+  private final AccountService accountService;
+  private final Blockchain blockchain;
+  private final Generator generator;
+
+  SubmitNonces(AccountService accountService, Blockchain blockchain, Generator generator) {
+    super(new APITag[] {APITag.MINING}, SECRET_PHRASE_PARAMETER, NONCE_PARAMETER, ACCOUNT_ID_PARAMETER, BLOCK_HEIGHT_PARAMETER);
+
+    this.accountService = accountService;
+    this.blockchain = blockchain;
+    this.generator = generator;
+  }
+
+  @Override
+  JSONStreamAware processRequest(HttpServletRequest req) {
+    String secret = req.getParameter(SECRET_PHRASE_PARAMETER);
+    String[] nonces = req.getParameterValues(NONCE_PARAMETER);
+    String[] accountIds = req.getParameterValues(ACCOUNT_ID_PARAMETER);
+
+    String submissionHeight = Convert.emptyToNull(req.getParameter(BLOCK_HEIGHT_PARAMETER));
+
+    JSONObject response = new JSONObject();
+
+    if (submissionHeight != null) {
+      try {
+        int height = Integer.parseInt(submissionHeight);
+        if (height != blockchain.getHeight() + 1) {
+          response.put("result", "Given block height does not match current blockchain height");
+          return response;
+        }
+      } catch (NumberFormatException e) {
+        response.put("result", "Given block height is not a number");
+        return response;
+      }
+    }
+
+    if (secret == null) {
+      response.put("result", "Missing Passphrase");
+      return response;
+    }
+    if (nonces == null || nonces.length == 0) {
+      response.put("result", "Missing nonces");
+      return response;
+    }
+    if (nonces.length > MAX_NONCES) {
+      response.put("result", "Too many nonces, at most " + MAX_NONCES + " per request");
+      return response;
+    }
+    if (accountIds != null && accountIds.length != nonces.length) {
+      response.put("result", "Number of account ids does not match number of nonces");
+      return response;
+    }
+
+    byte[] secretPublicKey = Crypto.getPublicKey(secret);
+    Account secretAccount = accountService.getAccount(secretPublicKey);
+
+    JSONArray results = new JSONArray();
+    Set<String> submitted = new HashSet<>();
+    for (int i = 0; i < nonces.length; i++) {
+      String accountId = accountIds == null ? null : Convert.emptyToNull(accountIds[i]);
+      JSONObject result;
+      try {
+        long nonce = Convert.parseUnsignedLong(nonces[i]);
+        if (submitted.add(accountId + ":" + nonce)) {
+          result = SubmitNonce.submit(accountService, blockchain, generator, secret, secretAccount, accountId, nonce);
+        } else {
+          result = new JSONObject();
+          result.put("result", "Duplicate nonce");
+        }
+      } catch (RuntimeException e) {
+        result = new JSONObject();
+        result.put("result", "Incorrect nonce or account id");
+      }
+      if (accountId != null) {
+        result.put("accountId", accountId);
+      }
+      result.put("nonce", nonces[i]);
+      results.add(result);
+    }
+
+    response.put("results", results);
+    return response;
+  }
+
+  @Override
+  boolean requirePost() {
+    return true;
+  }
+}
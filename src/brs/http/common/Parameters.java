@@ -116,6 +116,8 @@ public class Parameters {
   public static final String ESCROW_ID_PARAMETER = "escrowId";
   public static final String SUBSCRIPTION_ID_PARAMETER = "subscriptionId";
   public static final String BLOCK_HEIGHT_PARAMETER = "blockheight";
+  public static final String DEPTH_PARAMETER = "depth";
+  public static final String TIMEFRAME_PARAMETER = "timeframe";
   public static final String SUBSCRIPTIONS_RESPONSE = "subscriptions";
   public static final String ESCROWS_RESPONSE = "escrows";
   public static final String ACCOUNTS_RESPONSE = "accounts";
@@ -138,5 +138,29 @@ public class ResultFields {
   public static final String ESCROW_ID_RESPONSE = "escrowId";
   public static final String SUBSCRIPTION_ID_RESPONSE = "subscriptionId";
   public static final String CREATION_BYTES_RESPONSE = "creationBytes";
+  public static final String ASK_LEVELS_RESPONSE = "askLevels";
+  public static final String BID_LEVELS_RESPONSE = "bidLevels";
+  public static final String ORDERS_RESPONSE = "orders";
+  public static final String BEST_ASK_RESPONSE = "bestAsk";
+  public static final String BEST_BID_RESPONSE = "bestBid";
+  public static final String CANDLES_RESPONSE = "candles";
+  public static final String TIMEFRAME_RESPONSE = "timeframe";
+  public static final String START_RESPONSE = "start";
+  public static final String OPEN_NQT_RESPONSE = "openNQT";
+  public static final String HIGH_NQT_RESPONSE = "highNQT";
+  public static final String LOW_NQT_RESPONSE = "lowNQT";
+  public static final String CLOSE_NQT_RESPONSE = "closeNQT";
+  public static final String ENABLED_RESPONSE = "enabled";
+  public static final String PHASES_RESPONSE = "phases";
+  public static final String COUNT_RESPONSE = "count";
+  public static final String MEAN_MICROS_RESPONSE = "meanMicros";
+  public static final String P50_MICROS_RESPONSE = "p50Micros";
+  public static final String P90_MICROS_RESPONSE = "p90Micros";
+  public static final String P99_MICROS_RESPONSE = "p99Micros";
+  public static final String MAX_MICROS_RESPONSE = "maxMicros";
+  public static final String PARALLEL_ATS_RESPONSE = "parallelATs";
+  public static final String PARALLEL_BLOCKS_RESPONSE = "parallelBlocks";
+  public static final String FALLBACKS_RESPONSE = "fallbacks";
+  public static final String SPEEDUP_RESPONSE = "speedup";
 
 }
@@ -0,0 +1,194 @@
+package brs.peer;
+
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Sends already serialised blocks and transactions to peers on a bounded pool of threads.
+ *
+ * A broadcast starts as many sends as it needs successful deliveries and starts the next one
+ * whenever a send fails, so no thread waits for the responses of others. A peer is skipped while it
+ * already has {@link #MAX_IN_FLIGHT_PER_PEER} broadcasts in flight, and sends that do not fit in the
+ * queue are dropped. Both are counted, see {@link #getSkipped()} and {@link #getDropped()}.
+ *
+ * A broadcast can carry a fallback request for peers that do not support the request type of the
+ * first one, such as the full block for peers that do not understand compact blocks. Such peers are
+ * remembered and get the fallback right away from then on.
+ *
+ * Callers that need to know which peers got a broadcast pass a callback that runs for every peer
+ * that accepted it, on the broadcast thread.
+ */
+final class Broadcaster {
+
+  private static final Logger logger = LoggerFactory.getLogger(Broadcaster.class);
+
+  static final int MAX_IN_FLIGHT_PER_PEER = 2;
+
+  private final ThreadPoolExecutor executor;
+  private final ConcurrentMap<Peer, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+  private final AtomicLong skipped = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final Set<Peer> fallbackPeers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  Broadcaster(int threads, int queueSize) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+      Thread thread = new Thread(runnable, "broadcast-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Sends the request to peers in the given order until {@code limit} of them accepted it.
+   */
+  void sendToSome(JSONStreamAware request, Collection<? extends Peer> peers, int limit) {
+    sendToSome(request, null, peers, limit);
+  }
+
+  /**
+   * Like {@link #sendToSome(JSONStreamAware, Collection, int)}, sending {@code fallbackRequest} to peers
+   * that answer {@code request} with an error.
+   */
+  void sendToSome(JSONStreamAware request, JSONStreamAware fallbackRequest, Collection<? extends Peer> peers, int limit) {
+    new Broadcast(request, fallbackRequest, peers.iterator(), limit, null).fill();
+  }
+
+  void sendToAll(JSONStreamAware request, Collection<? extends Peer> peers) {
+    sendToSome(request, peers, peers.size());
+  }
+
+  /**
+   * Like {@link #sendToAll(JSONStreamAware, Collection)}, calling {@code onDelivered} for every peer
+   * that accepted the request. Peers that were skipped, dropped or failed are not reported.
+   */
+  void sendToAll(JSONStreamAware request, Collection<? extends Peer> peers, Consumer<Peer> onDelivered) {
+    new Broadcast(request, null, peers.iterator(), peers.size(), onDelivered).fill();
+  }
+
+  /**
+   * @return the number of sends skipped because the peer was busy with other broadcasts
+   */
+  long getSkipped() {
+    return skipped.get();
+  }
+
+  /**
+   * @return the number of broadcasts cut short because the queue was full
+   */
+  long getDropped() {
+    return dropped.get();
+  }
+
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private boolean acquire(Peer peer) {
+    AtomicInteger count = inFlight.computeIfAbsent(peer, p -> new AtomicInteger());
+    if (count.incrementAndGet() > MAX_IN_FLIGHT_PER_PEER) {
+      count.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  private void release(Peer peer) {
+    inFlight.computeIfPresent(peer, (p, count) -> count.decrementAndGet() == 0 ? null : count);
+  }
+
+  private final class Broadcast {
+
+    private final JSONStreamAware request;
+    private final JSONStreamAware fallbackRequest;
+    private final Iterator<? extends Peer> peers;
+    private final int limit;
+    private final Consumer<Peer> onDelivered;
+
+    private int successful;
+    private int pending;
+
+    private Broadcast(JSONStreamAware request, JSONStreamAware fallbackRequest, Iterator<? extends Peer> peers, int limit,
+                      Consumer<Peer> onDelivered) {
+      this.request = request;
+      this.fallbackRequest = fallbackRequest;
+      this.peers = peers;
+      this.limit = limit;
+      this.onDelivered = onDelivered;
+    }
+
+    private synchronized void fill() {
+      while (successful + pending < limit && peers.hasNext()) {
+        Peer peer = peers.next();
+        if (!acquire(peer)) {
+          skipped.incrementAndGet();
+          continue;
+        }
+        try {
+          executor.execute(() -> send(peer));
+          pending++;
+        } catch (RejectedExecutionException e) {
+          release(peer);
+          dropped.incrementAndGet();
+          logger.debug("Broadcast queue full, dropping broadcast to remaining peers");
+          return;
+        }
+      }
+    }
+
+    private void send(Peer peer) {
+      boolean delivered = false;
+      try {
+        long start = System.currentTimeMillis();
+        JSONObject response;
+        if (fallbackRequest != null && fallbackPeers.contains(peer)) {
+          response = peer.send(fallbackRequest);
+        } else {
+          response = peer.send(request);
+          if (fallbackRequest != null && response != null && response.get("error") != null) {
+            if (PeerServlet.UNSUPPORTED_REQUEST_TYPE_ERROR.equals(response.get("error"))) {
+              fallbackPeers.add(peer);
+            }
+            response = peer.send(fallbackRequest);
+          }
+        }
+        delivered = response != null && response.get("error") == null;
+        if (delivered) {
+          peer.updateBroadcastLatency(System.currentTimeMillis() - start);
+        }
+      } catch (RuntimeException e) {
+        logger.debug("Error broadcasting to peer " + peer.getPeerAddress(), e);
+      } finally {
+        release(peer);
+        synchronized (this) {
+          pending--;
+          if (delivered) {
+            successful++;
+          }
+        }
+      }
+      if (delivered && onDelivered != null) {
+        onDelivered.accept(peer);
+      }
+      fill();
+    }
+  }
+}
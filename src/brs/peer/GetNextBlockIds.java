@@ -1,7 +1,9 @@
 package brs.peer;
 
 import brs.Blockchain;
+import brs.BlockchainProcessor;
 import brs.util.Convert;
+import brs.util.JSON;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
@@ -10,21 +12,30 @@ import java.util.List;
 
 final class GetNextBlockIds extends PeerServlet.PeerRequestHandler {
 
+  static final int MAX_BLOCK_IDS = 100;
+
   private final Blockchain blockchain;
+  private final PreparedResponseCache cache = new PreparedResponseCache(64);
 
-  GetNextBlockIds(Blockchain blockchain) {
+  GetNextBlockIds(Blockchain blockchain, BlockchainProcessor blockchainProcessor) {
     this.blockchain = blockchain;
+    blockchainProcessor.addListener(block -> cache.clear(), BlockchainProcessor.Event.BLOCK_POPPED);
   }
 
 
   @Override
   JSONStreamAware processRequest(JSONObject request, Peer peer) {
 
+    long blockId = Convert.parseUnsignedLong(request.get("blockId").toString());
+    JSONStreamAware cachedResponse = cache.get(blockId, blockchain);
+    if (cachedResponse != null) {
+      return cachedResponse;
+    }
+
     JSONObject response = new JSONObject();
 
     JSONArray nextBlockIds = new JSONArray();
-    long blockId = Convert.parseUnsignedLong(request.get("blockId").toString());
-    List<Long> ids = blockchain.getBlockIdsAfter(blockId, 100);
+    List<Long> ids = blockchain.getBlockIdsAfter(blockId, MAX_BLOCK_IDS);
 
     for (Long id : ids) {
       nextBlockIds.add(Convert.toUnsignedLong(id));
@@ -32,7 +43,11 @@ final class GetNextBlockIds extends PeerServlet.PeerRequestHandler {
 
     response.put("nextBlockIds", nextBlockIds);
 
-    return response;
+    JSONStreamAware preparedResponse = JSON.prepare(response);
+    if (ids.size() == MAX_BLOCK_IDS) {
+      cache.put(blockId, ids.get(ids.size() - 1), preparedResponse);
+    }
+    return preparedResponse;
   }
 
 }
@@ -2,8 +2,10 @@ package brs.peer;
 
 import brs.Block;
 import brs.Blockchain;
+import brs.BlockchainProcessor;
 import brs.Constants;
 import brs.util.Convert;
+import brs.util.JSON;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
@@ -13,26 +15,38 @@ import java.util.List;
 
 final class GetNextBlocks extends PeerServlet.PeerRequestHandler {
 
+  static final int MAX_BLOCKS = 100;
+  static final int MAX_LENGTH = 1048576;
+
   private final Blockchain blockchain;
+  private final PreparedResponseCache cache = new PreparedResponseCache(16);
 
-  GetNextBlocks(Blockchain blockchain) {
+  GetNextBlocks(Blockchain blockchain, BlockchainProcessor blockchainProcessor) {
     this.blockchain = blockchain;
+    blockchainProcessor.addListener(block -> cache.clear(), BlockchainProcessor.Event.BLOCK_POPPED);
   }
 
 
   @Override
   JSONStreamAware processRequest(JSONObject request, Peer peer) {
 
+    long blockId = Convert.parseUnsignedLong(request.get("blockId").toString());
+    JSONStreamAware cachedResponse = cache.get(blockId, blockchain);
+    if (cachedResponse != null) {
+      return cachedResponse;
+    }
+
     JSONObject response = new JSONObject();
 
     List<Block> nextBlocks = new ArrayList<>();
     int totalLength = 0;
-    long blockId = Convert.parseUnsignedLong(request.get("blockId").toString());
-    List<? extends Block> blocks = blockchain.getBlocksAfter(blockId, 100);
+    boolean complete = false;
+    List<? extends Block> blocks = blockchain.getBlocksAfter(blockId, MAX_BLOCKS);
 
     for (Block block : blocks) {
       int length = Constants.BLOCK_HEADER_LENGTH + block.getPayloadLength();
-      if (totalLength + length > 1048576) {
+      if (totalLength + length > MAX_LENGTH) {
+        complete = true;
         break;
       }
       nextBlocks.add(block);
@@ -45,7 +59,11 @@ final class GetNextBlocks extends PeerServlet.PeerRequestHandler {
     }
     response.put("nextBlocks", nextBlocksArray);
 
-    return response;
+    JSONStreamAware preparedResponse = JSON.prepare(response);
+    if ((complete || blocks.size() == MAX_BLOCKS) && !nextBlocks.isEmpty()) {
+      cache.put(blockId, nextBlocks.get(nextBlocks.size() - 1).getId(), preparedResponse);
+    }
+    return preparedResponse;
   }
 
 }
@@ -0,0 +1,53 @@
+package brs.peer;
+
+import brs.Blockchain;
+import brs.Transaction;
+import brs.TransactionProcessor;
+import brs.util.Convert;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+/**
+ * Unconfirmed or confirmed transactions by id, for peers rebuilding a compact block that miss some of
+ * its transactions. Unknown ids are left out.
+ */
+final class GetTransactions extends PeerServlet.PeerRequestHandler {
+
+  static final int MAX_TRANSACTION_IDS = 1024;
+
+  private final Blockchain blockchain;
+  private final TransactionProcessor transactionProcessor;
+
+  GetTransactions(Blockchain blockchain, TransactionProcessor transactionProcessor) {
+    this.blockchain = blockchain;
+    this.transactionProcessor = transactionProcessor;
+  }
+
+
+  @Override
+  JSONStreamAware processRequest(JSONObject request, Peer peer) {
+
+    JSONObject response = new JSONObject();
+
+    JSONArray transactionsData = new JSONArray();
+    JSONArray transactionIds = (JSONArray) request.get("transactionIds");
+    if (transactionIds != null) {
+      for (Object transactionId : transactionIds.subList(0, Math.min(transactionIds.size(), MAX_TRANSACTION_IDS))) {
+        long id = Convert.parseUnsignedLong((String) transactionId);
+        Transaction transaction = transactionProcessor.getUnconfirmedTransaction(id);
+        if (transaction == null) {
+          transaction = blockchain.getTransaction(id);
+        }
+        if (transaction != null) {
+          transactionsData.add(transaction.getJSONObject());
+        }
+      }
+    }
+
+    response.put("transactions", transactionsData);
+
+    return response;
+  }
+
+}
@@ -0,0 +1,37 @@
+package brs.peer;
+
+import brs.Transaction;
+import brs.TransactionProcessor;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+/**
+ * Inventory of the unconfirmed transaction pool, so peers can request only the transactions they miss
+ * with {@link GetUnconfirmedTransactions}.
+ */
+final class GetUnconfirmedTransactionIds extends PeerServlet.PeerRequestHandler {
+
+  private final TransactionProcessor transactionProcessor;
+
+  GetUnconfirmedTransactionIds(TransactionProcessor transactionProcessor) {
+    this.transactionProcessor = transactionProcessor;
+  }
+
+
+  @Override
+  JSONStreamAware processRequest(JSONObject request, Peer peer) {
+
+    JSONObject response = new JSONObject();
+
+    JSONArray transactionIds = new JSONArray();
+    for ( Transaction transaction : transactionProcessor.getAllUnconfirmedTransactions() ) {
+      transactionIds.add(transaction.getStringId());
+    }
+
+    response.put("unconfirmedTransactionIds", transactionIds);
+
+    return response;
+  }
+
+}
@@ -2,13 +2,18 @@ package brs.peer;
 
 import brs.Transaction;
 import brs.TransactionProcessor;
-import brs.db.BurstIterator;
+import brs.util.Convert;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
 
+import java.util.ArrayList;
+import java.util.List;
+
 final class GetUnconfirmedTransactions extends PeerServlet.PeerRequestHandler {
 
+  static final int MAX_TRANSACTION_IDS = 500;
+
   private final TransactionProcessor transactionProcessor;
 
   GetUnconfirmedTransactions(TransactionProcessor transactionProcessor) {
@@ -22,8 +27,22 @@ final class GetUnconfirmedTransactions extends PeerServlet.PeerRequestHandler {
     JSONObject response = new JSONObject();
 
     JSONArray transactionsData = new JSONArray();
-    for ( Transaction transaction : transactionProcessor.getAllUnconfirmedTransactions() ) {
-      transactionsData.add(transaction.getJSONObject());
+    JSONArray transactionIds = (JSONArray) request.get("transactionIds");
+    if (transactionIds == null) {
+      for ( Transaction transaction : transactionProcessor.getAllUnconfirmedTransactions() ) {
+        transactionsData.add(transaction.getJSONObject());
+      }
+    } else {
+      List<Long> requestedIds = new ArrayList<>();
+      for (Object transactionId : transactionIds.subList(0, Math.min(transactionIds.size(), MAX_TRANSACTION_IDS))) {
+        long id = Convert.parseUnsignedLong((String) transactionId);
+        requestedIds.add(id);
+        Transaction transaction = transactionProcessor.getUnconfirmedTransaction(id);
+        if (transaction != null) {
+          transactionsData.add(transaction.getJSONObject());
+        }
+      }
+      peer.addSeenTransactions(requestedIds);
     }
 
     response.put("unconfirmedTransactions", transactionsData);
@@ -3,6 +3,8 @@ package brs.peer;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
 
+import java.util.Collection;
+
 public interface Peer extends Comparable<Peer> {
 
   enum State {
@@ -52,6 +54,20 @@ public interface Peer extends Comparable<Peer> {
 
   int getLastUpdated();
 
+  /**
+   * @return moving average of the time the peer took to accept broadcast blocks and transactions, in ms
+   */
+  long getBroadcastLatency();
+
+  void updateBroadcastLatency(long latency);
+
+  /**
+   * @return whether the peer is known to have the transaction, because it announced or requested it
+   */
+  boolean hasSeenTransaction(long transactionId);
+
+  void addSeenTransactions(Collection<Long> transactionIds);
+
   JSONObject send(JSONStreamAware request);
 
   /** 
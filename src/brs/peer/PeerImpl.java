@@ -3,8 +3,6 @@ package brs.peer;
 import brs.*;
 import brs.common.Props;
 import brs.util.Convert;
-import brs.util.CountingInputStream;
-import brs.util.CountingOutputStream;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
 import org.json.simple.JSONValue;
@@ -13,9 +11,15 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.net.*;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -38,6 +42,15 @@ final class PeerImpl implements Peer {
   private volatile long downloadedVolume;
   private volatile long uploadedVolume;
   private volatile int lastUpdated;
+  private volatile long broadcastLatency;
+
+  static final int MAX_SEEN_TRANSACTIONS = 10000;
+  private final Set<Long> seenTransactions = Collections.newSetFromMap(new LinkedHashMap<Long, Boolean>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+      return size() > MAX_SEEN_TRANSACTIONS;
+    }
+  });
 
   PeerImpl(String peerAddress, String announcedAddress) {
     this.peerAddress = peerAddress;
@@ -95,6 +108,30 @@ final class PeerImpl implements Peer {
     return uploadedVolume;
   }
 
+  @Override
+  public long getBroadcastLatency() {
+    return broadcastLatency;
+  }
+
+  @Override
+  public synchronized void updateBroadcastLatency(long latency) {
+    broadcastLatency = broadcastLatency == 0 ? latency : (broadcastLatency * 7 + latency) / 8;
+  }
+
+  @Override
+  public boolean hasSeenTransaction(long transactionId) {
+    synchronized (seenTransactions) {
+      return seenTransactions.contains(transactionId);
+    }
+  }
+
+  @Override
+  public void addSeenTransactions(Collection<Long> transactionIds) {
+    synchronized (seenTransactions) {
+      seenTransactions.addAll(transactionIds);
+    }
+  }
+
   void updateUploadedVolume(long volume) {
     synchronized (this) {
       uploadedVolume += volume;
@@ -317,57 +354,35 @@ final class PeerImpl implements Peer {
       buf.append("/burst");
       URL url = new URL(buf.toString());
 
+      byte[] requestBytes = serialize(request);
+
       if (Peers.communicationLoggingMask != 0) {
-        StringWriter stringWriter = new StringWriter();
-        request.writeJSONString(stringWriter);
-        log = "\"" + url.toString() + "\": " + stringWriter.toString();
+        log = "\"" + url.toString() + "\": " + new String(requestBytes, StandardCharsets.UTF_8);
       }
 
       connection = (HttpURLConnection)url.openConnection();
       connection.setRequestMethod("POST");
       connection.setDoOutput(true);
+      connection.setFixedLengthStreamingMode(requestBytes.length);
       connection.setConnectTimeout(Peers.connectTimeout);
       connection.setReadTimeout(Peers.readTimeout);
       connection.setRequestProperty("Accept-Encoding", "gzip");
-      connection.setRequestProperty("Connection", "close");
 
-      CountingOutputStream cos = new CountingOutputStream(connection.getOutputStream());
-      try (Writer writer = new BufferedWriter(new OutputStreamWriter(cos, "UTF-8"))) {
-        request.writeJSONString(writer);
-      } // rico666: no catch?
-      updateUploadedVolume(cos.getCount());
+      try (OutputStream outputStream = connection.getOutputStream()) {
+        outputStream.write(requestBytes);
+      }
+      updateUploadedVolume(requestBytes.length);
 
       if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-        CountingInputStream cis = new CountingInputStream(connection.getInputStream());
-        InputStream responseStream = cis;
-        if ("gzip".equals(connection.getHeaderField("Content-Encoding"))) {
-          responseStream = new GZIPInputStream(cis);
-        }
+        byte[] responseBytes = readResponseBody(connection);
         if ((Peers.communicationLoggingMask & Peers.LOGGING_MASK_200_RESPONSES) != 0) {
-          ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-          byte[] buffer = new byte[1024];
-          int numberOfBytes;
-          try (InputStream inputStream = responseStream) {
-            while ((numberOfBytes = inputStream.read(buffer, 0, buffer.length)) > 0) {
-              byteArrayOutputStream.write(buffer, 0, numberOfBytes);
-            }
-          }
-          String responseValue = byteArrayOutputStream.toString("UTF-8");
-          if (! responseValue.isEmpty() && responseStream instanceof GZIPInputStream) {
-            log += String.format("[length: %d, compression ratio: %.2f]", cis.getCount(), (double)cis.getCount() / (double)responseValue.length());
-          }
-          log += " >>> " + responseValue;
+          log += responseLog(connection, responseBytes);
           showLog = true;
-          response = (JSONObject) JSONValue.parse(responseValue);
         }
-        else {
-          try (Reader reader = new BufferedReader(new InputStreamReader(responseStream, "UTF-8"))) {
-            response = (JSONObject)JSONValue.parse(reader);
-          }
-        }
-        updateDownloadedVolume(cis.getCount());
+        response = parseResponse(connection, responseBytes);
       }
       else {
+        discardErrorBody(connection);
 
         if ((Peers.communicationLoggingMask & Peers.LOGGING_MASK_NON200_RESPONSES) != 0) {
           log += " >>> Peer responded with HTTP " + connection.getResponseCode() + " code!";
@@ -392,6 +407,9 @@ final class PeerImpl implements Peer {
       if (state == State.CONNECTED) {
         setState(State.DISCONNECTED);
       }
+      if (connection != null) {
+        connection.disconnect();
+      }
       response = null;
     }
 
@@ -399,12 +417,77 @@ final class PeerImpl implements Peer {
       logger.info(log);
     }
 
-    if (connection != null) {
-      connection.disconnect();
+    return response;
+
+  }
+
+  /**
+   * Request bodies are serialised once, so the same bytes are logged, sent with a fixed length and
+   * counted as uploaded volume.
+   */
+  private static byte[] serialize(JSONStreamAware request) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+      request.writeJSONString(writer);
     }
+    return bytes.toByteArray();
+  }
 
-    return response;
+  /**
+   * Reads the whole (possibly compressed) response body: the downloaded volume is exactly what came
+   * over the wire, and the drained connection goes back to the JDK's keep-alive cache for this peer.
+   */
+  private byte[] readResponseBody(HttpURLConnection connection) throws IOException {
+    byte[] responseBytes;
+    try (InputStream inputStream = connection.getInputStream()) {
+      responseBytes = readFully(inputStream);
+    }
+    updateDownloadedVolume(responseBytes.length);
+    return responseBytes;
+  }
+
+  private static void discardErrorBody(HttpURLConnection connection) throws IOException {
+    try (InputStream errorStream = connection.getErrorStream()) {
+      if (errorStream != null) {
+        readFully(errorStream);
+      }
+    }
+  }
 
+  private static byte[] readFully(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int numberOfBytes;
+    while ((numberOfBytes = inputStream.read(buffer, 0, buffer.length)) > 0) {
+      byteArrayOutputStream.write(buffer, 0, numberOfBytes);
+    }
+    return byteArrayOutputStream.toByteArray();
+  }
+
+  private static InputStream responseStream(HttpURLConnection connection, byte[] responseBytes) throws IOException {
+    InputStream responseStream = new ByteArrayInputStream(responseBytes);
+    if ("gzip".equals(connection.getHeaderField("Content-Encoding"))) {
+      responseStream = new GZIPInputStream(responseStream);
+    }
+    return responseStream;
+  }
+
+  private static JSONObject parseResponse(HttpURLConnection connection, byte[] responseBytes) throws IOException {
+    try (Reader reader = new InputStreamReader(responseStream(connection, responseBytes), StandardCharsets.UTF_8)) {
+      return (JSONObject) JSONValue.parse(reader);
+    }
+  }
+
+  private static String responseLog(HttpURLConnection connection, byte[] responseBytes) throws IOException {
+    String responseValue;
+    try (InputStream inputStream = responseStream(connection, responseBytes)) {
+      responseValue = new String(readFully(inputStream), StandardCharsets.UTF_8);
+    }
+    String log = "";
+    if (! responseValue.isEmpty() && "gzip".equals(connection.getHeaderField("Content-Encoding"))) {
+      log += String.format("[length: %d, compression ratio: %.2f]", responseBytes.length, (double)responseBytes.length / (double)responseValue.length());
+    }
+    return log + " >>> " + responseValue;
   }
 
   @Override
@@ -433,37 +516,16 @@ final class PeerImpl implements Peer {
       connection.setConnectTimeout(Peers.connectTimeout);
       connection.setReadTimeout(Peers.readTimeout);
       connection.setRequestProperty("Accept-Encoding", "gzip");
-      connection.setRequestProperty("Connection", "close");
 
       if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-        CountingInputStream cis = new CountingInputStream(connection.getInputStream());
-        InputStream responseStream = cis;
-        if ("gzip".equals(connection.getHeaderField("Content-Encoding"))) {
-          responseStream = new GZIPInputStream(cis);
-        }
+        byte[] responseBytes = readResponseBody(connection);
         if ((Peers.communicationLoggingMask & Peers.LOGGING_MASK_200_RESPONSES) != 0) {
-          ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-          byte[] buffer = new byte[1024];
-          int numberOfBytes;
-          try (InputStream inputStream = responseStream) {
-            while ((numberOfBytes = inputStream.read(buffer, 0, buffer.length)) > 0) {
-              byteArrayOutputStream.write(buffer, 0, numberOfBytes);
-            }
-          }
-          String responseValue = byteArrayOutputStream.toString("UTF-8");
-          if (! responseValue.isEmpty() && responseStream instanceof GZIPInputStream) {
-            log += String.format("[length: %d, compression ratio: %.2f]", cis.getCount(), (double)cis.getCount() / (double)responseValue.length());
-          }
-          log += " >>> " + responseValue;
+          log += responseLog(connection, responseBytes);
           showLog = true;
-          response = (JSONObject) JSONValue.parse(responseValue);
-        } else {
-          try (Reader reader = new BufferedReader(new InputStreamReader(responseStream, "UTF-8"))) {
-            response = (JSONObject)JSONValue.parse(reader);
-          }
         }
-        updateDownloadedVolume(cis.getCount());
+        response = parseResponse(connection, responseBytes);
       } else {
+        discardErrorBody(connection);
 
         if ((Peers.communicationLoggingMask & Peers.LOGGING_MASK_NON200_RESPONSES) != 0) {
           log += " >>> Peer responded with HTTP " + connection.getResponseCode() + " code!";
@@ -488,6 +550,9 @@ final class PeerImpl implements Peer {
       if (state == State.CONNECTED) {
         setState(State.DISCONNECTED);
       }
+      if (connection != null) {
+        connection.disconnect();
+      }
       response = null;
     }
 
@@ -495,10 +560,6 @@ final class PeerImpl implements Peer {
       logger.info(log + "\n");
     }
 
-    if (connection != null) {
-      connection.disconnect();
-    }
-
     return response;
   }
 
@@ -46,21 +46,26 @@ public final class PeerServlet extends HttpServlet {
     map.put("getCumulativeDifficulty", new GetCumulativeDifficulty(blockchain));
     map.put("getInfo", new GetInfo(timeService));
     map.put("getMilestoneBlockIds", new GetMilestoneBlockIds(blockchain));
-    map.put("getNextBlockIds", new GetNextBlockIds(blockchain));
-    map.put("getNextBlocks", new GetNextBlocks(blockchain));
+    map.put("getNextBlockIds", new GetNextBlockIds(blockchain, blockchainProcessor));
+    map.put("getNextBlocks", new GetNextBlocks(blockchain, blockchainProcessor));
     map.put("getPeers", GetPeers.instance);
+    map.put("getUnconfirmedTransactionIds", new GetUnconfirmedTransactionIds(transactionProcessor));
     map.put("getUnconfirmedTransactions", new GetUnconfirmedTransactions(transactionProcessor));
+    map.put("getTransactions", new GetTransactions(blockchain, transactionProcessor));
     map.put("processBlock", new ProcessBlock(blockchain, blockchainProcessor));
+    map.put("processCompactBlock", new ProcessCompactBlock(blockchain, blockchainProcessor, transactionProcessor));
     map.put("processTransactions", new ProcessTransactions(transactionProcessor));
     map.put("getAccountBalance", new GetAccountBalance(accountService));
     map.put("getAccountRecentTransactions", new GetAccountRecentTransactions(accountService, blockchain));
     peerRequestHandlers = Collections.unmodifiableMap(map);
   }
 
+  static final String UNSUPPORTED_REQUEST_TYPE_ERROR = "Unsupported request type!";
+
   private static final JSONStreamAware UNSUPPORTED_REQUEST_TYPE;
   static {
     final JSONObject response = new JSONObject();
-    response.put("error", "Unsupported request type!");
+    response.put("error", UNSUPPORTED_REQUEST_TYPE_ERROR);
     UNSUPPORTED_REQUEST_TYPE = JSON.prepare(response);
   }
 
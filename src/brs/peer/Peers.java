@@ -92,7 +92,7 @@ public final class Peers {
   static final Collection<PeerImpl> allPeers = Collections.unmodifiableCollection(peers.values());
 
   private static final ExecutorService sendToPeersService = Executors.newCachedThreadPool();
-  private static final ExecutorService sendingService = Executors.newFixedThreadPool(10);
+  private static Broadcaster broadcaster;
 
   private static TimeService timeService;
 
@@ -193,6 +193,7 @@ public final class Peers {
     blacklistingPeriod = propertyService.getInt(Props.P2P_BLACKLISTING_TIME_MS);
     communicationLoggingMask = propertyService.getInt(Props.BRS_COMMUNICATION_LOGGING_MASK);
     sendToPeersLimit = propertyService.getInt(Props.P2P_SEND_TO_LIMIT);
+    broadcaster = new Broadcaster(Math.max(10, 2 * sendToPeersLimit), 1000);
     usePeersDb       = propertyService.getBoolean(Props.P2P_USE_PEERS_DB) && ! Burst.getPropertyService().getBoolean(Props.DEV_OFFLINE);
     savePeers        = usePeersDb && propertyService.getBoolean(Props.P2P_SAVE_PEERS);
     getMorePeers     = propertyService.getBoolean(Props.P2P_GET_MORE_PEERS);
@@ -604,6 +605,9 @@ public final class Peers {
     }
 
     threadPool.shutdownExecutor(sendToPeersService);
+    if (broadcaster != null) {
+      broadcaster.shutdown();
+    }
   }
 
   public static boolean addListener(Listener<Peer> listener, Event eventType) {
@@ -733,10 +737,26 @@ public final class Peers {
   public static void sendToSomePeers(Block block) {
     JSONObject request = block.getJSONObject();
     request.put("requestType", "processBlock");
-    sendToSomePeers(request, false);
+
+    // peers rebuild the block from their own unconfirmed transactions, peers without compact block support get the full block
+    JSONObject compactRequest = new JSONObject(request);
+    compactRequest.remove("transactions");
+    JSONArray transactionIds = new JSONArray();
+    block.getTransactions().forEach(transaction -> transactionIds.add(transaction.getStringId()));
+    compactRequest.put("transactionIds", transactionIds);
+    compactRequest.put("requestType", "processCompactBlock");
+
+    List<Peer> targets = getBroadcastTargets(false);
+    if (broadcaster != null) {
+      broadcaster.sendToSome(JSON.prepareRequest(compactRequest), JSON.prepareRequest(request), targets, sendToPeersLimit);
+    }
   }
 
   public static void sendToSomePeers(List<Transaction> transactions) {
+    sendToSomePeers(processTransactionsRequest(transactions), true);
+  }
+
+  private static JSONObject processTransactionsRequest(List<Transaction> transactions) {
     JSONObject request = new JSONObject();
     JSONArray transactionsData = new JSONArray();
 
@@ -746,48 +766,44 @@ public final class Peers {
 
     request.put("requestType", "processTransactions");
     request.put("transactions", transactionsData);
-    sendToSomePeers(request, true);
+    return request;
   }
 
   private static void sendToSomePeers(final JSONObject request, boolean sendSameBRSclass) {
-    
-
-    sendingService.submit(() -> {
-      final JSONStreamAware jsonRequest = JSON.prepareRequest(request);
-
-      int successful = 0;
-      List<Future<JSONObject>> expectedResponses = new ArrayList<>();
-      for (final Peer peer : peers.values()) {
-
-        if (peer.isHigherOrEqualVersionThan(Burst.LEGACY_VER)
-            && ( ! sendSameBRSclass || peer.isAtLeastMyVersion())
-            && !peer.isBlacklisted()
-            && peer.getState() == Peer.State.CONNECTED
-            && peer.getAnnouncedAddress() != null) {
-          Future<JSONObject> futureResponse = sendToPeersService.submit(() -> peer.send(jsonRequest));
-          expectedResponses.add(futureResponse);
-        }
-        if (expectedResponses.size() >= Peers.sendToPeersLimit - successful) {
-          for (Future<JSONObject> future : expectedResponses) {
-            try {
-              JSONObject response = future.get();
-              if (response != null && response.get("error") == null) {
-                successful += 1;
-              }
-            } catch (InterruptedException e) {
-              Thread.currentThread().interrupt();
-            } catch (ExecutionException e) {
-              logger.debug("Error in sendToSomePeers", e);
-            }
+    final JSONStreamAware jsonRequest = JSON.prepareRequest(request);
 
-          }
-          expectedResponses.clear();
-        }
-        if (successful >= Peers.sendToPeersLimit) {
-          return;
-        }
+    List<Peer> targets = getBroadcastTargets(sendSameBRSclass);
+    if (broadcaster != null) {
+      broadcaster.sendToSome(jsonRequest, targets, sendToPeersLimit);
+    }
+  }
+
+  private static List<Peer> getBroadcastTargets(boolean sendSameBRSclass) {
+    List<Peer> targets = new ArrayList<>();
+    for (final Peer peer : peers.values()) {
+      if (peer.isHigherOrEqualVersionThan(Burst.LEGACY_VER)
+          && ( ! sendSameBRSclass || peer.isAtLeastMyVersion())
+          && !peer.isBlacklisted()
+          && peer.getState() == Peer.State.CONNECTED
+          && peer.getAnnouncedAddress() != null) {
+        targets.add(peer);
       }
-    });
+    }
+    return targets;
+  }
+
+  /**
+   * @return the number of broadcast sends skipped because the peer was busy with other broadcasts
+   */
+  public static long getSkippedBroadcasts() {
+    return broadcaster == null ? 0 : broadcaster.getSkipped();
+  }
+
+  /**
+   * @return the number of broadcasts cut short because the broadcast queue was full
+   */
+  public static long getDroppedBroadcasts() {
+    return broadcaster == null ? 0 : broadcaster.getDropped();
   }
 
   public static void rebroadcastTransactions(List<Transaction> transactions) {
@@ -803,27 +819,27 @@ public final class Peers {
     }
     logger.debug(info.toString());
 
-    JSONObject request = new JSONObject();
-    JSONArray transactionsData = new JSONArray();
-    for (Transaction transaction : transactions) {
-      transactionsData.add(transaction.getJSONObject());
-    }
-    request.put("requestType", "processTransactions");
-    request.put("transactions", transactionsData);
-
-    final JSONObject requestFinal = request;
-
-    sendingService.submit(() -> {
-      final JSONStreamAware jsonRequest = JSON.prepareRequest(requestFinal);
-
-      for (final Peer peer : peers.values()) {
-        if(peer.isRebroadcastTarget()) {
-          sendToPeersService.submit(() -> peer.send(jsonRequest));
+    // every rebroadcast target only gets the transactions it has not announced, requested or
+    // accepted from us before; they are only marked seen once the peer accepted them, so that
+    // transactions of a skipped, dropped or failed send are retried with the next rebroadcast
+    for (final Peer peer : peers.values()) {
+      if(peer.isRebroadcastTarget() && broadcaster != null) {
+        List<Transaction> unseenTransactions = new ArrayList<>();
+        List<Long> unseenTransactionIds = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+          if (!peer.hasSeenTransaction(transaction.getId())) {
+            unseenTransactions.add(transaction);
+            unseenTransactionIds.add(transaction.getId());
+          }
+        }
+        if (!unseenTransactions.isEmpty()) {
+          broadcaster.sendToAll(JSON.prepareRequest(processTransactionsRequest(unseenTransactions)), Collections.singletonList(peer),
+              deliveredTo -> deliveredTo.addSeenTransactions(unseenTransactionIds));
         }
       }
-    });
+    }
 
-    sendToSomePeers(request, true); // send to some normal peers too
+    sendToSomePeers(processTransactionsRequest(transactions), true); // send to some normal peers too
   }
 
 
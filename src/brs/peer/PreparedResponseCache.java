@@ -0,0 +1,67 @@
+package brs.peer;
+
+import brs.Blockchain;
+import org.json.simple.JSONStreamAware;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pre-serialised responses of a peer request handler listing the blocks after a given block id.
+ *
+ * Only complete responses are cached, ones that cannot grow when more blocks get pushed. An entry is
+ * served only while the last block it lists is still in the blockchain, so a response never
+ * outlives a rollback of its range.
+ */
+final class PreparedResponseCache {
+
+  private final Map<Long, Entry> entries;
+
+  PreparedResponseCache(int size) {
+    this.entries = new LinkedHashMap<Long, Entry>(size, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+        return size() > size;
+      }
+    };
+  }
+
+  JSONStreamAware get(long blockId, Blockchain blockchain) {
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(blockId);
+    }
+    if (entry == null) {
+      return null;
+    }
+    if (!blockchain.hasBlock(entry.lastBlockId)) {
+      synchronized (entries) {
+        entries.remove(blockId, entry);
+      }
+      return null;
+    }
+    return entry.response;
+  }
+
+  void put(long blockId, long lastBlockId, JSONStreamAware response) {
+    synchronized (entries) {
+      entries.put(blockId, new Entry(lastBlockId, response));
+    }
+  }
+
+  void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private static final class Entry {
+    private final long lastBlockId;
+    private final JSONStreamAware response;
+
+    private Entry(long lastBlockId, JSONStreamAware response) {
+      this.lastBlockId = lastBlockId;
+      this.response = response;
+    }
+  }
+}
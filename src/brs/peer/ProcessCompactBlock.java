@@ -0,0 +1,87 @@
+package brs.peer;
+
+import brs.Blockchain;
+import brs.BlockchainProcessor;
+import brs.BurstException;
+import brs.Transaction;
+import brs.TransactionProcessor;
+import brs.util.Convert;
+import brs.util.JSON;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+
+/**
+ * A block announced with the ids of its transactions instead of the transactions themselves.
+ *
+ * The block is rebuilt from the unconfirmed transactions, and only the ones missing there are
+ * requested from the announcing peer with getTransactions. If that fails the peer is answered with
+ * an error, so that it sends the full block with processBlock instead.
+ */
+final class ProcessCompactBlock extends PeerServlet.PeerRequestHandler {
+
+  private static final JSONStreamAware MISSING_TRANSACTIONS;
+  static {
+    JSONObject response = new JSONObject();
+    response.put("error", "Missing transactions");
+    MISSING_TRANSACTIONS = JSON.prepare(response);
+  }
+
+  private final Blockchain blockchain;
+  private final BlockchainProcessor blockchainProcessor;
+  private final TransactionProcessor transactionProcessor;
+
+  ProcessCompactBlock(Blockchain blockchain, BlockchainProcessor blockchainProcessor, TransactionProcessor transactionProcessor) {
+    this.blockchain = blockchain;
+    this.blockchainProcessor = blockchainProcessor;
+    this.transactionProcessor = transactionProcessor;
+  }
+
+  @Override
+  JSONStreamAware processRequest(JSONObject request, Peer peer) {
+
+    try {
+
+      if (! blockchain.getLastBlock().getStringId().equals(request.get("previousBlock"))) {
+        return ProcessBlock.NOT_ACCEPTED;
+      }
+
+      JSONArray transactionsData = new JSONArray();
+      JSONArray missingTransactionIds = new JSONArray();
+      for (Object transactionId : (JSONArray) request.get("transactionIds")) {
+        Transaction transaction = transactionProcessor.getUnconfirmedTransaction(Convert.parseUnsignedLong((String) transactionId));
+        if (transaction != null) {
+          transactionsData.add(transaction.getJSONObject());
+        } else {
+          missingTransactionIds.add(transactionId);
+        }
+      }
+
+      if (! missingTransactionIds.isEmpty()) {
+        JSONObject transactionsRequest = new JSONObject();
+        transactionsRequest.put("requestType", "getTransactions");
+        transactionsRequest.put("transactionIds", missingTransactionIds);
+        JSONObject response = peer.send(JSON.prepareRequest(transactionsRequest));
+        JSONArray missingTransactionsData = response == null ? null : (JSONArray) response.get("transactions");
+        if (missingTransactionsData == null || missingTransactionsData.size() != missingTransactionIds.size()) {
+          return MISSING_TRANSACTIONS;
+        }
+        transactionsData.addAll(missingTransactionsData);
+      }
+
+      JSONObject blockData = new JSONObject(request);
+      blockData.remove("transactionIds");
+      blockData.put("transactions", transactionsData);
+      blockchainProcessor.processPeerBlock(blockData);
+      return ProcessBlock.ACCEPTED;
+
+    } catch (BurstException|RuntimeException e) {
+      if (peer != null) {
+        peer.blacklist(e, "received invalid data via requestType=processCompactBlock");
+      }
+      return ProcessBlock.NOT_ACCEPTED;
+    }
+
+  }
+
+}
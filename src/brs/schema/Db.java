@@ -25,6 +25,7 @@ import brs.schema.tables.PurchasePublicFeedback;
 import brs.schema.tables.RewardRecipAssign;
 import brs.schema.tables.Subscription;
 import brs.schema.tables.Trade;
+import brs.schema.tables.TradeCandle;
 import brs.schema.tables.Transaction;
 import brs.schema.tables.UnconfirmedTransaction;
 import brs.schema.tables.Version;
@@ -165,6 +166,11 @@ public class Db extends SchemaImpl {
      */
     public final Trade TRADE = brs.schema.tables.Trade.TRADE;
 
+    /**
+     * The table <code>DB.trade_candle</code>.
+     */
+    public final TradeCandle TRADE_CANDLE = brs.schema.tables.TradeCandle.TRADE_CANDLE;
+
     /**
      * The table <code>DB.transaction</code>.
      */
@@ -226,6 +232,7 @@ public class Db extends SchemaImpl {
             RewardRecipAssign.REWARD_RECIP_ASSIGN,
             Subscription.SUBSCRIPTION,
             Trade.TRADE,
+            TradeCandle.TRADE_CANDLE,
             Transaction.TRANSACTION,
             UnconfirmedTransaction.UNCONFIRMED_TRANSACTION,
             Version.VERSION);
@@ -25,6 +25,7 @@ import brs.schema.tables.PurchasePublicFeedback;
 import brs.schema.tables.RewardRecipAssign;
 import brs.schema.tables.Subscription;
 import brs.schema.tables.Trade;
+import brs.schema.tables.TradeCandle;
 import brs.schema.tables.Transaction;
 import brs.schema.tables.UnconfirmedTransaction;
 
@@ -132,6 +133,9 @@ public class Indexes {
     public static final Index TRADE_TRADE_ASSET_ID_IDX = Indexes0.TRADE_TRADE_ASSET_ID_IDX;
     public static final Index TRADE_TRADE_BUYER_ID_IDX = Indexes0.TRADE_TRADE_BUYER_ID_IDX;
     public static final Index TRADE_TRADE_SELLER_ID_IDX = Indexes0.TRADE_TRADE_SELLER_ID_IDX;
+    public static final Index TRADE_CANDLE_PRIMARY = Indexes0.TRADE_CANDLE_PRIMARY;
+    public static final Index TRADE_CANDLE_TRADE_CANDLE_HEIGHT_IDX = Indexes0.TRADE_CANDLE_TRADE_CANDLE_HEIGHT_IDX;
+    public static final Index TRADE_CANDLE_TRADE_CANDLE_IDX = Indexes0.TRADE_CANDLE_TRADE_CANDLE_IDX;
     public static final Index TRANSACTION_CONSTRAINT_FF = Indexes0.TRANSACTION_CONSTRAINT_FF;
     public static final Index TRANSACTION_PRIMARY = Indexes0.TRANSACTION_PRIMARY;
     public static final Index TRANSACTION_TRANSACTION_BLOCK_ID_IDX = Indexes0.TRANSACTION_TRANSACTION_BLOCK_ID_IDX;
@@ -231,6 +235,9 @@ public class Indexes {
         public static Index TRADE_TRADE_ASSET_ID_IDX = createIndex("trade_asset_id_idx", Trade.TRADE, new OrderField[] { Trade.TRADE.ASSET_ID, Trade.TRADE.HEIGHT }, false);
         public static Index TRADE_TRADE_BUYER_ID_IDX = createIndex("trade_buyer_id_idx", Trade.TRADE, new OrderField[] { Trade.TRADE.BUYER_ID, Trade.TRADE.HEIGHT }, false);
         public static Index TRADE_TRADE_SELLER_ID_IDX = createIndex("trade_seller_id_idx", Trade.TRADE, new OrderField[] { Trade.TRADE.SELLER_ID, Trade.TRADE.HEIGHT }, false);
+        public static Index TRADE_CANDLE_PRIMARY = createIndex("PRIMARY", TradeCandle.TRADE_CANDLE, new OrderField[] { TradeCandle.TRADE_CANDLE.DB_ID }, true);
+        public static Index TRADE_CANDLE_TRADE_CANDLE_HEIGHT_IDX = createIndex("trade_candle_height_idx", TradeCandle.TRADE_CANDLE, new OrderField[] { TradeCandle.TRADE_CANDLE.HEIGHT }, false);
+        public static Index TRADE_CANDLE_TRADE_CANDLE_IDX = createIndex("trade_candle_idx", TradeCandle.TRADE_CANDLE, new OrderField[] { TradeCandle.TRADE_CANDLE.ASSET_ID, TradeCandle.TRADE_CANDLE.TIMEFRAME, TradeCandle.TRADE_CANDLE.START }, true);
         public static Index TRANSACTION_CONSTRAINT_FF = createIndex("constraint_ff", Transaction.TRANSACTION, new OrderField[] { Transaction.TRANSACTION.BLOCK_ID }, false);
         public static Index TRANSACTION_PRIMARY = createIndex("PRIMARY", Transaction.TRANSACTION, new OrderField[] { Transaction.TRANSACTION.DB_ID }, true);
         public static Index TRANSACTION_TRANSACTION_BLOCK_ID_IDX = createIndex("transaction_block_id_idx", Transaction.TRANSACTION, new OrderField[] { Transaction.TRANSACTION.BLOCK_ID }, false);
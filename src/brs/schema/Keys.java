@@ -25,6 +25,7 @@ import brs.schema.tables.PurchasePublicFeedback;
 import brs.schema.tables.RewardRecipAssign;
 import brs.schema.tables.Subscription;
 import brs.schema.tables.Trade;
+import brs.schema.tables.TradeCandle;
 import brs.schema.tables.Transaction;
 import brs.schema.tables.UnconfirmedTransaction;
 import brs.schema.tables.records.AccountAssetRecord;
@@ -47,6 +48,7 @@ import brs.schema.tables.records.PurchasePublicFeedbackRecord;
 import brs.schema.tables.records.PurchaseRecord;
 import brs.schema.tables.records.RewardRecipAssignRecord;
 import brs.schema.tables.records.SubscriptionRecord;
+import brs.schema.tables.records.TradeCandleRecord;
 import brs.schema.tables.records.TradeRecord;
 import brs.schema.tables.records.TransactionRecord;
 import brs.schema.tables.records.UnconfirmedTransactionRecord;
@@ -97,6 +99,7 @@ public class Keys {
     public static final Identity<RewardRecipAssignRecord, Long> IDENTITY_REWARD_RECIP_ASSIGN = Identities0.IDENTITY_REWARD_RECIP_ASSIGN;
     public static final Identity<SubscriptionRecord, Long> IDENTITY_SUBSCRIPTION = Identities0.IDENTITY_SUBSCRIPTION;
     public static final Identity<TradeRecord, Long> IDENTITY_TRADE = Identities0.IDENTITY_TRADE;
+    public static final Identity<TradeCandleRecord, Long> IDENTITY_TRADE_CANDLE = Identities0.IDENTITY_TRADE_CANDLE;
     public static final Identity<TransactionRecord, Long> IDENTITY_TRANSACTION = Identities0.IDENTITY_TRANSACTION;
     public static final Identity<UnconfirmedTransactionRecord, Long> IDENTITY_UNCONFIRMED_TRANSACTION = Identities0.IDENTITY_UNCONFIRMED_TRANSACTION;
 
@@ -145,6 +148,8 @@ public class Keys {
     public static final UniqueKey<SubscriptionRecord> KEY_SUBSCRIPTION_SUBSCRIPTION_ID_HEIGHT_IDX = UniqueKeys0.KEY_SUBSCRIPTION_SUBSCRIPTION_ID_HEIGHT_IDX;
     public static final UniqueKey<TradeRecord> KEY_TRADE_PRIMARY = UniqueKeys0.KEY_TRADE_PRIMARY;
     public static final UniqueKey<TradeRecord> KEY_TRADE_TRADE_ASK_BID_IDX = UniqueKeys0.KEY_TRADE_TRADE_ASK_BID_IDX;
+    public static final UniqueKey<TradeCandleRecord> KEY_TRADE_CANDLE_PRIMARY = UniqueKeys0.KEY_TRADE_CANDLE_PRIMARY;
+    public static final UniqueKey<TradeCandleRecord> KEY_TRADE_CANDLE_TRADE_CANDLE_IDX = UniqueKeys0.KEY_TRADE_CANDLE_TRADE_CANDLE_IDX;
     public static final UniqueKey<TransactionRecord> KEY_TRANSACTION_PRIMARY = UniqueKeys0.KEY_TRANSACTION_PRIMARY;
     public static final UniqueKey<TransactionRecord> KEY_TRANSACTION_TRANSACTION_ID_IDX = UniqueKeys0.KEY_TRANSACTION_TRANSACTION_ID_IDX;
     public static final UniqueKey<TransactionRecord> KEY_TRANSACTION_TRANSACTION_FULL_HASH_IDX = UniqueKeys0.KEY_TRANSACTION_TRANSACTION_FULL_HASH_IDX;
@@ -184,6 +189,7 @@ public class Keys {
         public static Identity<RewardRecipAssignRecord, Long> IDENTITY_REWARD_RECIP_ASSIGN = createIdentity(RewardRecipAssign.REWARD_RECIP_ASSIGN, RewardRecipAssign.REWARD_RECIP_ASSIGN.DB_ID);
         public static Identity<SubscriptionRecord, Long> IDENTITY_SUBSCRIPTION = createIdentity(Subscription.SUBSCRIPTION, Subscription.SUBSCRIPTION.DB_ID);
         public static Identity<TradeRecord, Long> IDENTITY_TRADE = createIdentity(Trade.TRADE, Trade.TRADE.DB_ID);
+        public static Identity<TradeCandleRecord, Long> IDENTITY_TRADE_CANDLE = createIdentity(TradeCandle.TRADE_CANDLE, TradeCandle.TRADE_CANDLE.DB_ID);
         public static Identity<TransactionRecord, Long> IDENTITY_TRANSACTION = createIdentity(Transaction.TRANSACTION, Transaction.TRANSACTION.DB_ID);
         public static Identity<UnconfirmedTransactionRecord, Long> IDENTITY_UNCONFIRMED_TRANSACTION = createIdentity(UnconfirmedTransaction.UNCONFIRMED_TRANSACTION, UnconfirmedTransaction.UNCONFIRMED_TRANSACTION.DB_ID);
     }
@@ -230,6 +236,8 @@ public class Keys {
         public static final UniqueKey<SubscriptionRecord> KEY_SUBSCRIPTION_SUBSCRIPTION_ID_HEIGHT_IDX = createUniqueKey(Subscription.SUBSCRIPTION, "KEY_subscription_subscription_id_height_idx", Subscription.SUBSCRIPTION.ID, Subscription.SUBSCRIPTION.HEIGHT);
         public static final UniqueKey<TradeRecord> KEY_TRADE_PRIMARY = createUniqueKey(Trade.TRADE, "KEY_trade_PRIMARY", Trade.TRADE.DB_ID);
         public static final UniqueKey<TradeRecord> KEY_TRADE_TRADE_ASK_BID_IDX = createUniqueKey(Trade.TRADE, "KEY_trade_trade_ask_bid_idx", Trade.TRADE.ASK_ORDER_ID, Trade.TRADE.BID_ORDER_ID);
+        public static final UniqueKey<TradeCandleRecord> KEY_TRADE_CANDLE_PRIMARY = createUniqueKey(TradeCandle.TRADE_CANDLE, "KEY_trade_candle_PRIMARY", TradeCandle.TRADE_CANDLE.DB_ID);
+        public static final UniqueKey<TradeCandleRecord> KEY_TRADE_CANDLE_TRADE_CANDLE_IDX = createUniqueKey(TradeCandle.TRADE_CANDLE, "KEY_trade_candle_trade_candle_idx", TradeCandle.TRADE_CANDLE.ASSET_ID, TradeCandle.TRADE_CANDLE.TIMEFRAME, TradeCandle.TRADE_CANDLE.START);
         public static final UniqueKey<TransactionRecord> KEY_TRANSACTION_PRIMARY = createUniqueKey(Transaction.TRANSACTION, "KEY_transaction_PRIMARY", Transaction.TRANSACTION.DB_ID);
         public static final UniqueKey<TransactionRecord> KEY_TRANSACTION_TRANSACTION_ID_IDX = createUniqueKey(Transaction.TRANSACTION, "KEY_transaction_transaction_id_idx", Transaction.TRANSACTION.ID);
         public static final UniqueKey<TransactionRecord> KEY_TRANSACTION_TRANSACTION_FULL_HASH_IDX = createUniqueKey(Transaction.TRANSACTION, "KEY_transaction_transaction_full_hash_idx", Transaction.TRANSACTION.FULL_HASH);
@@ -25,6 +25,7 @@ import brs.schema.tables.PurchasePublicFeedback;
 import brs.schema.tables.RewardRecipAssign;
 import brs.schema.tables.Subscription;
 import brs.schema.tables.Trade;
+import brs.schema.tables.TradeCandle;
 import brs.schema.tables.Transaction;
 import brs.schema.tables.UnconfirmedTransaction;
 import brs.schema.tables.Version;
@@ -150,6 +151,11 @@ public class Tables {
      */
     public static final Trade TRADE = brs.schema.tables.Trade.TRADE;
 
+    /**
+     * The table <code>DB.trade_candle</code>.
+     */
+    public static final TradeCandle TRADE_CANDLE = brs.schema.tables.TradeCandle.TRADE_CANDLE;
+
     /**
      * The table <code>DB.transaction</code>.
      */
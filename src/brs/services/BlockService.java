@@ -11,6 +11,13 @@ public interface BlockService {
 
   void preVerify(Block block, byte[] scoopData) throws BlockchainProcessor.BlockNotAcceptedException;
 
+  /**
+   * Checks of the block payload that do not depend on the blockchain state: transaction signatures,
+   * transaction timestamps and ids, duplicates within the block, totals and payload hash.
+   * Part of the pre-verification, so that pushing the block only has to do the state dependent checks.
+   */
+  void verifyPayload(Block block) throws BlockchainProcessor.BlockNotAcceptedException;
+
   long getBlockReward(Block block);
 
   void calculateBaseTarget(Block block, Block lastBlock) throws BlockOutOfOrderException;
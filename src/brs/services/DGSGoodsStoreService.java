@@ -8,6 +8,7 @@ import brs.DigitalGoodsStore.Purchase;
 import brs.Transaction;
 import brs.db.BurstIterator;
 import brs.util.Listener;
+import java.util.List;
 
 public interface DGSGoodsStoreService {
 
@@ -53,7 +54,7 @@ public interface DGSGoodsStoreService {
 
   void refund(long sellerId, long purchaseId, long refundNQT, Appendix.EncryptedMessage encryptedMessage);
 
-  BurstIterator<Purchase> getExpiredPendingPurchases(int timestamp);
+  List<Purchase> getExpiredPendingPurchases(int timestamp);
 
   void changePrice(long goodsId, long priceNQT);
 
@@ -7,7 +7,7 @@ import brs.Account.RewardRecipientAssignment;
 import brs.AssetTransfer;
 import brs.Burst;
 import brs.Constants;
-import brs.crypto.Crypto;
+import brs.crypto.KeyCache;
 import brs.db.BurstIterator;
 import brs.db.BurstKey;
 import brs.db.BurstKey.LinkKeyFactory;
@@ -115,8 +115,7 @@ public class AccountServiceImpl implements AccountService {
   }
 
   public static long getId(byte[] publicKey) {
-    byte[] publicKeyHash = Crypto.sha256().digest(publicKey);
-    return Convert.fullHashToId(publicKeyHash);
+    return KeyCache.getAccountId(publicKey);
   }
 
   @Override
@@ -0,0 +1,52 @@
+package brs.services.impl;
+
+import brs.Alias;
+import brs.Block;
+import brs.Blockchain;
+import brs.services.AliasService;
+
+/**
+ * A feature switched on by its start block or, before that, by an alias set to "enabled". The
+ * alias is looked up once per last block, not on every call.
+ */
+class AliasFeatureSwitch {
+
+  private final Blockchain blockchain;
+  private final AliasService aliasService;
+  private final String aliasName;
+  private final long startBlock;
+
+  private volatile Enablement enablement;
+
+  AliasFeatureSwitch(Blockchain blockchain, AliasService aliasService, String aliasName, long startBlock) {
+    this.blockchain = blockchain;
+    this.aliasService = aliasService;
+    this.aliasName = aliasName;
+    this.startBlock = startBlock;
+  }
+
+  boolean isEnabled() {
+    final Block lastBlock = blockchain.getLastBlock();
+    if (lastBlock.getHeight() >= startBlock) {
+      return true;
+    }
+
+    Enablement enablement = this.enablement;
+    if (enablement == null || enablement.blockId != lastBlock.getId()) {
+      final Alias alias = aliasService.getAlias(aliasName);
+      enablement = new Enablement(lastBlock.getId(), alias != null && alias.getAliasURI().equals("enabled"));
+      this.enablement = enablement;
+    }
+    return enablement.enabled;
+  }
+
+  private static final class Enablement {
+    private final long blockId;
+    private final boolean enabled;
+
+    private Enablement(long blockId, boolean enabled) {
+      this.blockId = blockId;
+      this.enabled = enabled;
+    }
+  }
+}
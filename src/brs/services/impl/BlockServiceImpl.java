@@ -9,15 +9,23 @@ import brs.Constants;
 import brs.Generator;
 import brs.Genesis;
 import brs.Transaction;
+import brs.TransactionType;
 import brs.crypto.Crypto;
 
 import brs.services.AccountService;
 import brs.services.BlockService;
 import brs.services.TransactionService;
+import brs.statistics.BlockProcessingStats;
+import brs.statistics.BlockProcessingStats.Phase;
 import brs.util.Convert;
 import brs.util.DownloadCacheImpl;
 import java.math.BigInteger;
+import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,15 +36,18 @@ public class BlockServiceImpl implements BlockService {
   private final Blockchain blockchain;
   private DownloadCacheImpl downloadCache;
   private Generator generator;
+  private final BlockProcessingStats processingStats;
 
   private static final Logger logger = LoggerFactory.getLogger(BlockServiceImpl.class);
 
-  public BlockServiceImpl(AccountService accountService, TransactionService transactionService, Blockchain blockchain, DownloadCacheImpl downloadCache, Generator generator) {
+  public BlockServiceImpl(AccountService accountService, TransactionService transactionService, Blockchain blockchain, DownloadCacheImpl downloadCache, Generator generator,
+                          BlockProcessingStats processingStats) {
     this.accountService = accountService;
     this.transactionService = transactionService;
     this.blockchain = blockchain;
     this.downloadCache = downloadCache;
     this.generator = generator;
+    this.processingStats = processingStats;
   }
 
   @Override
@@ -114,6 +125,7 @@ public class BlockServiceImpl implements BlockService {
       return;
     }
 
+    long start = processingStats.start();
     try {
       // Pre-verify poc:
       if (scoopData == null) {
@@ -125,17 +137,65 @@ public class BlockServiceImpl implements BlockService {
       logger.info("Error pre-verifying block generation signature", e);
       return;
     }
+    processingStats.record(Phase.POC_VERIFICATION, start);
 
-    for (Transaction transaction : block.getTransactions()) {
-      if (!transaction.verifySignature()) {
-        logger.info("Bad transaction signature during block pre-verification for tx: {} at block height: {}",
-            Convert.toUnsignedLong(transaction.getId()), block.getHeight());
-        throw new BlockchainProcessor.TransactionNotAcceptedException("Invalid signature for tx: "
-            + Convert.toUnsignedLong(transaction.getId()) + "at block height: " + block.getHeight(),
-            transaction);
+    verifyPayload(block);
+  }
+
+  @Override
+  public void verifyPayload(Block block) throws BlockchainProcessor.BlockNotAcceptedException {
+    if (block.isPayloadVerified()) {
+      return;
+    }
+    long start = processingStats.start();
+
+    List<Transaction> transactions = block.getTransactions();
+    Map<TransactionType, Set<String>> duplicates = new HashMap<>();
+    long calculatedTotalAmount = 0;
+    long calculatedTotalFee = 0;
+    MessageDigest digest = Crypto.sha256();
+
+    for (Transaction transaction : transactions) {
+      if (transaction.getTimestamp() > block.getTimestamp() + Constants.MAX_TIMESTAMP_DIFFERENCE
+          || transaction.getExpiration() < block.getTimestamp()) {
+        throw new BlockchainProcessor.TransactionNotAcceptedException("Invalid transaction timestamp "
+            + transaction.getTimestamp() + " for transaction " + transaction.getStringId()
+            + ", block timestamp is " + block.getTimestamp(), transaction);
+      }
+      if (transaction.getId() == 0L) {
+        throw new BlockchainProcessor.TransactionNotAcceptedException("Invalid transaction id", transaction);
       }
+      if (transaction.isDuplicate(duplicates)) {
+        throw new BlockchainProcessor.TransactionNotAcceptedException(
+            "Transaction is a duplicate: " + transaction.getStringId(), transaction);
+      }
+      calculatedTotalAmount += transaction.getAmountNQT();
+      calculatedTotalFee += transaction.getFeeNQT();
+      digest.update(transaction.getBytes());
+    }
+
+    if (calculatedTotalAmount > block.getTotalAmountNQT() || calculatedTotalFee > block.getTotalFeeNQT()) {
+      throw new BlockchainProcessor.BlockNotAcceptedException("Total amount or fee don't match transaction totals for block " + block.getHeight());
+    }
+    if (!Arrays.equals(digest.digest(), block.getPayloadHash())) {
+      throw new BlockchainProcessor.BlockNotAcceptedException("Payload hash doesn't match for block " + block.getHeight());
+    }
+
+    Crypto.SignatureBatch signatureBatch = new Crypto.SignatureBatch(transactions.size());
+    transactions.forEach(transaction -> transaction.addToSignatureBatch(signatureBatch));
+
+    int invalidSignature = signatureBatch.verify();
+    if (invalidSignature >= 0) {
+      Transaction transaction = transactions.get(invalidSignature);
+      logger.info("Bad transaction signature during block pre-verification for tx: {} at block height: {}",
+          Convert.toUnsignedLong(transaction.getId()), block.getHeight());
+      throw new BlockchainProcessor.TransactionNotAcceptedException("Invalid signature for tx: "
+          + Convert.toUnsignedLong(transaction.getId()) + "at block height: " + block.getHeight(),
+          transaction);
     }
 
+    block.setPayloadVerified(true);
+    processingStats.record(Phase.PAYLOAD_VERIFICATION, start);
   }
 
   @Override
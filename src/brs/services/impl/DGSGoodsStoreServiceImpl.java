@@ -218,7 +218,7 @@ public class DGSGoodsStoreServiceImpl implements DGSGoodsStoreService {
   }
 
   @Override
-  public BurstIterator<Purchase> getExpiredPendingPurchases(final int timestamp) {
+  public List<Purchase> getExpiredPendingPurchases(final int timestamp) {
     return digitalGoodsStoreStore.getExpiredPendingPurchases(timestamp);
   }
 
@@ -1,9 +1,6 @@
 package brs.services.impl;
 
-import static brs.schema.Tables.ESCROW;
-
 import brs.Account;
-import brs.Alias;
 import brs.Attachment;
 import brs.Block;
 import brs.Blockchain;
@@ -28,7 +25,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentSkipListSet;
-import org.jooq.Condition;
 
 public class EscrowServiceImpl implements EscrowService {
 
@@ -38,8 +34,8 @@ public class EscrowServiceImpl implements EscrowService {
   private final LinkKeyFactory<Decision> decisionDbKeyFactory;
   private final EscrowStore escrowStore;
   private final Blockchain blockchain;
-  private final AliasService aliasService;
   private final AccountService accountService;
+  private final AliasFeatureSwitch featureSwitch;
   private final List<Transaction> resultTransactions;
 
   public EscrowServiceImpl(EscrowStore escrowStore, Blockchain blockchain, AliasService aliasService, AccountService accountService) {
@@ -50,7 +46,7 @@ public class EscrowServiceImpl implements EscrowService {
     this.decisionDbKeyFactory = escrowStore.getDecisionDbKeyFactory();
     this.resultTransactions = escrowStore.getResultTransactions();
     this.blockchain = blockchain;
-    this.aliasService = aliasService;
+    this.featureSwitch = new AliasFeatureSwitch(blockchain, aliasService, "featureescrow", Constants.BURST_ESCROW_START_BLOCK);
     this.accountService = accountService;
   }
 
@@ -71,12 +67,7 @@ public class EscrowServiceImpl implements EscrowService {
 
   @Override
   public boolean isEnabled() {
-    if(blockchain.getLastBlock().getHeight() >= Constants.BURST_ESCROW_START_BLOCK) {
-      return true;
-    }
-
-    Alias escrowEnabled = aliasService.getAlias("featureescrow");
-    return escrowEnabled != null && escrowEnabled.getAliasURI().equals("enabled");
+    return featureSwitch.isEnabled();
   }
 
   @Override
@@ -139,71 +130,70 @@ public class EscrowServiceImpl implements EscrowService {
     }
   }
 
+  /**
+   * Tallies the decisions of the escrow from a single read of its decision rows.
+   */
   @Override
   public DecisionType checkComplete(Escrow escrow) {
-    Decision senderDecision = decisionTable.get(decisionDbKeyFactory.newKey(escrow.getId(), escrow.getSenderId()));
-    if(senderDecision.getDecision() == DecisionType.RELEASE) {
-      return DecisionType.RELEASE;
-    }
-    Decision recipientDecision = decisionTable.get(decisionDbKeyFactory.newKey(escrow.getId(), escrow.getRecipientId()));
-    if(recipientDecision.getDecision() == DecisionType.REFUND) {
-      return DecisionType.REFUND;
-    }
-
+    DecisionType senderDecision = null;
+    DecisionType recipientDecision = null;
     int countRelease = 0;
     int countRefund = 0;
     int countSplit = 0;
 
-    BurstIterator<Decision> decisions = Burst.getStores().getEscrowStore().getDecisions(escrow.getId());
-    while(decisions.hasNext()) {
-      Decision decision = decisions.next();
-      if(decision.getAccountId().equals(escrow.getSenderId()) ||
-          decision.getAccountId().equals(escrow.getRecipientId())) {
-        continue;
-      }
-      switch(decision.getDecision()) {
-        case RELEASE:
-          countRelease++;
-          break;
-        case REFUND:
-          countRefund++;
-          break;
-        case SPLIT:
-          countSplit++;
-          break;
-        default:
-          break;
+    try (BurstIterator<Decision> decisions = escrowStore.getDecisions(escrow.getId())) {
+      while (decisions.hasNext()) {
+        Decision decision = decisions.next();
+        if (decision.getAccountId().equals(escrow.getSenderId())) {
+          senderDecision = decision.getDecision();
+          continue;
+        }
+        if (decision.getAccountId().equals(escrow.getRecipientId())) {
+          recipientDecision = decision.getDecision();
+          continue;
+        }
+        switch (decision.getDecision()) {
+          case RELEASE:
+            countRelease++;
+            break;
+          case REFUND:
+            countRefund++;
+            break;
+          case SPLIT:
+            countSplit++;
+            break;
+          default:
+            break;
+        }
       }
     }
 
-    if(countRelease >= escrow.getRequiredSigners()) {
+    if (senderDecision == DecisionType.RELEASE) {
+      return DecisionType.RELEASE;
+    }
+    if (recipientDecision == DecisionType.REFUND) {
+      return DecisionType.REFUND;
+    }
+    if (countRelease >= escrow.getRequiredSigners()) {
       return DecisionType.RELEASE;
     }
-    if(countRefund >= escrow.getRequiredSigners()) {
+    if (countRefund >= escrow.getRequiredSigners()) {
       return DecisionType.REFUND;
     }
-    if(countSplit >= escrow.getRequiredSigners()) {
+    if (countSplit >= escrow.getRequiredSigners()) {
       return DecisionType.SPLIT;
     }
 
     return DecisionType.UNDECIDED;
   }
 
-  private static Condition getUpdateOnBlockClause(final int timestamp) {
-    return ESCROW.DEADLINE.lt(timestamp);
-  }
-
-
   private final ConcurrentSkipListSet<Long> updatedEscrowIds = new ConcurrentSkipListSet<>();
 
   @Override
   public void updateOnBlock(Block block, int blockchainHeight) {
     resultTransactions.clear();
 
-    BurstIterator<Escrow> deadlineEscrows = escrowTable.getManyBy(getUpdateOnBlockClause(block.getTimestamp()), 0, -1);
-    while(deadlineEscrows.hasNext()) {
-      updatedEscrowIds.add(deadlineEscrows.next().getId());
-    }
+    updatedEscrowIds.addAll(escrowStore.getExpiredEscrowIds(block.getTimestamp()));
 
     if (updatedEscrowIds.size() > 0) {
       for (Long escrowId : updatedEscrowIds) {
@@ -1,7 +1,6 @@
 package brs.services.impl;
 
 import brs.Account;
-import brs.Alias;
 import brs.Attachment;
 import brs.Block;
 import brs.Blockchain;
@@ -31,8 +30,8 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   private final LongKeyFactory<Subscription> subscriptionDbKeyFactory;
 
   private final Blockchain blockchain;
-  private final AliasService aliasService;
   private final AccountService accountService;
+  private final AliasFeatureSwitch featureSwitch;
 
   private final TransactionDb transactionDb;
 
@@ -46,7 +45,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     this.subscriptionDbKeyFactory = subscriptionStore.getSubscriptionDbKeyFactory();
     this.transactionDb = transactionDb;
     this.blockchain = blockchain;
-    this.aliasService = aliasService;
+    this.featureSwitch = new AliasFeatureSwitch(blockchain, aliasService, "featuresubscription", Constants.BURST_SUBSCRIPTION_START_BLOCK);
     this.accountService = accountService;
   }
 
@@ -75,12 +74,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
   @Override
   public boolean isEnabled() {
-    if (blockchain.getLastBlock().getHeight() >= Constants.BURST_SUBSCRIPTION_START_BLOCK) {
-      return true;
-    }
-
-    final Alias subscriptionEnabled = aliasService.getAlias("featuresubscription");
-    return subscriptionEnabled != null && subscriptionEnabled.getAliasURI().equals("enabled");
+    return featureSwitch.isEnabled();
   }
 
   @Override
@@ -111,10 +105,8 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   @Override
   public long calculateFees(int timestamp) {
     long totalFeeNQT = 0;
-    BurstIterator<Subscription> updateSubscriptions = subscriptionStore.getUpdateSubscriptions(timestamp);
     List<Subscription> appliedUnconfirmedSubscriptions = new ArrayList<>();
-    while (updateSubscriptions.hasNext()) {
-      Subscription subscription = updateSubscriptions.next();
+    for (Subscription subscription : subscriptionStore.getUpdateSubscriptions(timestamp)) {
       if (removeSubscriptions.contains(subscription.getId())) {
         continue;
       }
@@ -145,9 +137,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   public long applyUnconfirmed(int timestamp) {
     appliedSubscriptions.clear();
     long totalFees = 0;
-    BurstIterator<Subscription> updateSubscriptions = subscriptionStore.getUpdateSubscriptions(timestamp);
-    while (updateSubscriptions.hasNext()) {
-      Subscription subscription = updateSubscriptions.next();
+    for (Subscription subscription : subscriptionStore.getUpdateSubscriptions(timestamp)) {
       if (removeSubscriptions.contains(subscription.getId())) {
         continue;
       }
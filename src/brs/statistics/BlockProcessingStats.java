@@ -0,0 +1,117 @@
+package brs.statistics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Latencies of the phases of block processing, one histogram per phase.
+ *
+ * Callers take the start of a phase with {@link #start()} and pass it to {@link #record}. When the
+ * stats are disabled neither reads the clock, so the instrumented code only pays a field read.
+ * When enabled, every histogram is also registered as an MBean named
+ * {@code brs:type=BlockProcessing,phase=<name>}.
+ */
+public class BlockProcessingStats {
+
+  private static final Logger logger = LoggerFactory.getLogger(BlockProcessingStats.class);
+
+  public enum Phase {
+    /** proof of capacity of the block, on the pre-verification threads */
+    POC_VERIFICATION("pocVerification"),
+    /** transaction signatures, totals and payload hash, ahead of the import when possible */
+    PAYLOAD_VERIFICATION("payloadVerification"),
+    /** block header checks up to the generation and block signatures */
+    PREVALIDATION("prevalidation"),
+    /** validation of the transactions against the chain */
+    TRANSACTION_VALIDATION("transactionValidation"),
+    APPLY_UNCONFIRMED("applyUnconfirmed"),
+    AT_VALIDATION("atValidation"),
+    SUBSCRIPTIONS_ESCROW("subscriptionsAndEscrow"),
+    /** block reward and confirmed transactions */
+    BLOCK_APPLY("blockApply"),
+    /** listeners notified while the block is applied */
+    LISTENERS("listeners"),
+    /** finishing the derived tables */
+    FINISH("finish"),
+    /** commit of a block, or of a group of blocks while far behind */
+    COMMIT("commit"),
+    /** listeners notified once the block is pushed */
+    PUSHED_LISTENERS("pushedListeners"),
+    /** validating and applying a block, without pre-verification and commit */
+    BLOCK("block");
+
+    private final String name;
+
+    Phase(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  private final boolean enabled;
+  private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+
+  public BlockProcessingStats(boolean enabled) {
+    this.enabled = enabled;
+    for (Phase phase : Phase.values()) {
+      histograms.put(phase, new LatencyHistogram());
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return the start of a phase in nanoseconds, 0 when disabled
+   */
+  public long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * @return the nanoseconds since the start, 0 when disabled; for phases measured in several parts
+   */
+  public long elapsed(long start) {
+    return enabled ? System.nanoTime() - start : 0;
+  }
+
+  public void record(Phase phase, long start) {
+    if (enabled) {
+      histograms.get(phase).record(System.nanoTime() - start);
+    }
+  }
+
+  public void recordNanos(Phase phase, long nanos) {
+    if (enabled) {
+      histograms.get(phase).record(nanos);
+    }
+  }
+
+  public LatencyHistogram getHistogram(Phase phase) {
+    return histograms.get(phase);
+  }
+
+  void registerMBeans() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (Map.Entry<Phase, LatencyHistogram> entry : histograms.entrySet()) {
+      try {
+        ObjectName name = new ObjectName("brs:type=BlockProcessing,phase=" + entry.getKey().getName());
+        if (!server.isRegistered(name)) {
+          server.registerMBean(entry.getValue(), name);
+        }
+      } catch (JMException e) {
+        logger.warn("Could not register block processing stats for " + entry.getKey().getName() + " with JMX", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package brs.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of durations with power of two buckets in microseconds: bucket 0 holds
+ * durations below 1µs, bucket i those from 2^(i-1) up to 2^i µs. Percentiles are therefore
+ * estimates, reported as the upper bound of their bucket and never above the largest duration.
+ */
+public class LatencyHistogram implements LatencyHistogramMBean {
+
+  private static final int BUCKETS = 40;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sumMicros = new AtomicLong();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  public void record(long nanos) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+    buckets.incrementAndGet(bucket(micros));
+    count.incrementAndGet();
+    sumMicros.addAndGet(micros);
+    maxMicros.accumulateAndGet(micros, Math::max);
+  }
+
+  @Override
+  public long getCount() {
+    return count.get();
+  }
+
+  @Override
+  public long getMeanMicros() {
+    long samples = count.get();
+    return samples == 0 ? 0 : sumMicros.get() / samples;
+  }
+
+  @Override
+  public long getP50Micros() {
+    return getPercentileMicros(0.5);
+  }
+
+  @Override
+  public long getP90Micros() {
+    return getPercentileMicros(0.9);
+  }
+
+  @Override
+  public long getP99Micros() {
+    return getPercentileMicros(0.99);
+  }
+
+  @Override
+  public long getMaxMicros() {
+    return maxMicros.get();
+  }
+
+  @Override
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets.set(i, 0);
+    }
+    count.set(0);
+    sumMicros.set(0);
+    maxMicros.set(0);
+  }
+
+  /**
+   * @return the upper bound of the bucket holding the percentile, 0 without samples
+   */
+  public long getPercentileMicros(double percentile) {
+    long total = 0;
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = (long) Math.ceil(percentile * total);
+    long seen = 0;
+    int i = 0;
+    for (; i < BUCKETS - 1; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        break;
+      }
+    }
+    long upperBound = i == 0 ? 0 : 1L << i;
+    return Math.min(upperBound, maxMicros.get());
+  }
+
+  private static int bucket(long micros) {
+    return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+  }
+}
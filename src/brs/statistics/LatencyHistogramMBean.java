@@ -0,0 +1,21 @@
+package brs.statistics;
+
+/**
+ * JMX view of a {@link LatencyHistogram}, all times in microseconds.
+ */
+public interface LatencyHistogramMBean {
+
+  long getCount();
+
+  long getMeanMicros();
+
+  long getP50Micros();
+
+  long getP90Micros();
+
+  long getP99Micros();
+
+  long getMaxMicros();
+
+  void reset();
+}
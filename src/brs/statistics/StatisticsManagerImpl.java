@@ -18,8 +18,18 @@ public class StatisticsManagerImpl {
 
   private Map<String, CacheStatisticsOverview> cacheStatistics = new HashMap<>();
 
-  public StatisticsManagerImpl(TimeService timeService) {
+  private final BlockProcessingStats blockProcessingStats;
+
+  public StatisticsManagerImpl(TimeService timeService, boolean blockProcessingStatsEnabled) {
     this.timeService = timeService;
+    this.blockProcessingStats = new BlockProcessingStats(blockProcessingStatsEnabled);
+    if (blockProcessingStatsEnabled) {
+      blockProcessingStats.registerMBeans();
+    }
+  }
+
+  public BlockProcessingStats getBlockProcessingStats() {
+    return blockProcessingStats;
   }
 
   public void foundObjectInCache(String cacheName) {
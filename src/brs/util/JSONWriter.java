@@ -0,0 +1,85 @@
+package brs.util;
+
+import org.json.simple.JSONStreamAware;
+import org.json.simple.JSONValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streams JSON straight to the response writer instead of building a json-simple tree first.
+ *
+ * Objects and arrays returned here are only evaluated when they are written, so large responses
+ * never exist as a whole in memory. Values are written with
+ * {@link JSONValue#writeJSONString(Object, Writer)}: strings, numbers, booleans, json-simple
+ * objects and nested {@link JSONStreamAware} values are all accepted.
+ */
+public final class JSONWriter {
+
+  /**
+   * Receives the fields of a JSON object, either into a {@link org.json.simple.JSONObject}
+   * ({@code json::put}) or straight into the output.
+   */
+  @FunctionalInterface
+  public interface Fields {
+    void put(String name, Object value);
+  }
+
+  private JSONWriter() {
+  }
+
+  public static JSONStreamAware object(Consumer<Fields> fields) {
+    return out -> {
+      out.write('{');
+      try {
+        fields.accept(new FieldWriter(out));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      out.write('}');
+    };
+  }
+
+  public static <T> JSONStreamAware array(Iterable<T> items, Function<? super T, ?> toValue) {
+    return out -> {
+      out.write('[');
+      boolean first = true;
+      for (T item : items) {
+        if (!first) {
+          out.write(',');
+        }
+        first = false;
+        JSONValue.writeJSONString(toValue.apply(item), out);
+      }
+      out.write(']');
+    };
+  }
+
+  private static final class FieldWriter implements Fields {
+    private final Writer out;
+    private boolean first = true;
+
+    private FieldWriter(Writer out) {
+      this.out = out;
+    }
+
+    @Override
+    public void put(String name, Object value) {
+      try {
+        if (!first) {
+          out.write(',');
+        }
+        first = false;
+        out.write('"');
+        out.write(JSONValue.escape(name));
+        out.write("\":");
+        JSONValue.writeJSONString(value, out);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
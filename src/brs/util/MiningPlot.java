@@ -6,6 +6,7 @@ import brs.fluxcapacitor.FluxCapacitor;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 
+import brs.crypto.ReusableDigest;
 import brs.crypto.hash.Shabal256;
 
 public class MiningPlot {
@@ -27,21 +28,16 @@ public class MiningPlot {
     base_buffer.putLong(addr);
     base_buffer.putLong(nonce);
     byte[] base = base_buffer.array();
-    Shabal256 md = new Shabal256();
     byte[] gendata = new byte[PLOT_SIZE + base.length];
     System.arraycopy(base, 0, gendata, PLOT_SIZE, base.length);
     for (int i = PLOT_SIZE; i > 0; i -= HASH_SIZE) {
-      md.reset();
       int len = PLOT_SIZE + base.length - i;
       if (len > HASH_CAP) {
         len = HASH_CAP;
       }
-      md.update(gendata, i, len);
-      md.digest(gendata, i - HASH_SIZE, HASH_SIZE);
+      ReusableDigest.SHABAL256.digestInto(gendata, i - HASH_SIZE, gendata, i, len);
     }
-    md.reset();
-    md.update(gendata);
-    byte[] finalhash = md.digest();
+    byte[] finalhash = ReusableDigest.SHABAL256.digest(gendata);
     for (int i = 0; i < PLOT_SIZE; i++) {
       data[i] = (byte) (gendata[i] ^ finalhash[i % HASH_SIZE]);
     }
@@ -0,0 +1,71 @@
+package brs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import brs.common.QuickMocker;
+import brs.db.BlockDb;
+import brs.db.store.BlockchainStore;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Burst.class)
+public class BlockchainImplTest {
+
+  private BlockchainImpl t;
+
+  private BlockDb blockDbMock;
+
+  @Before
+  public void setUp() {
+    mockStatic(Burst.class);
+    when(Burst.getFluxCapacitor()).thenReturn(QuickMocker.fluxCapacitorEnabledFunctionalities());
+
+    blockDbMock = mock(BlockDb.class);
+    t = new BlockchainImpl(mock(TransactionDb.class), blockDbMock, mock(BlockchainStore.class), 10);
+  }
+
+  @Test
+  public void getBlock_cachedBlockKnowsTheBlockPushedAfterIt() throws BurstException.ValidationException {
+    Block first = block(1, 100, 99);
+    Block second = block(2, 101, 100);
+    Block third = block(3, 102, 101);
+    t.setLastBlock(first);
+    t.setLastBlock(first, second);
+    t.setLastBlock(second, third);
+
+    assertSame(second, t.getBlock(101));
+    assertEquals(102, t.getBlock(101).getNextBlockId());
+    assertEquals(101, t.getBlock(100).getNextBlockId());
+    assertEquals(0, t.getBlock(102).getNextBlockId());
+    verifyZeroInteractions(blockDbMock);
+  }
+
+  @Test
+  public void getBlock_cachedBlockForgetsPoppedNextBlock() throws BurstException.ValidationException {
+    Block first = block(1, 100, 99);
+    Block second = block(2, 101, 100);
+    t.setLastBlock(first);
+    t.setLastBlock(first, second);
+
+    t.setLastBlock(first);
+    assertEquals(0, t.getBlock(100).getNextBlockId());
+
+    Block fork = block(2, 201, 100);
+    t.setLastBlock(first, fork);
+    assertEquals(201, t.getBlock(100).getNextBlockId());
+  }
+
+  private static Block block(int height, long id, long previousId) throws BurstException.ValidationException {
+    return new Block(3, height, previousId, 0, 0, 0, new byte[32], new byte[32], new byte[32], new byte[64], new byte[32],
+        null, 0, 0, height, id, 0, null);
+  }
+}
@@ -0,0 +1,47 @@
+package brs;
+
+import static org.junit.Assert.assertEquals;
+
+import brs.Order.Ask;
+import brs.Order.Bid;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.TreeSet;
+import org.junit.Test;
+
+public class OrderTest {
+
+  @Test
+  public void askPriority() {
+    Ask cheapNew = ask(3, 100, 20);
+    Ask cheapOldHighId = ask(2, 100, 10);
+    Ask cheapOldLowId = ask(1, 100, 10);
+    Ask expensive = ask(4, 200, 1);
+
+    TreeSet<Ask> book = new TreeSet<>(Ask.PRIORITY);
+    book.addAll(Arrays.asList(expensive, cheapNew, cheapOldHighId, cheapOldLowId));
+
+    assertEquals(Arrays.asList(cheapOldLowId, cheapOldHighId, cheapNew, expensive), new ArrayList<>(book));
+  }
+
+  @Test
+  public void bidPriority() {
+    Bid highNew = bid(3, 200, 20);
+    Bid highOldHighId = bid(2, 200, 10);
+    Bid highOldLowId = bid(-1, 200, 10);
+    Bid low = bid(4, 100, 1);
+
+    TreeSet<Bid> book = new TreeSet<>(Bid.PRIORITY);
+    book.addAll(Arrays.asList(low, highNew, highOldHighId, highOldLowId));
+
+    assertEquals(Arrays.asList(highOldLowId, highOldHighId, highNew, low), new ArrayList<>(book));
+  }
+
+  private static Ask ask(long id, long priceNQT, int height) {
+    return new Ask(id, 1L, 2L, priceNQT, height, 10L, null);
+  }
+
+  private static Bid bid(long id, long priceNQT, int height) {
+    return new Bid(id, 1L, 2L, priceNQT, height, 10L, null);
+  }
+}
@@ -0,0 +1,127 @@
+package brs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecentBlocksTest {
+
+  private RecentBlocks t;
+
+  @Before
+  public void setUp() {
+    t = new RecentBlocks(3);
+  }
+
+  @Test
+  public void setLastBlock_keepsWindow() {
+    Block[] chain = chain(1, 5, 100);
+    for (Block block : chain) {
+      t.setLastBlock(block);
+    }
+
+    assertEquals(3, t.size());
+    assertNull(t.getAtHeight(2));
+    assertNull(t.get(101));
+    assertSame(chain[2], t.getAtHeight(3));
+    assertSame(chain[4], t.get(104));
+  }
+
+  @Test
+  public void setLastBlock_popDropsBlocksAbove() {
+    Block[] chain = chain(1, 3, 100);
+    for (Block block : chain) {
+      t.setLastBlock(block);
+    }
+
+    Block poppedTo = block(2, 101, 100);
+    t.setLastBlock(poppedTo);
+
+    assertNull(t.get(102));
+    assertNull(t.getAtHeight(3));
+    assertSame(poppedTo, t.get(101));
+
+    Block fork = block(3, 202, 101);
+    t.setLastBlock(fork);
+    assertSame(fork, t.getAtHeight(3));
+    assertSame(chain[0], t.getAtHeight(1));
+  }
+
+  @Test
+  public void setLastBlock_unrelatedBlockResets() {
+    for (Block block : chain(1, 3, 100)) {
+      t.setLastBlock(block);
+    }
+
+    t.setLastBlock(block(4, 300, 299));
+
+    assertEquals(1, t.size());
+    assertNull(t.get(100));
+  }
+
+  @Test
+  public void offer_onlyWithinWindowAndGeneration() {
+    Block[] chain = chain(1, 5, 100);
+    t.setLastBlock(chain[4]);
+
+    long generation = t.getGeneration();
+    t.offer(chain[3], generation);
+    t.offer(chain[1], generation);
+    assertSame(chain[3], t.get(103));
+    assertNull(t.get(101));
+
+    long staleGeneration = t.getGeneration();
+    t.setLastBlock(chain[3]);
+    t.offer(chain[2], staleGeneration);
+    assertNull(t.get(102));
+  }
+
+  @Test
+  public void setLastBlock_keepsNextBlockIdsInStep() {
+    Block[] chain = chain(1, 3, 100);
+    for (Block block : chain) {
+      t.setLastBlock(block);
+    }
+
+    verify(chain[0]).setNextBlockId(101);
+    verify(chain[1]).setNextBlockId(102);
+    verify(chain[2], never()).setNextBlockId(103);
+
+    t.setLastBlock(chain[1]);
+    verify(chain[1], times(2)).setNextBlockId(0);
+  }
+
+  @Test
+  public void offer_setsNextBlockIdOfCachedFollower() {
+    Block[] chain = chain(1, 3, 100);
+    t.setLastBlock(chain[2]);
+
+    t.offer(chain[1], t.getGeneration());
+
+    verify(chain[1]).setNextBlockId(102);
+  }
+
+  private static Block[] chain(int fromHeight, int toHeight, long firstId) {
+    Block[] chain = new Block[toHeight - fromHeight + 1];
+    for (int i = 0; i < chain.length; i++) {
+      chain[i] = block(fromHeight + i, firstId + i, firstId + i - 1);
+    }
+    return chain;
+  }
+
+  private static Block block(int height, long id, long previousId) {
+    Block block = mock(Block.class);
+    when(block.getHeight()).thenReturn(height);
+    when(block.getId()).thenReturn(id);
+    when(block.getPreviousBlockId()).thenReturn(previousId);
+    return block;
+  }
+}
@@ -0,0 +1,32 @@
+package brs;
+
+import static brs.TradeCandle.Timeframe.BLOCKS;
+import static brs.TradeCandle.Timeframe.DAY;
+import static brs.TradeCandle.Timeframe.HOUR;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class TradeCandleTest {
+
+  private static final int HOURS = 60 * 60;
+
+  @Test
+  public void getStart_dayCandlesRunFromMidnightToMidnightUtc() {
+    // the epoch is 2014-08-11 02:00 UTC, so the first day ends 22 hours into it
+    assertEquals(-2 * HOURS, DAY.getStart(trade(0, 1)));
+    assertEquals(-2 * HOURS, DAY.getStart(trade(22 * HOURS - 1, 1)));
+    assertEquals(22 * HOURS, DAY.getStart(trade(22 * HOURS, 1)));
+    assertEquals(22 * HOURS, DAY.getStart(trade(46 * HOURS - 1, 1)));
+  }
+
+  @Test
+  public void getStart_hourAndBlockCandles() {
+    assertEquals(3 * HOURS, HOUR.getStart(trade(3 * HOURS + 59, 1)));
+    assertEquals(720, BLOCKS.getStart(trade(0, 1079)));
+  }
+
+  private static Trade trade(int timestamp, int height) {
+    return new Trade(timestamp, 1L, 1L, height, 1L, 2L, height, height, 1L, 2L, null, 1, 1);
+  }
+}
@@ -6,10 +6,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import brs.Trade;
+import brs.TradeCandle;
 import brs.common.AbstractUnitTest;
 import brs.db.BurstIterator;
 import brs.db.sql.EntitySqlTable;
 import brs.db.store.TradeStore;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -100,4 +103,17 @@ public class TradeServiceImplTest extends AbstractUnitTest {
 
     assertEquals(mockTradeIterator, t.getAllTrades(from, to));
   }
+
+  @Test
+  public void getCandles() {
+    final long assetId = 123L;
+    final int from = 1;
+    final int to = 2;
+
+    final List<TradeCandle> candles = Collections.singletonList(new TradeCandle(assetId, TradeCandle.Timeframe.HOUR, 3600, 1, 2, 1, 2, 10, 2, 5));
+
+    when(mockTradeStore.getCandles(eq(assetId), eq(TradeCandle.Timeframe.HOUR), eq(from), eq(to))).thenReturn(candles);
+
+    assertEquals(candles, t.getCandles(assetId, TradeCandle.Timeframe.HOUR, from, to));
+  }
 }
@@ -0,0 +1,201 @@
+package brs.at;
+
+import static brs.fluxcapacitor.FeatureToggle.AT_FIX_BLOCK_4;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.powermock.api.mockito.PowerMockito.doAnswer;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.spy;
+
+import brs.AT;
+import brs.Burst;
+import brs.common.Props;
+import brs.crypto.ReusableDigest;
+import brs.fluxcapacitor.FluxCapacitor;
+import brs.services.PropertyService;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({Burst.class, AT_Controller.class})
+public class AT_Parallel_ExecutorTest {
+
+  private static final int HEIGHT = 500;
+
+  private final AtomicInteger[] executions = new AtomicInteger[3];
+
+  private AT[] ats;
+
+  @Before
+  public void setUp() throws Exception {
+    PropertyService propertyService = mock(PropertyService.class);
+    when(propertyService.getBoolean(Props.AT_PARALLEL_VALIDATION)).thenReturn(true);
+    when(propertyService.getInt(eq(Props.CPU_NUM_CORES), anyInt())).thenReturn(4);
+    when(propertyService.getInt(eq(Props.AT_PARALLEL_VALIDATION_THREADS), anyInt())).thenReturn(4);
+
+    FluxCapacitor fluxCapacitor = mock(FluxCapacitor.class);
+    when(fluxCapacitor.isActive(eq(AT_FIX_BLOCK_4), anyInt())).thenReturn(true);
+
+    mockStatic(Burst.class);
+    when(Burst.getPropertyService()).thenReturn(propertyService);
+    when(Burst.getFluxCapacitor()).thenReturn(fluxCapacitor);
+
+    spy(AT_Controller.class);
+    ats = new AT[executions.length];
+    for (int i = 0; i < ats.length; i++) {
+      ats[i] = at(i + 1, 100 * (i + 1));
+      executions[i] = new AtomicInteger();
+      final AT at = ats[i];
+      final AtomicInteger count = executions[i];
+      final long fee = 10 * (i + 1);
+      final byte[] atId = at.getId();
+      doReturn(at).when(AT_Controller.class, "prepareAT", aryEq(atId), eq(HEIGHT));
+      doAnswer(invocation -> {
+        count.incrementAndGet();
+        return fee;
+      }).when(AT_Controller.class, "executeAT", at);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    Whitebox.setInternalState(AT_Parallel_Executor.class, "executionTimeoutMs", 30000L);
+    AT_Parallel_Executor.setSuspended(false);
+    AT.clearPendingFees();
+    AT.clearPendingTransactions();
+  }
+
+  @Test
+  public void validateATs_parallelAndSequentialAgree() throws Exception {
+    long parallelBlocks = AT_Parallel_Executor.getParallelBlocks();
+    AT_Block parallel = AT_Controller.validateATs(blockATs(ats), HEIGHT);
+    assertEquals(parallelBlocks + 1, AT_Parallel_Executor.getParallelBlocks());
+    AT.clearPendingFees();
+    AT.clearPendingTransactions();
+
+    AT_Parallel_Executor.setSuspended(true);
+    AT_Block sequential = AT_Controller.validateATs(blockATs(ats), HEIGHT);
+    assertEquals(parallelBlocks + 1, AT_Parallel_Executor.getParallelBlocks());
+
+    assertEquals(60, parallel.getTotalFees());
+    assertEquals(600, parallel.getTotalAmount());
+    assertEquals(sequential.getTotalFees(), parallel.getTotalFees());
+    assertEquals(sequential.getTotalAmount(), parallel.getTotalAmount());
+    assertArrayEquals(sequential.getBytesForBlock(), parallel.getBytesForBlock());
+    assertPendingTransactions();
+  }
+
+  @Test
+  public void validateATs_bothRejectMd5Mismatch() {
+    byte[] blockATs = blockATs(ats);
+    // a byte of the md5 of the second AT
+    blockATs[(AT_Constants.AT_ID_SIZE + 16) + AT_Constants.AT_ID_SIZE + 3] ^= 1;
+
+    assertRejected(blockATs);
+    AT_Parallel_Executor.setSuspended(true);
+    assertRejected(blockATs);
+  }
+
+  @Test
+  public void validateATs_workerFailureFallsBackToSequential() throws Exception {
+    AtomicInteger count = executions[1];
+    doAnswer(invocation -> {
+      if (count.incrementAndGet() == 1) {
+        throw new IllegalStateException("worker failed");
+      }
+      return 20L;
+    }).when(AT_Controller.class, "executeAT", ats[1]);
+    long fallbacks = AT_Parallel_Executor.getFallbacks();
+    long parallelBlocks = AT_Parallel_Executor.getParallelBlocks();
+
+    AT_Block atBlock = AT_Controller.validateATs(blockATs(ats), HEIGHT);
+
+    assertEquals(fallbacks + 1, AT_Parallel_Executor.getFallbacks());
+    assertEquals(parallelBlocks, AT_Parallel_Executor.getParallelBlocks());
+    assertEquals(2, count.get());
+    assertEquals(60, atBlock.getTotalFees());
+    assertEquals(600, atBlock.getTotalAmount());
+    assertPendingTransactions();
+  }
+
+  @Test
+  public void validateATs_timeoutFallsBackToSequential() throws Exception {
+    Whitebox.setInternalState(AT_Parallel_Executor.class, "executionTimeoutMs", 200L);
+    CountDownLatch never = new CountDownLatch(1);
+    AtomicInteger count = executions[2];
+    doAnswer(invocation -> {
+      if (count.incrementAndGet() == 1) {
+        never.await();
+      }
+      return 30L;
+    }).when(AT_Controller.class, "executeAT", ats[2]);
+    long fallbacks = AT_Parallel_Executor.getFallbacks();
+
+    AT_Block atBlock = AT_Controller.validateATs(blockATs(ats), HEIGHT);
+
+    assertEquals(fallbacks + 1, AT_Parallel_Executor.getFallbacks());
+    assertEquals(2, count.get());
+    assertEquals(60, atBlock.getTotalFees());
+    assertEquals(600, atBlock.getTotalAmount());
+    assertPendingTransactions();
+  }
+
+  private void assertRejected(byte[] blockATs) {
+    try {
+      AT_Controller.validateATs(blockATs, HEIGHT);
+      fail("AT_Exception expected");
+    } catch (AT_Exception expected) {
+      assertTrue(expected.getMessage().contains("md5"));
+    } catch (Exception e) {
+      fail(e.toString());
+    }
+  }
+
+  private void assertPendingTransactions() {
+    for (AT at : ats) {
+      assertTrue(AT.findPendingTransaction(recipient(at)));
+    }
+  }
+
+  private static AT at(long id, long amount) {
+    byte[] atId = ByteBuffer.allocate(AT_Constants.AT_ID_SIZE).order(ByteOrder.LITTLE_ENDIAN).putLong(id).array();
+    AT at = mock(AT.class);
+    when(at.getId()).thenReturn(atId);
+    when(at.getHeight()).thenReturn(HEIGHT);
+    when(at.getBytes()).thenReturn(new byte[] {(byte) id, 1, 2, 3});
+    byte[] recipient = ByteBuffer.allocate(AT_Constants.AT_ID_SIZE).order(ByteOrder.LITTLE_ENDIAN).putLong(id + 1000).array();
+    when(at.getTransactions()).thenReturn(Collections.singletonList(new AT_Transaction(atId, recipient, amount, null)));
+    return at;
+  }
+
+  private static byte[] recipient(AT at) {
+    return at.getTransactions().iterator().next().getRecipientId();
+  }
+
+  private static byte[] blockATs(AT... ats) {
+    ByteBuffer blockATs = ByteBuffer.allocate(ats.length * (AT_Constants.AT_ID_SIZE + 16)).order(ByteOrder.LITTLE_ENDIAN);
+    for (AT at : ats) {
+      blockATs.put(at.getId());
+      blockATs.put(ReusableDigest.MD5.digest(at.getBytes()));
+    }
+    return blockATs.array();
+  }
+}
@@ -9,9 +9,9 @@ import brs.Account;
 import brs.Block;
 import brs.DigitalGoodsStore.Purchase;
 import brs.common.AbstractUnitTest;
-import brs.db.BurstIterator;
 import brs.services.AccountService;
 import brs.services.DGSGoodsStoreService;
+import java.util.Arrays;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -46,8 +46,7 @@ public class DevNullListenerTest extends AbstractUnitTest {
     when(expiredPurchase.getPriceNQT()).thenReturn(3000L);
     when(expiredPurchase.getBuyerId()).thenReturn(purchaseBuyerId);
 
-    final BurstIterator<Purchase> mockIterator = mockBurstIterator(expiredPurchase);
-    when(dgsGoodsStoreServiceMock.getExpiredPendingPurchases(eq(blockTimestamp))).thenReturn(mockIterator);
+    when(dgsGoodsStoreServiceMock.getExpiredPendingPurchases(eq(blockTimestamp))).thenReturn(Arrays.asList(expiredPurchase));
 
     t.notify(block);
 
@@ -55,4 +54,38 @@ public class DevNullListenerTest extends AbstractUnitTest {
 
     verify(dgsGoodsStoreServiceMock).setPending(eq(expiredPurchase), eq(false));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void notify_sumsRefundsAndQuantities() {
+    int blockTimestamp = 123;
+    final Block block = mock(Block.class);
+    when(block.getTimestamp()).thenReturn(blockTimestamp);
+
+    long purchaseBuyerId = 34;
+    final Account purchaseBuyer = mock(Account.class);
+    when(accountServiceMock.getAccount(eq(purchaseBuyerId))).thenReturn(purchaseBuyer);
+
+    long goodsId = 56;
+    final Purchase firstPurchase = mock(Purchase.class);
+    when(firstPurchase.getQuantity()).thenReturn(5);
+    when(firstPurchase.getPriceNQT()).thenReturn(3000L);
+    when(firstPurchase.getBuyerId()).thenReturn(purchaseBuyerId);
+    when(firstPurchase.getGoodsId()).thenReturn(goodsId);
+
+    final Purchase secondPurchase = mock(Purchase.class);
+    when(secondPurchase.getQuantity()).thenReturn(2);
+    when(secondPurchase.getPriceNQT()).thenReturn(1000L);
+    when(secondPurchase.getBuyerId()).thenReturn(purchaseBuyerId);
+    when(secondPurchase.getGoodsId()).thenReturn(goodsId);
+
+    when(dgsGoodsStoreServiceMock.getExpiredPendingPurchases(eq(blockTimestamp))).thenReturn(Arrays.asList(firstPurchase, secondPurchase));
+
+    t.notify(block);
+
+    verify(accountServiceMock).addToUnconfirmedBalanceNQT(eq(purchaseBuyer), eq(17000L));
+    verify(dgsGoodsStoreServiceMock).changeQuantity(eq(goodsId), eq(7), eq(true));
+
+    verify(dgsGoodsStoreServiceMock).setPending(eq(firstPurchase), eq(false));
+    verify(dgsGoodsStoreServiceMock).setPending(eq(secondPurchase), eq(false));
+  }
+}
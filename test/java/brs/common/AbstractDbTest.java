@@ -0,0 +1,52 @@
+package brs.common;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+import brs.Burst;
+import brs.db.cache.DBCacheManagerImpl;
+import brs.db.sql.Db;
+import brs.db.store.Dbs;
+import brs.services.PropertyService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Runs every test against a fresh, fully migrated in-memory H2 database.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Burst.class)
+@PowerMockIgnore("javax.management.*")
+public abstract class AbstractDbTest extends AbstractUnitTest {
+
+  protected PropertyService propertyService;
+  protected Dbs dbs;
+
+  @Before
+  public void setUpDb() {
+    propertyService = mock(PropertyService.class);
+    when(propertyService.getString(Props.DB_URL)).thenReturn("jdbc:h2:mem:" + getClass().getSimpleName() + ";DB_CLOSE_DELAY=-1");
+    when(propertyService.getInt(Props.DB_CONNECTIONS)).thenReturn(2);
+
+    mockStatic(Burst.class);
+    when(Burst.getPropertyService()).thenReturn(propertyService);
+    when(Burst.getFluxCapacitor()).thenReturn(QuickMocker.fluxCapacitorEnabledFunctionalities());
+
+    Db.init(propertyService, mock(DBCacheManagerImpl.class));
+    dbs = Db.getDbsByDatabaseType();
+  }
+
+  @After
+  public void shutdownDb() {
+    if (Db.isInTransaction()) {
+      Db.rollbackTransaction();
+      Db.endTransaction();
+    }
+    Db.shutdown();
+  }
+}
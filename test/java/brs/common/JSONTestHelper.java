@@ -2,12 +2,29 @@ package brs.common;
 
 import static brs.http.common.ResultFields.ERROR_CODE_RESPONSE;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import org.json.simple.JSONObject;
 import org.json.simple.JSONStreamAware;
+import org.json.simple.JSONValue;
 
 public class JSONTestHelper {
 
   public static int errorCode(JSONStreamAware jsonStreamAware) {
     return (int) (((JSONObject) jsonStreamAware).get(ERROR_CODE_RESPONSE));
   }
+
+  /**
+   * Writes a (possibly streamed) response and parses it back into a json-simple tree.
+   */
+  public static JSONObject parse(JSONStreamAware jsonStreamAware) {
+    StringWriter writer = new StringWriter();
+    try {
+      jsonStreamAware.writeJSONString(writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return (JSONObject) JSONValue.parse(writer.toString());
+  }
 }
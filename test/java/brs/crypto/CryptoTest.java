@@ -0,0 +1,85 @@
+package brs.crypto;
+
+import static brs.common.TestConstants.TEST_PUBLIC_KEY_BYTES;
+import static brs.common.TestConstants.TEST_SECRET_PHRASE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import brs.util.Convert;
+import org.junit.Test;
+
+public class CryptoTest {
+
+  private static final String OTHER_SECRET_PHRASE = "another secret phrase";
+
+  @Test
+  public void verify() {
+    byte[] message = Convert.toBytes("message");
+    byte[] signature = Crypto.sign(message, TEST_SECRET_PHRASE);
+
+    assertTrue(Crypto.verify(signature, message, TEST_PUBLIC_KEY_BYTES, true));
+    // second time the precomputed public key is used
+    assertTrue(Crypto.verify(signature, message, TEST_PUBLIC_KEY_BYTES, true));
+  }
+
+  @Test
+  public void verify_wrongMessage() {
+    byte[] signature = Crypto.sign(Convert.toBytes("message"), TEST_SECRET_PHRASE);
+
+    assertFalse(Crypto.verify(signature, Convert.toBytes("other message"), TEST_PUBLIC_KEY_BYTES, true));
+  }
+
+  @Test
+  public void verify_wrongPublicKey() {
+    byte[] message = Convert.toBytes("message");
+    byte[] signature = Crypto.sign(message, TEST_SECRET_PHRASE);
+
+    assertFalse(Crypto.verify(signature, message, Crypto.getPublicKey(OTHER_SECRET_PHRASE), true));
+  }
+
+  @Test
+  public void verify_matchesCurve25519() {
+    byte[] message = Convert.toBytes("message");
+    byte[] signature = Crypto.sign(message, TEST_SECRET_PHRASE);
+
+    byte[] v = new byte[32];
+    byte[] h = new byte[32];
+    System.arraycopy(signature, 0, v, 0, 32);
+    System.arraycopy(signature, 32, h, 0, 32);
+
+    byte[] expected = new byte[32];
+    Curve25519.verify(expected, v, h, TEST_PUBLIC_KEY_BYTES);
+    byte[] actual = new byte[32];
+    Curve25519.verify(actual, signature, Curve25519.precompute(TEST_PUBLIC_KEY_BYTES));
+
+    assertEquals(Convert.toHexString(expected), Convert.toHexString(actual));
+  }
+
+  @Test
+  public void signatureBatch() {
+    byte[] message1 = Convert.toBytes("message 1");
+    byte[] message2 = Convert.toBytes("message 2");
+
+    Crypto.SignatureBatch batch = new Crypto.SignatureBatch(3);
+    batch.add(Crypto.sign(message1, TEST_SECRET_PHRASE), message1, TEST_PUBLIC_KEY_BYTES, true);
+    batch.add(Crypto.sign(message2, OTHER_SECRET_PHRASE), message2, Crypto.getPublicKey(OTHER_SECRET_PHRASE), true);
+    batch.add(Crypto.sign(message2, TEST_SECRET_PHRASE), message2, TEST_PUBLIC_KEY_BYTES, true);
+
+    assertEquals(3, batch.size());
+    assertEquals(-1, batch.verify());
+  }
+
+  @Test
+  public void signatureBatch_returnsFirstInvalid() {
+    byte[] message = Convert.toBytes("message");
+    byte[] signature = Crypto.sign(message, TEST_SECRET_PHRASE);
+
+    Crypto.SignatureBatch batch = new Crypto.SignatureBatch(3);
+    batch.add(signature, message, TEST_PUBLIC_KEY_BYTES, true);
+    batch.add(signature, Convert.toBytes("tampered"), TEST_PUBLIC_KEY_BYTES, true);
+    batch.add(signature, message, Crypto.getPublicKey(OTHER_SECRET_PHRASE), true);
+
+    assertEquals(1, batch.verify());
+  }
+}
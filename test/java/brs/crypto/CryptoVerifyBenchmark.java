@@ -0,0 +1,86 @@
+package brs.crypto;
+
+import brs.util.Convert;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares signature verification with precomputed public keys against the previous
+ * implementation, which unpacked the public key and allocated fresh digests for every call.
+ *
+ * Run with the test classpath, e.g. from the IDE or via the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoVerifyBenchmark {
+
+  private static final int BATCH_SIZE = 255;
+
+  private byte[] message;
+  private byte[] signature;
+  private byte[] publicKey;
+  private Crypto.SignatureBatch batch;
+
+  @Setup
+  public void setUp() {
+    String secretPhrase = "benchmark secret phrase";
+    message = Convert.toBytes("a transaction sized message ..................................................................................................");
+    signature = Crypto.sign(message, secretPhrase);
+    publicKey = Crypto.getPublicKey(secretPhrase);
+
+    batch = new Crypto.SignatureBatch(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(signature, message, publicKey, true);
+    }
+  }
+
+  @Benchmark
+  public boolean legacyVerify() {
+    byte[] Y = new byte[32];
+    byte[] v = new byte[32];
+    System.arraycopy(signature, 0, v, 0, 32);
+    byte[] h = new byte[32];
+    System.arraycopy(signature, 32, h, 0, 32);
+    Curve25519.verify(Y, v, h, publicKey);
+
+    MessageDigest digest = Crypto.sha256();
+    byte[] m = digest.digest(message);
+    digest.update(m);
+    byte[] h2 = digest.digest(Y);
+
+    return Arrays.equals(h, h2);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return Crypto.verify(signature, message, publicKey, true);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int verifyBatch() {
+    return batch.verify();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CryptoVerifyBenchmark.class.getSimpleName()).build()).run();
+  }
+}
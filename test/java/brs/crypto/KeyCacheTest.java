@@ -0,0 +1,56 @@
+package brs.crypto;
+
+import static brs.common.TestConstants.TEST_PUBLIC_KEY_BYTES;
+import static brs.common.TestConstants.TEST_SECRET_PHRASE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import brs.util.Convert;
+import org.junit.After;
+import org.junit.Test;
+
+public class KeyCacheTest {
+
+  @After
+  public void tearDown() {
+    KeyCache.clear();
+  }
+
+  @Test
+  public void getPublicKey_returnsCallerOwnedCopies() {
+    byte[] publicKey = Crypto.getPublicKey(TEST_SECRET_PHRASE);
+    assertArrayEquals(TEST_PUBLIC_KEY_BYTES, publicKey);
+
+    publicKey[0]++;
+
+    assertArrayEquals(TEST_PUBLIC_KEY_BYTES, Crypto.getPublicKey(TEST_SECRET_PHRASE));
+  }
+
+  @Test
+  public void getPrivateKey_matchesClampedPassphraseHash() {
+    byte[] expected = Crypto.sha256().digest(Convert.toBytes(TEST_SECRET_PHRASE));
+    Curve25519.clamp(expected);
+
+    assertArrayEquals(expected, Crypto.getPrivateKey(TEST_SECRET_PHRASE));
+    assertArrayEquals(expected, Crypto.getPrivateKey(TEST_SECRET_PHRASE));
+  }
+
+  @Test
+  public void sign_afterCacheHitAndClear() {
+    byte[] message = Convert.toBytes("message");
+
+    assertTrue(Crypto.verify(Crypto.sign(message, TEST_SECRET_PHRASE), message, TEST_PUBLIC_KEY_BYTES, true));
+    assertTrue(Crypto.verify(Crypto.sign(message, TEST_SECRET_PHRASE), message, TEST_PUBLIC_KEY_BYTES, true));
+    KeyCache.clear();
+    assertTrue(Crypto.verify(Crypto.sign(message, TEST_SECRET_PHRASE), message, TEST_PUBLIC_KEY_BYTES, true));
+  }
+
+  @Test
+  public void getAccountId() {
+    long expected = Convert.fullHashToId(Crypto.sha256().digest(TEST_PUBLIC_KEY_BYTES));
+
+    assertEquals(expected, KeyCache.getAccountId(TEST_PUBLIC_KEY_BYTES));
+    assertEquals(expected, KeyCache.getAccountId(TEST_PUBLIC_KEY_BYTES.clone()));
+  }
+}
@@ -0,0 +1,58 @@
+package brs.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import brs.crypto.hash.RIPEMD160;
+import brs.crypto.hash.Shabal256;
+import brs.util.Convert;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class ReusableDigestTest {
+
+  private final byte[] input = Convert.toBytes("input to hash");
+  private final byte[] other = Convert.toBytes("other input");
+
+  @Test
+  public void digest_matchesFreshInstances() throws Exception {
+    assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(input), ReusableDigest.SHA256.digest(input));
+    assertArrayEquals(MessageDigest.getInstance("MD5").digest(input), ReusableDigest.MD5.digest(input));
+    assertArrayEquals(new RIPEMD160().digest(input), ReusableDigest.RIPEMD160.digest(input));
+    assertArrayEquals(new Shabal256().digest(input), ReusableDigest.SHABAL256.digest(input));
+  }
+
+  @Test
+  public void digest_twoInputs() {
+    MessageDigest expected = Crypto.sha256();
+    expected.update(input);
+
+    assertArrayEquals(expected.digest(other), ReusableDigest.SHA256.digest(input, other));
+    // the thread's instance is reset between calls
+    assertArrayEquals(Crypto.sha256().digest(other), ReusableDigest.SHA256.digest(other));
+  }
+
+  @Test
+  public void digestInto_offsetsAndOverlap() {
+    byte[] buffer = new byte[64];
+    System.arraycopy(input, 0, buffer, 10, input.length);
+    byte[] expected = shabal256Of(Arrays.copyOfRange(buffer, 10, 10 + input.length));
+
+    ReusableDigest.SHABAL256.digestInto(buffer, 0, buffer, 10, input.length);
+
+    assertArrayEquals(expected, Arrays.copyOf(buffer, 32));
+  }
+
+  @Test
+  public void getDigestLength() {
+    assertEquals(32, ReusableDigest.SHA256.getDigestLength());
+    assertEquals(16, ReusableDigest.MD5.getDigestLength());
+    assertEquals(20, ReusableDigest.RIPEMD160.getDigestLength());
+    assertEquals(32, ReusableDigest.SHABAL256.getDigestLength());
+  }
+
+  private static byte[] shabal256Of(byte[] data) {
+    return new Shabal256().digest(data);
+  }
+}
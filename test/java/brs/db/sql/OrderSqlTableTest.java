@@ -0,0 +1,135 @@
+package brs.db.sql;
+
+import static brs.schema.Tables.ASK_ORDER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import brs.BlockchainImpl;
+import brs.Burst;
+import brs.Order;
+import brs.common.AbstractDbTest;
+import brs.db.store.DerivedTableManager;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OrderSqlTableTest extends AbstractDbTest {
+
+  private static final long ASSET_ID = 7L;
+
+  private SqlOrderStore store;
+  private OrderSqlTable<Order.Ask> t;
+
+  private BlockchainImpl blockchainMock;
+
+  @Before
+  public void setUp() {
+    blockchainMock = mock(BlockchainImpl.class);
+    when(Burst.getBlockchain()).thenReturn(blockchainMock);
+
+    store = new SqlOrderStore(new DerivedTableManager());
+    t = store.askOrderTable;
+
+    when(blockchainMock.getHeight()).thenReturn(9);
+    inTransaction(() -> {
+      t.insert(ask(1L, 100, 50));
+      t.finish();
+    });
+  }
+
+  @Test
+  public void finish_writesOrderFilledInSeveralTradesOnce() {
+    when(blockchainMock.getHeight()).thenReturn(10);
+    inTransaction(() -> {
+      Order.Ask ask = store.getNextOrder(ASSET_ID);
+      assertEquals(1L, ask.getId());
+      ask.setQuantityQNT(30);
+      t.insert(ask);
+      ask.setQuantityQNT(10);
+      t.insert(ask);
+      assertEquals(0, rowsAtHeight(1L, 10));
+
+      t.finish();
+      assertEquals(1, rowsAtHeight(1L, 10));
+    });
+
+    assertEquals(2, rows(1L));
+    assertEquals(10, latestQuantity(1L));
+  }
+
+  @Test
+  public void finish_writesNothingForOrderPlacedAndRemovedInTheSameBlock() {
+    when(blockchainMock.getHeight()).thenReturn(10);
+    inTransaction(() -> {
+      Order.Ask ask = ask(2L, 90, 20);
+      t.insert(ask);
+      assertSame(ask, store.getNextOrder(ASSET_ID));
+      t.delete(ask);
+      assertEquals(1L, store.getNextOrder(ASSET_ID).getId());
+      t.finish();
+    });
+
+    assertEquals(0, rows(2L));
+  }
+
+  @Test
+  public void rollback_dropsBookAndPendingWrites() {
+    when(blockchainMock.getHeight()).thenReturn(10);
+    inTransaction(() -> {
+      Order.Ask ask = store.getNextOrder(ASSET_ID);
+      ask.setQuantityQNT(30);
+      t.insert(ask);
+      t.insert(ask(2L, 90, 20));
+      assertEquals(2L, store.getNextOrder(ASSET_ID).getId());
+
+      t.rollback(9);
+
+      Order.Ask reloaded = store.getNextOrder(ASSET_ID);
+      assertEquals(1L, reloaded.getId());
+      assertEquals(50, reloaded.getQuantityQNT());
+      t.finish();
+    });
+
+    assertEquals(0, rows(2L));
+    assertEquals(1, rows(1L));
+    assertEquals(50, latestQuantity(1L));
+  }
+
+  @Test
+  public void getNextOrder_emptyBook() {
+    inTransaction(() -> {
+      assertNull(store.getNextOrder(ASSET_ID + 1));
+      t.delete(store.getNextOrder(ASSET_ID));
+      assertNull(store.getNextOrder(ASSET_ID));
+    });
+  }
+
+  private Order.Ask ask(long id, long priceNQT, long quantityQNT) {
+    return new Order.Ask(id, 1L, ASSET_ID, priceNQT, 5, quantityQNT, store.getAskOrderDbKeyFactory().newKey(id));
+  }
+
+  private static int rows(long id) {
+    return Db.getDSLContext().fetchCount(ASK_ORDER, ASK_ORDER.ID.eq(id));
+  }
+
+  private static int rowsAtHeight(long id, int height) {
+    return Db.getDSLContext().fetchCount(ASK_ORDER, ASK_ORDER.ID.eq(id).and(ASK_ORDER.HEIGHT.eq(height)));
+  }
+
+  private static long latestQuantity(long id) {
+    return Db.getDSLContext().select(ASK_ORDER.QUANTITY).from(ASK_ORDER)
+        .where(ASK_ORDER.ID.eq(id)).and(ASK_ORDER.LATEST.isTrue()).fetchOne(ASK_ORDER.QUANTITY);
+  }
+
+  private static void inTransaction(Runnable work) {
+    Db.beginTransaction();
+    try {
+      work.run();
+      Db.commitTransaction();
+    } finally {
+      Db.endTransaction();
+    }
+  }
+}
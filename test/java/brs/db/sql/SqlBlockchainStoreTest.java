@@ -0,0 +1,158 @@
+package brs.db.sql;
+
+import static brs.schema.Tables.BLOCK;
+import static brs.schema.Tables.TRANSACTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import brs.Block;
+import brs.BlockchainImpl;
+import brs.Burst;
+import brs.Constants;
+import brs.Transaction;
+import brs.TransactionType;
+import brs.common.AbstractDbTest;
+import brs.common.Props;
+import brs.db.BurstIterator;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.jooq.DSLContext;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SqlBlockchainStoreTest extends AbstractDbTest {
+
+  private static final int LAST_HEIGHT = 2 * SqlBlockchainStore.TRANSACTION_BATCH_SIZE + 50;
+
+  private SqlBlockchainStore t;
+
+  private long nextTransactionId = 1;
+
+  @Before
+  public void setUp() {
+    when(propertyService.getInt(Props.DB_MAX_ROLLBACK)).thenReturn(1440);
+    BlockchainImpl blockchainMock = mock(BlockchainImpl.class);
+    when(blockchainMock.getHeight()).thenReturn(LAST_HEIGHT);
+    when(Burst.getBlockchain()).thenReturn(blockchainMock);
+    when(Burst.getDbs()).thenReturn(dbs);
+    TransactionType.init(blockchainMock, Burst.getFluxCapacitor(), null, null, null, null, null, null);
+
+    DSLContext ctx = Db.getDSLContext();
+    for (int height = 0; height <= LAST_HEIGHT; height++) {
+      insertBlock(ctx, height);
+      for (int i = 0; i < transactionCount(height); i++) {
+        insertTransaction(ctx, height);
+      }
+    }
+
+    t = new SqlBlockchainStore();
+  }
+
+  @Test
+  public void getBlocks_attachesTransactionsToTheirBlocksAcrossBatches() {
+    int blocks = 0;
+    try (BurstIterator<Block> iterator = t.getBlocks(0, -1)) {
+      while (iterator.hasNext()) {
+        Block block = iterator.next();
+        assertEquals(LAST_HEIGHT - blocks, block.getHeight());
+        assertTransactions(block);
+        blocks++;
+      }
+    }
+    assertEquals(LAST_HEIGHT + 1, blocks);
+  }
+
+  @Test
+  public void getBlocksAfter_attachesTransactionsAndEmptyLists() {
+    List<Block> blocks = t.getBlocksAfter(blockId(148), 6);
+
+    assertEquals(6, blocks.size());
+    for (Block block : blocks) {
+      assertTransactions(block);
+    }
+  }
+
+  @Test
+  public void findBlockTransactions_groupsByBlockAndSkipsBlocksWithoutTransactions() {
+    Map<Long, List<Transaction>> transactions = dbs.getTransactionDb().findBlockTransactions(
+        Arrays.asList(blockId(150), blockId(151), blockId(152), blockId(153)));
+
+    assertEquals(3, transactions.size());
+    assertFalse(transactions.containsKey(blockId(152)));
+    for (int height : new int[] {150, 151, 153}) {
+      List<Transaction> blockTransactions = transactions.get(blockId(height));
+      assertEquals(transactionCount(height), blockTransactions.size());
+      for (int i = 0; i < blockTransactions.size(); i++) {
+        assertEquals(blockId(height), blockTransactions.get(i).getBlockId());
+        if (i > 0) {
+          assertTrue(blockTransactions.get(i - 1).getId() < blockTransactions.get(i).getId());
+        }
+      }
+    }
+    assertTrue(dbs.getTransactionDb().findBlockTransactions(Collections.emptyList()).isEmpty());
+  }
+
+  private void assertTransactions(Block block) {
+    List<Long> expected = new ArrayList<>();
+    for (Transaction transaction : dbs.getTransactionDb().findBlockTransactions(block.getId())) {
+      expected.add(transaction.getId());
+    }
+    List<Long> actual = new ArrayList<>();
+    for (Transaction transaction : block.getTransactions()) {
+      assertEquals(block.getId(), transaction.getBlockId());
+      actual.add(transaction.getId());
+    }
+    assertEquals(transactionCount(block.getHeight()), actual.size());
+    assertEquals(expected, actual);
+  }
+
+  /**
+   * Blocks at multiples of 3 get one transaction, the first and last block of every batch of
+   * {@link SqlBlockchainStore#getBlocks} two, counting down from the last height.
+   */
+  private static int transactionCount(int height) {
+    int positionInBatch = (LAST_HEIGHT - height) % SqlBlockchainStore.TRANSACTION_BATCH_SIZE;
+    if (positionInBatch == 0 || positionInBatch == SqlBlockchainStore.TRANSACTION_BATCH_SIZE - 1) {
+      return 2;
+    }
+    return height % 3 == 0 ? 1 : 0;
+  }
+
+  private static long blockId(int height) {
+    return 1000 + height;
+  }
+
+  private static byte[] fullHash(long transactionId) {
+    return ByteBuffer.allocate(32).putLong(transactionId).array();
+  }
+
+  private static void insertBlock(DSLContext ctx, int height) {
+    ctx.insertInto(BLOCK, BLOCK.ID, BLOCK.VERSION, BLOCK.TIMESTAMP, BLOCK.TOTAL_AMOUNT, BLOCK.TOTAL_FEE,
+        BLOCK.PAYLOAD_LENGTH, BLOCK.GENERATOR_PUBLIC_KEY, BLOCK.CUMULATIVE_DIFFICULTY, BLOCK.BASE_TARGET, BLOCK.HEIGHT,
+        BLOCK.GENERATION_SIGNATURE, BLOCK.BLOCK_SIGNATURE, BLOCK.PAYLOAD_HASH, BLOCK.GENERATOR_ID, BLOCK.NONCE)
+        .values(blockId(height), 3, height * 240, 0L, 0L, 0, new byte[32], BigInteger.ONE.toByteArray(),
+            Constants.INITIAL_BASE_TARGET, height, new byte[32], new byte[64], new byte[32], 1L, 0L)
+        .execute();
+  }
+
+  private void insertTransaction(DSLContext ctx, int height) {
+    long id = nextTransactionId++;
+    ctx.insertInto(TRANSACTION, TRANSACTION.ID, TRANSACTION.DEADLINE, TRANSACTION.SENDER_PUBLIC_KEY,
+        TRANSACTION.RECIPIENT_ID, TRANSACTION.AMOUNT, TRANSACTION.FEE, TRANSACTION.HEIGHT, TRANSACTION.BLOCK_ID,
+        TRANSACTION.SIGNATURE, TRANSACTION.TIMESTAMP, TRANSACTION.TYPE, TRANSACTION.SUBTYPE, TRANSACTION.SENDER_ID,
+        TRANSACTION.BLOCK_TIMESTAMP, TRANSACTION.FULL_HASH, TRANSACTION.VERSION,
+        TRANSACTION.EC_BLOCK_HEIGHT, TRANSACTION.EC_BLOCK_ID)
+        .values(id, (short) 1440, new byte[32], 2L, Constants.ONE_BURST, Constants.ONE_BURST, height, blockId(height),
+            new byte[64], height * 240, (byte) 0, (byte) 0, 1L, height * 240, fullHash(id), (byte) 1,
+            0, blockId(0))
+        .execute();
+  }
+}
@@ -0,0 +1,82 @@
+package brs.db.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import brs.BlockchainImpl;
+import brs.Burst;
+import brs.Subscription;
+import brs.common.AbstractDbTest;
+import brs.db.VersionedEntityTable;
+import brs.db.store.DerivedTableManager;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SqlSubscriptionStoreTest extends AbstractDbTest {
+
+  private SqlSubscriptionStore t;
+
+  private BlockchainImpl blockchainMock;
+
+  @Before
+  public void setUp() {
+    blockchainMock = mock(BlockchainImpl.class);
+    when(Burst.getBlockchain()).thenReturn(blockchainMock);
+
+    t = new SqlSubscriptionStore(new DerivedTableManager());
+    // the due index is loaded by a transaction without changes to the table
+    inTransaction(() -> assertTrue(t.getUpdateSubscriptions(Integer.MAX_VALUE).isEmpty()));
+  }
+
+  @Test
+  public void getUpdateSubscriptions_findsCommittedSubscriptionsInTheIndex() {
+    when(blockchainMock.getHeight()).thenReturn(5);
+    inTransaction(() -> {
+      t.getSubscriptionTable().insert(subscription(1L, 100));
+      t.getSubscriptionTable().finish();
+    });
+
+    inTransaction(() -> {
+      List<Subscription> due = t.getUpdateSubscriptions(100);
+      assertEquals(1, due.size());
+      assertEquals(1L, (long) due.get(0).getId());
+      assertTrue(t.getUpdateSubscriptions(99).isEmpty());
+    });
+  }
+
+  @Test
+  public void getUpdateSubscriptions_forgetsSubscriptionsOfAFailedCommitOnceRolledBack() {
+    when(blockchainMock.getHeight()).thenReturn(5);
+    Db.beginTransaction();
+    try {
+      VersionedEntityTable<Subscription> table = t.getSubscriptionTable();
+      table.insert(subscription(1L, 100));
+      table.finish();
+      // the commit fails after the table merged its changes into the index
+      Db.rollbackTransaction();
+      table.rollback(4);
+      Db.commitTransaction();
+    } finally {
+      Db.endTransaction();
+    }
+
+    inTransaction(() -> assertTrue(t.getUpdateSubscriptions(Integer.MAX_VALUE).isEmpty()));
+  }
+
+  private Subscription subscription(long id, int timeNext) {
+    return new Subscription(10L, 20L, id, 100L, 3600, timeNext, t.getSubscriptionDbKeyFactory().newKey(id));
+  }
+
+  private static void inTransaction(Runnable work) {
+    Db.beginTransaction();
+    try {
+      work.run();
+      Db.commitTransaction();
+    } finally {
+      Db.endTransaction();
+    }
+  }
+}
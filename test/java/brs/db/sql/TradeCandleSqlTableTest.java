@@ -0,0 +1,131 @@
+package brs.db.sql;
+
+import static brs.TradeCandle.Timeframe.BLOCKS;
+import static brs.TradeCandle.Timeframe.DAY;
+import static brs.TradeCandle.Timeframe.HOUR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import brs.Trade;
+import brs.TradeCandle;
+import brs.common.AbstractDbTest;
+import brs.db.store.DerivedTableManager;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TradeCandleSqlTableTest extends AbstractDbTest {
+
+  private static final long ASSET_ID = 5L;
+
+  private TradeCandleSqlTable t;
+
+  private SqlTradeStore tradeStore;
+
+  private long nextOrderId = 1;
+
+  @Before
+  public void setUp() {
+    DerivedTableManager derivedTableManager = new DerivedTableManager();
+    tradeStore = new SqlTradeStore(derivedTableManager);
+    t = new TradeCandleSqlTable(derivedTableManager);
+  }
+
+  @Test
+  public void add_updatesCandleOfTheSameTimeframeInPlace() {
+    inTransaction(() -> {
+      add(trade(3600, 10, 100, 5));
+      add(trade(3700, 11, 80, 3));
+      add(trade(3800, 12, 120, 2));
+    });
+
+    List<TradeCandle> candles = t.getCandles(ASSET_ID, HOUR, 0, -1);
+    assertEquals(1, candles.size());
+    assertCandle(candles.get(0), 3600, 100, 120, 80, 120, 10, 3, 12);
+  }
+
+  @Test
+  public void add_insertsCandleForTradeInNextTimeframe() {
+    inTransaction(() -> {
+      add(trade(3600, 10, 100, 5));
+      add(trade(7200, 11, 80, 3));
+    });
+
+    List<TradeCandle> candles = t.getCandles(ASSET_ID, HOUR, 0, -1);
+    assertEquals(2, candles.size());
+    assertCandle(candles.get(0), 7200, 80, 80, 80, 80, 3, 1, 11);
+    assertCandle(candles.get(1), 3600, 100, 100, 100, 100, 5, 1, 10);
+
+    assertEquals(1, t.getCandles(ASSET_ID, DAY, 0, -1).size());
+    assertEquals(1, t.getCandles(ASSET_ID, BLOCKS, 0, -1).size());
+  }
+
+  @Test
+  public void rollback_rebuildsCandlesFromRemainingTrades() {
+    inTransaction(() -> {
+      add(trade(3600, 10, 100, 5));
+      add(trade(3700, 11, 130, 3));
+      add(trade(7200, 12, 80, 2));
+    });
+
+    inTransaction(() -> {
+      tradeStore.getTradeTable().rollback(10);
+      t.rollback(10);
+    });
+
+    List<TradeCandle> hours = t.getCandles(ASSET_ID, HOUR, 0, -1);
+    assertEquals(1, hours.size());
+    assertCandle(hours.get(0), 3600, 100, 100, 100, 100, 5, 1, 10);
+
+    List<TradeCandle> blocks = t.getCandles(ASSET_ID, BLOCKS, 0, -1);
+    assertEquals(1, blocks.size());
+    assertCandle(blocks.get(0), 0, 100, 100, 100, 100, 5, 1, 10);
+  }
+
+  @Test
+  public void rollback_dropsCandlesWithoutRemainingTrades() {
+    inTransaction(() -> add(trade(3600, 10, 100, 5)));
+
+    inTransaction(() -> {
+      tradeStore.getTradeTable().rollback(9);
+      t.rollback(9);
+    });
+
+    assertTrue(t.getCandles(ASSET_ID, HOUR, 0, -1).isEmpty());
+    assertTrue(t.getCandles(ASSET_ID, DAY, 0, -1).isEmpty());
+  }
+
+  private void add(Trade trade) {
+    tradeStore.getTradeTable().insert(trade);
+    t.add(trade);
+  }
+
+  private Trade trade(int timestamp, int height, long priceNQT, long quantityQNT) {
+    long askOrderId = nextOrderId++;
+    long bidOrderId = nextOrderId++;
+    return new Trade(timestamp, ASSET_ID, height, height, askOrderId, bidOrderId, height, height, 1L, 2L,
+        tradeStore.getTradeDbKeyFactory().newKey(askOrderId, bidOrderId), quantityQNT, priceNQT);
+  }
+
+  private static void assertCandle(TradeCandle candle, int start, long openNQT, long highNQT, long lowNQT, long closeNQT,
+                                   long quantityQNT, int tradeCount, int height) {
+    assertEquals(start, candle.getStart());
+    assertEquals(openNQT, candle.getOpenNQT());
+    assertEquals(highNQT, candle.getHighNQT());
+    assertEquals(lowNQT, candle.getLowNQT());
+    assertEquals(closeNQT, candle.getCloseNQT());
+    assertEquals(quantityQNT, candle.getQuantityQNT());
+    assertEquals(tradeCount, candle.getTradeCount());
+    assertEquals(height, candle.getHeight());
+  }
+
+  private static void inTransaction(Runnable work) {
+    Db.beginTransaction();
+    try {
+      work.run();
+      Db.commitTransaction();
+    } finally {
+      Db.endTransaction();
+    }
+  }
+}
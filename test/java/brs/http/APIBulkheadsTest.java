@@ -0,0 +1,94 @@
+package brs.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import brs.http.APIBulkheads.Bulkhead;
+import brs.http.APIBulkheads.Group;
+import brs.services.PropertyService;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class APIBulkheadsTest {
+
+  private APIBulkheads t;
+
+  @Before
+  public void setUp() {
+    PropertyService propertyService = mock(PropertyService.class);
+    when(propertyService.getInt(eq("API.Bulkhead.AE.Threads"), anyInt())).thenReturn(1);
+    when(propertyService.getInt(eq("API.Bulkhead.AE.QueueSize"), anyInt())).thenReturn(1);
+    when(propertyService.getInt(eq("API.BulkheadTimeoutMs"), anyInt())).thenReturn(5000);
+
+    t = new APIBulkheads(propertyService);
+  }
+
+  @After
+  public void tearDown() {
+    t.shutdown();
+  }
+
+  @Test
+  public void groupOf() {
+    assertEquals(Group.MINING, Group.of(new HashSet<>(Arrays.asList(APITag.MINING, APITag.INFO))));
+    assertEquals(Group.AE, Group.of(EnumSet.of(APITag.AE, APITag.ACCOUNTS)));
+    assertEquals(Group.ACCOUNTS, Group.of(EnumSet.of(APITag.ACCOUNTS)));
+    assertEquals(Group.INFO, Group.of(EnumSet.of(APITag.INFO)));
+    assertEquals(Group.OTHER, Group.of(EnumSet.of(APITag.BLOCKS)));
+  }
+
+  @Test
+  public void execute_rejectsWhenThreadsAndQueueAreFull() throws InterruptedException {
+    Bulkhead ae = t.get(Group.AE);
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(2);
+
+    assertTrue(ae.execute(() -> {
+      running.countDown();
+      awaitQuietly(release);
+      done.countDown();
+    }));
+    assertTrue(running.await(5, TimeUnit.SECONDS));
+    assertTrue(ae.execute(done::countDown));
+    assertFalse(ae.execute(done::countDown));
+
+    // other groups are not affected
+    assertTrue(t.get(Group.MINING).execute(() -> { }));
+
+    release.countDown();
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+
+    assertEquals(2, ae.getAccepted());
+    assertEquals(1, ae.getRejected());
+
+    JSONObject stats = (JSONObject) t.getStats().get("AE");
+    assertEquals(1L, stats.get("rejected"));
+    assertEquals(1, stats.get("threads"));
+  }
+
+  @Test
+  public void getTimeoutMs() {
+    assertEquals(5000, t.getTimeoutMs());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
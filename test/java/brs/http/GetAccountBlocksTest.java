@@ -15,6 +15,7 @@ import brs.Block;
 import brs.Blockchain;
 import brs.BurstException;
 import brs.common.AbstractUnitTest;
+import brs.common.JSONTestHelper;
 import brs.common.QuickMocker;
 import brs.common.QuickMocker.MockParam;
 import brs.db.BurstIterator;
@@ -67,7 +68,7 @@ public class GetAccountBlocksTest extends AbstractUnitTest {
     final BurstIterator<Block> mockBlockIterator = mockBurstIterator(Arrays.asList(mockBlock));
     when(blockchainMock.getBlocks(eq(mockAccount), eq(mockTimestamp), eq(mockFirstIndex), eq(mockLastIndex))).thenReturn(mockBlockIterator);
 
-    final JSONObject result = (JSONObject) t.processRequest(req);
+    final JSONObject result = JSONTestHelper.parse(t.processRequest(req));
 
     final JSONArray blocks = (JSONArray) result.get(BLOCKS_RESPONSE);
     assertNotNull(blocks);
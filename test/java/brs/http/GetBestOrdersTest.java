@@ -0,0 +1,101 @@
+package brs.http;
+
+import static brs.http.JSONResponses.INCORRECT_ASSETS_COUNT;
+import static brs.http.JSONResponses.UNKNOWN_ASSET;
+import static brs.http.common.Parameters.ASSETS_PARAMETER;
+import static brs.http.common.ResultFields.ASSETS_RESPONSE;
+import static brs.http.common.ResultFields.ASSET_RESPONSE;
+import static brs.http.common.ResultFields.BEST_ASK_RESPONSE;
+import static brs.http.common.ResultFields.BEST_BID_RESPONSE;
+import static brs.http.common.ResultFields.PRICE_NQT_RESPONSE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Asset;
+import brs.Block;
+import brs.Blockchain;
+import brs.BlockchainProcessor;
+import brs.Order.Ask;
+import brs.Order.Bid;
+import brs.assetexchange.AssetExchange;
+import brs.common.AbstractUnitTest;
+import brs.common.QuickMocker;
+import brs.db.BurstIterator;
+import java.util.Arrays;
+import javax.servlet.http.HttpServletRequest;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GetBestOrdersTest extends AbstractUnitTest {
+
+  private AssetExchange mockAssetExchange;
+
+  private GetBestOrders t;
+
+  @Before
+  public void setUp() {
+    Blockchain mockBlockchain = mock(Blockchain.class);
+    mockAssetExchange = mock(AssetExchange.class);
+    final Block mockBlock = mock(Block.class);
+    when(mockBlockchain.getLastBlock()).thenReturn(mockBlock);
+
+    when(mockAssetExchange.getAsset(eq(1L))).thenReturn(mock(Asset.class));
+    when(mockAssetExchange.getAsset(eq(2L))).thenReturn(mock(Asset.class));
+
+    t = new GetBestOrders(new OrderBookSnapshots(mockBlockchain, mock(BlockchainProcessor.class), mockAssetExchange));
+  }
+
+  @Test
+  public void processRequest() {
+    final BurstIterator<Ask> askIterator = mockBurstIterator(new Ask(10L, 1L, 1L, 100L, 1, 10L, null));
+    final BurstIterator<Bid> bidIterator = mockBurstIterator(new Bid(11L, 1L, 1L, 90L, 1, 10L, null));
+    final BurstIterator<Ask> emptyAskIterator = mockBurstIterator();
+    final BurstIterator<Bid> emptyBidIterator = mockBurstIterator();
+    when(mockAssetExchange.getSortedAskOrders(eq(1L), eq(0), eq(-1))).thenReturn(askIterator);
+    when(mockAssetExchange.getSortedBidOrders(eq(1L), eq(0), eq(-1))).thenReturn(bidIterator);
+    when(mockAssetExchange.getSortedAskOrders(eq(2L), eq(0), eq(-1))).thenReturn(emptyAskIterator);
+    when(mockAssetExchange.getSortedBidOrders(eq(2L), eq(0), eq(-1))).thenReturn(emptyBidIterator);
+
+    final HttpServletRequest req = QuickMocker.httpServletRequest();
+    when(req.getParameterValues(eq(ASSETS_PARAMETER))).thenReturn(new String[] {"1", "2"});
+
+    final JSONArray assets = (JSONArray) ((JSONObject) t.processRequest(req)).get(ASSETS_RESPONSE);
+    assertEquals(2, assets.size());
+
+    final JSONObject asset1 = (JSONObject) assets.get(0);
+    assertEquals("1", asset1.get(ASSET_RESPONSE));
+    assertEquals("100", ((JSONObject) asset1.get(BEST_ASK_RESPONSE)).get(PRICE_NQT_RESPONSE));
+    assertEquals("90", ((JSONObject) asset1.get(BEST_BID_RESPONSE)).get(PRICE_NQT_RESPONSE));
+
+    final JSONObject asset2 = (JSONObject) assets.get(1);
+    assertNull(asset2.get(BEST_ASK_RESPONSE));
+    assertNull(asset2.get(BEST_BID_RESPONSE));
+  }
+
+  @Test
+  public void processRequest_unknownAsset() {
+    final HttpServletRequest req = QuickMocker.httpServletRequest();
+    when(req.getParameterValues(eq(ASSETS_PARAMETER))).thenReturn(new String[] {"3"});
+
+    assertEquals(UNKNOWN_ASSET, t.processRequest(req));
+    verify(mockAssetExchange, never()).getSortedAskOrders(eq(3L), eq(0), eq(-1));
+  }
+
+  @Test
+  public void processRequest_tooManyAssets() {
+    final String[] assets = new String[GetBestOrders.MAX_ASSETS + 1];
+    Arrays.fill(assets, "1");
+    final HttpServletRequest req = QuickMocker.httpServletRequest();
+    when(req.getParameterValues(eq(ASSETS_PARAMETER))).thenReturn(assets);
+
+    assertEquals(INCORRECT_ASSETS_COUNT, t.processRequest(req));
+    verify(mockAssetExchange, never()).getSortedAskOrders(eq(1L), eq(0), eq(-1));
+  }
+}
@@ -0,0 +1,68 @@
+package brs.http;
+
+import static brs.http.common.ResultFields.COUNT_RESPONSE;
+import static brs.http.common.ResultFields.ENABLED_RESPONSE;
+import static brs.http.common.ResultFields.FALLBACKS_RESPONSE;
+import static brs.http.common.ResultFields.MAX_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.MEAN_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.P50_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.P90_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.P99_MICROS_RESPONSE;
+import static brs.http.common.ResultFields.PARALLEL_ATS_RESPONSE;
+import static brs.http.common.ResultFields.PARALLEL_BLOCKS_RESPONSE;
+import static brs.http.common.ResultFields.PHASES_RESPONSE;
+import static brs.http.common.ResultFields.SPEEDUP_RESPONSE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import brs.at.AT_Parallel_Executor;
+import brs.common.QuickMocker;
+import brs.statistics.BlockProcessingStats;
+import brs.statistics.BlockProcessingStats.Phase;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GetBlockProcessingStatsTest {
+
+  private GetBlockProcessingStats t;
+
+  private BlockProcessingStats blockProcessingStats;
+
+  @Before
+  public void setUp() {
+    blockProcessingStats = new BlockProcessingStats(true);
+
+    t = new GetBlockProcessingStats(blockProcessingStats);
+  }
+
+  @Test
+  public void processRequest() {
+    blockProcessingStats.recordNanos(Phase.COMMIT, TimeUnit.MICROSECONDS.toNanos(300));
+    blockProcessingStats.recordNanos(Phase.COMMIT, TimeUnit.MICROSECONDS.toNanos(500));
+
+    final HttpServletRequest req = QuickMocker.httpServletRequest();
+
+    final JSONObject result = (JSONObject) t.processRequest(req);
+
+    assertEquals(true, result.get(ENABLED_RESPONSE));
+    final JSONObject phases = (JSONObject) result.get(PHASES_RESPONSE);
+    assertEquals(Phase.values().length, phases.size());
+
+    final JSONObject commit = (JSONObject) phases.get(Phase.COMMIT.getName());
+    assertEquals(2L, commit.get(COUNT_RESPONSE));
+    assertEquals(400L, commit.get(MEAN_MICROS_RESPONSE));
+    assertEquals(500L, commit.get(P50_MICROS_RESPONSE));
+    assertEquals(500L, commit.get(P90_MICROS_RESPONSE));
+    assertEquals(500L, commit.get(P99_MICROS_RESPONSE));
+    assertEquals(500L, commit.get(MAX_MICROS_RESPONSE));
+    assertEquals(0L, ((JSONObject) phases.get(Phase.FINISH.getName())).get(COUNT_RESPONSE));
+
+    final JSONObject parallelATs = (JSONObject) result.get(PARALLEL_ATS_RESPONSE);
+    assertEquals(AT_Parallel_Executor.getParallelBlocks(), parallelATs.get(PARALLEL_BLOCKS_RESPONSE));
+    assertEquals(AT_Parallel_Executor.getFallbacks(), parallelATs.get(FALLBACKS_RESPONSE));
+    assertTrue(parallelATs.get(SPEEDUP_RESPONSE) instanceof Double);
+  }
+}
@@ -0,0 +1,150 @@
+package brs.http;
+
+import static brs.http.common.Parameters.BLOCK_HEIGHT_PARAMETER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Block;
+import brs.Blockchain;
+import brs.BlockchainProcessor;
+import brs.common.QuickMocker;
+import brs.common.QuickMocker.MockParam;
+import brs.util.Listener;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+import org.json.simple.JSONValue;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class GetMiningInfoTest {
+
+  private GetMiningInfo t;
+
+  private Blockchain mockBlockchain;
+  private Listener<Block> blockPushedListener;
+
+  @Before
+  public void setUp() {
+    mockBlockchain = mock(Blockchain.class);
+    BlockchainProcessor mockBlockchainProcessor = mock(BlockchainProcessor.class);
+
+    mockLastBlock(100);
+
+    t = new GetMiningInfo(mockBlockchain, mockBlockchainProcessor);
+
+    ArgumentCaptor<Listener<Block>> listenerCaptor = ArgumentCaptor.forClass(Listener.class);
+    verify(mockBlockchainProcessor).addListener(listenerCaptor.capture(), eq(BlockchainProcessor.Event.BLOCK_PUSHED));
+    blockPushedListener = listenerCaptor.getValue();
+  }
+
+  @Test
+  public void processRequest() throws IOException {
+    final JSONObject result = toJSON(t.processRequest(QuickMocker.httpServletRequest()));
+
+    assertEquals("101", result.get("height"));
+    assertEquals("5", result.get("baseTarget"));
+    assertEquals(64, ((String) result.get("generationSignature")).length());
+  }
+
+  @Test
+  public void processRequest_longPollAnsweredOnNewBlock() throws Exception {
+    final StringWriter written = new StringWriter();
+    final AsyncContext asyncContext = mockAsyncContext(written);
+    final HttpServletRequest req = longPollRequest("101", asyncContext);
+
+    assertNull(t.processRequest(req));
+    verify(asyncContext).setTimeout(GetMiningInfo.LONG_POLL_TIMEOUT_MS);
+    verify(asyncContext, never()).complete();
+
+    mockLastBlock(101);
+    blockPushedListener.notify(null);
+
+    verify(asyncContext).complete();
+    assertEquals("102", ((JSONObject) JSONValue.parse(written.toString())).get("height"));
+  }
+
+  @Test
+  public void processRequest_longPollAnsweredOnTimeout() throws Exception {
+    final StringWriter written = new StringWriter();
+    final AsyncContext asyncContext = mockAsyncContext(written);
+    final HttpServletRequest req = longPollRequest("101", asyncContext);
+
+    assertNull(t.processRequest(req));
+
+    ArgumentCaptor<AsyncListener> listenerCaptor = ArgumentCaptor.forClass(AsyncListener.class);
+    verify(asyncContext).addListener(listenerCaptor.capture());
+    listenerCaptor.getValue().onTimeout(null);
+    blockPushedListener.notify(null);
+
+    verify(asyncContext, times(1)).complete();
+    assertEquals("101", ((JSONObject) JSONValue.parse(written.toString())).get("height"));
+  }
+
+  @Test
+  public void processRequest_answersRightAwayWhenTooManyLongPolls() throws IOException {
+    for (int i = 0; i < GetMiningInfo.MAX_LONG_POLLS; i++) {
+      assertNull(t.processRequest(longPollRequest("101", mockAsyncContext(new StringWriter()))));
+    }
+
+    final AsyncContext asyncContext = mockAsyncContext(new StringWriter());
+    assertEquals("101", toJSON(t.processRequest(longPollRequest("101", asyncContext))).get("height"));
+    verify(asyncContext, never()).complete();
+  }
+
+  @Test
+  public void processRequest_otherHeightDoesNotWait() throws IOException {
+    final HttpServletRequest req = QuickMocker.httpServletRequest(new MockParam(BLOCK_HEIGHT_PARAMETER, "100"));
+
+    assertEquals("101", toJSON(t.processRequest(req)).get("height"));
+  }
+
+  private HttpServletRequest longPollRequest(String height, AsyncContext asyncContext) {
+    final HttpServletRequest req = QuickMocker.httpServletRequest(new MockParam(BLOCK_HEIGHT_PARAMETER, height));
+    when(req.isAsyncSupported()).thenReturn(true);
+    when(req.startAsync()).thenReturn(asyncContext);
+    return req;
+  }
+
+  private AsyncContext mockAsyncContext(StringWriter written) throws IOException {
+    final HttpServletResponse resp = mock(HttpServletResponse.class);
+    when(resp.getWriter()).thenReturn(new PrintWriter(written));
+    final AsyncContext asyncContext = mock(AsyncContext.class);
+    when(asyncContext.getResponse()).thenReturn(resp);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(asyncContext).start(any(Runnable.class));
+    return asyncContext;
+  }
+
+  private void mockLastBlock(int height) {
+    final Block mockBlock = mock(Block.class);
+    when(mockBlock.getHeight()).thenReturn(height);
+    when(mockBlock.getGenerationSignature()).thenReturn(new byte[32]);
+    when(mockBlock.getGeneratorId()).thenReturn(1L);
+    when(mockBlock.getBaseTarget()).thenReturn(5L);
+    when(mockBlockchain.getLastBlock()).thenReturn(mockBlock);
+  }
+
+  private static JSONObject toJSON(JSONStreamAware response) throws IOException {
+    StringWriter writer = new StringWriter();
+    response.writeJSONString(writer);
+    return (JSONObject) JSONValue.parse(writer.toString());
+  }
+}
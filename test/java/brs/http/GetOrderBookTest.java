@@ -0,0 +1,129 @@
+package brs.http;
+
+import static brs.http.JSONResponses.UNKNOWN_ASSET;
+import static brs.http.common.Parameters.ASSET_PARAMETER;
+import static brs.http.common.Parameters.DEPTH_PARAMETER;
+import static brs.http.common.ResultFields.ASK_LEVELS_RESPONSE;
+import static brs.http.common.ResultFields.BID_LEVELS_RESPONSE;
+import static brs.http.common.ResultFields.HEIGHT_RESPONSE;
+import static brs.http.common.ResultFields.ORDERS_RESPONSE;
+import static brs.http.common.ResultFields.PRICE_NQT_RESPONSE;
+import static brs.http.common.ResultFields.QUANTITY_QNT_RESPONSE;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Asset;
+import brs.Block;
+import brs.Blockchain;
+import brs.BlockchainProcessor;
+import brs.Order.Ask;
+import brs.Order.Bid;
+import brs.assetexchange.AssetExchange;
+import brs.common.AbstractUnitTest;
+import brs.common.QuickMocker;
+import brs.common.QuickMocker.MockParam;
+import brs.db.BurstIterator;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GetOrderBookTest extends AbstractUnitTest {
+
+  private static final long ASSET_ID = 5L;
+
+  private Blockchain mockBlockchain;
+  private AssetExchange mockAssetExchange;
+
+  private GetOrderBook t;
+
+  @Before
+  public void setUp() {
+    mockBlockchain = mock(Blockchain.class);
+    mockAssetExchange = mock(AssetExchange.class);
+    mockLastBlock(1L);
+    when(mockBlockchain.getHeight()).thenReturn(10);
+    when(mockAssetExchange.getAsset(eq(ASSET_ID))).thenReturn(mock(Asset.class));
+
+    t = new GetOrderBook(new OrderBookSnapshots(mockBlockchain, mock(BlockchainProcessor.class), mockAssetExchange));
+  }
+
+  @Test
+  public void processRequest_aggregatesPriceLevels() {
+    mockOrders();
+
+    final JSONObject result = (JSONObject) t.processRequest(QuickMocker.httpServletRequest(new MockParam(ASSET_PARAMETER, ASSET_ID)));
+
+    assertEquals(10, result.get(HEIGHT_RESPONSE));
+
+    final JSONArray askLevels = (JSONArray) result.get(ASK_LEVELS_RESPONSE);
+    assertEquals(2, askLevels.size());
+    assertLevel("100", "30", 2, askLevels.get(0));
+    assertLevel("110", "5", 1, askLevels.get(1));
+
+    final JSONArray bidLevels = (JSONArray) result.get(BID_LEVELS_RESPONSE);
+    assertEquals(1, bidLevels.size());
+    assertLevel("90", "7", 1, bidLevels.get(0));
+  }
+
+  @Test
+  public void processRequest_limitsDepth() {
+    mockOrders();
+
+    final JSONObject result = (JSONObject) t.processRequest(QuickMocker.httpServletRequest(
+        new MockParam(ASSET_PARAMETER, ASSET_ID), new MockParam(DEPTH_PARAMETER, 1)));
+
+    assertEquals(1, ((JSONArray) result.get(ASK_LEVELS_RESPONSE)).size());
+  }
+
+  @Test
+  public void processRequest_servesSnapshotUntilNextBlock() {
+    mockOrders();
+    t.processRequest(QuickMocker.httpServletRequest(new MockParam(ASSET_PARAMETER, ASSET_ID)));
+    mockOrders();
+    t.processRequest(QuickMocker.httpServletRequest(new MockParam(ASSET_PARAMETER, ASSET_ID)));
+
+    verify(mockAssetExchange, times(1)).getSortedAskOrders(eq(ASSET_ID), eq(0), eq(-1));
+
+    mockLastBlock(2L);
+    t.processRequest(QuickMocker.httpServletRequest(new MockParam(ASSET_PARAMETER, ASSET_ID)));
+
+    verify(mockAssetExchange, times(2)).getSortedAskOrders(eq(ASSET_ID), eq(0), eq(-1));
+  }
+
+  @Test
+  public void processRequest_unknownAsset() {
+    assertEquals(UNKNOWN_ASSET, t.processRequest(QuickMocker.httpServletRequest(new MockParam(ASSET_PARAMETER, 6L))));
+
+    verify(mockAssetExchange, never()).getSortedAskOrders(eq(6L), eq(0), eq(-1));
+  }
+
+  private void mockOrders() {
+    final Ask ask1 = new Ask(1L, 1L, ASSET_ID, 100L, 1, 10L, null);
+    final Ask ask2 = new Ask(2L, 1L, ASSET_ID, 100L, 2, 20L, null);
+    final Ask ask3 = new Ask(3L, 1L, ASSET_ID, 110L, 1, 5L, null);
+    final Bid bid = new Bid(4L, 1L, ASSET_ID, 90L, 1, 7L, null);
+    final BurstIterator<Ask> askIterator = mockBurstIterator(ask1, ask2, ask3);
+    final BurstIterator<Bid> bidIterator = mockBurstIterator(bid);
+    when(mockAssetExchange.getSortedAskOrders(eq(ASSET_ID), eq(0), eq(-1))).thenReturn(askIterator);
+    when(mockAssetExchange.getSortedBidOrders(eq(ASSET_ID), eq(0), eq(-1))).thenReturn(bidIterator);
+  }
+
+  private void mockLastBlock(long id) {
+    final Block mockBlock = mock(Block.class);
+    when(mockBlock.getId()).thenReturn(id);
+    when(mockBlockchain.getLastBlock()).thenReturn(mockBlock);
+  }
+
+  private static void assertLevel(String priceNQT, String quantityQNT, int orders, Object level) {
+    final JSONObject levelJSON = (JSONObject) level;
+    assertEquals(priceNQT, levelJSON.get(PRICE_NQT_RESPONSE));
+    assertEquals(quantityQNT, levelJSON.get(QUANTITY_QNT_RESPONSE));
+    assertEquals(orders, levelJSON.get(ORDERS_RESPONSE));
+  }
+}
@@ -0,0 +1,118 @@
+package brs.http;
+
+import static brs.http.JSONResponses.INCORRECT_TIMEFRAME;
+import static brs.http.common.Parameters.ASSET_PARAMETER;
+import static brs.http.common.Parameters.FIRST_INDEX_PARAMETER;
+import static brs.http.common.Parameters.LAST_INDEX_PARAMETER;
+import static brs.http.common.Parameters.TIMEFRAME_PARAMETER;
+import static brs.http.common.ResultFields.CANDLES_RESPONSE;
+import static brs.http.common.ResultFields.CLOSE_NQT_RESPONSE;
+import static brs.http.common.ResultFields.HIGH_NQT_RESPONSE;
+import static brs.http.common.ResultFields.LOW_NQT_RESPONSE;
+import static brs.http.common.ResultFields.NUMBER_OF_TRADES_RESPONSE;
+import static brs.http.common.ResultFields.OPEN_NQT_RESPONSE;
+import static brs.http.common.ResultFields.QUANTITY_QNT_RESPONSE;
+import static brs.http.common.ResultFields.START_RESPONSE;
+import static brs.http.common.ResultFields.TIMEFRAME_RESPONSE;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import brs.Asset;
+import brs.BurstException;
+import brs.TradeCandle;
+import brs.TradeCandle.Timeframe;
+import brs.assetexchange.AssetExchange;
+import brs.common.AbstractUnitTest;
+import brs.common.QuickMocker;
+import brs.common.QuickMocker.MockParam;
+import brs.services.ParameterService;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.servlet.http.HttpServletRequest;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GetTradeCandlesTest extends AbstractUnitTest {
+
+  private GetTradeCandles t;
+
+  private ParameterService mockParameterService;
+  private AssetExchange mockAssetExchange;
+
+  @Before
+  public void setUp() {
+    mockParameterService = mock(ParameterService.class);
+    mockAssetExchange = mock(AssetExchange.class);
+
+    t = new GetTradeCandles(mockParameterService, mockAssetExchange);
+  }
+
+  @Test
+  public void processRequest() throws BurstException {
+    final long assetId = 123L;
+    final int firstIndex = 0;
+    final int lastIndex = 1;
+
+    final HttpServletRequest req = QuickMocker.httpServletRequest(
+        new MockParam(ASSET_PARAMETER, assetId),
+        new MockParam(TIMEFRAME_PARAMETER, "1d"),
+        new MockParam(FIRST_INDEX_PARAMETER, firstIndex),
+        new MockParam(LAST_INDEX_PARAMETER, lastIndex)
+    );
+
+    final Asset mockAsset = mock(Asset.class);
+    when(mockAsset.getId()).thenReturn(assetId);
+    when(mockParameterService.getAsset(eq(req))).thenReturn(mockAsset);
+
+    final TradeCandle latest = new TradeCandle(assetId, Timeframe.DAY, 79200, 10, 15, 8, 12, 300, 4, 250);
+    final TradeCandle previous = new TradeCandle(assetId, Timeframe.DAY, -7200, 7, 9, 7, 9, 20, 2, 100);
+    when(mockAssetExchange.getCandles(eq(assetId), eq(Timeframe.DAY), eq(firstIndex), eq(lastIndex))).thenReturn(Arrays.asList(latest, previous));
+
+    final JSONObject result = (JSONObject) t.processRequest(req);
+
+    final JSONArray candles = (JSONArray) result.get(CANDLES_RESPONSE);
+    assertEquals(2, candles.size());
+
+    final JSONObject candle = (JSONObject) candles.get(0);
+    assertEquals("1d", candle.get(TIMEFRAME_RESPONSE));
+    assertEquals(79200, candle.get(START_RESPONSE));
+    assertEquals("10", candle.get(OPEN_NQT_RESPONSE));
+    assertEquals("15", candle.get(HIGH_NQT_RESPONSE));
+    assertEquals("8", candle.get(LOW_NQT_RESPONSE));
+    assertEquals("12", candle.get(CLOSE_NQT_RESPONSE));
+    assertEquals("300", candle.get(QUANTITY_QNT_RESPONSE));
+    assertEquals(4, candle.get(NUMBER_OF_TRADES_RESPONSE));
+  }
+
+  @Test
+  public void processRequest_defaultsToHourlyCandles() throws BurstException {
+    final long assetId = 123L;
+
+    final HttpServletRequest req = QuickMocker.httpServletRequest(
+        new MockParam(ASSET_PARAMETER, assetId)
+    );
+
+    final Asset mockAsset = mock(Asset.class);
+    when(mockAsset.getId()).thenReturn(assetId);
+    when(mockParameterService.getAsset(eq(req))).thenReturn(mockAsset);
+    when(mockAssetExchange.getCandles(eq(assetId), eq(Timeframe.HOUR), eq(0), eq(Integer.MAX_VALUE))).thenReturn(Collections.emptyList());
+
+    final JSONObject result = (JSONObject) t.processRequest(req);
+
+    assertEquals(0, ((JSONArray) result.get(CANDLES_RESPONSE)).size());
+  }
+
+  @Test
+  public void processRequest_incorrectTimeframe() throws BurstException {
+    final HttpServletRequest req = QuickMocker.httpServletRequest(
+        new MockParam(ASSET_PARAMETER, 123L),
+        new MockParam(TIMEFRAME_PARAMETER, "5m")
+    );
+
+    assertEquals(INCORRECT_TIMEFRAME, t.processRequest(req));
+  }
+}
@@ -0,0 +1,99 @@
+package brs.http;
+
+import static brs.Attachment.ORDINARY_PAYMENT;
+
+import brs.BurstException;
+import brs.Transaction;
+import brs.common.TestConstants;
+import brs.util.JSONWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares building a json-simple tree for a transaction list response (as getAccountTransactions
+ * and getUnconfirmedTransactions did) with streaming it through {@link JSONWriter}.
+ *
+ * The main method runs with the GC profiler, see gc.alloc.rate.norm for bytes allocated per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSONResponseBenchmark {
+
+  @Param({"100", "500"})
+  private int size;
+
+  private List<Transaction> transactions;
+
+  private final Writer sink = new Writer() {
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+    }
+
+    @Override
+    public void write(String str) {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+  };
+
+  @Setup
+  public void setUp() throws BurstException.NotValidException {
+    transactions = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      transactions.add(new Transaction.Builder((byte) 1, TestConstants.TEST_PUBLIC_KEY_BYTES, i, 735000, 1000, (short) 500, ORDINARY_PAYMENT)
+          .id(i).senderId(123L).height(1000).build());
+    }
+  }
+
+  @Benchmark
+  public void tree() throws IOException {
+    JSONArray array = new JSONArray();
+    for (Transaction transaction : transactions) {
+      array.add(JSONData.transaction(transaction, 2000));
+    }
+    JSONObject response = new JSONObject();
+    response.put("transactions", array);
+    response.writeJSONString(sink);
+  }
+
+  @Benchmark
+  public void stream() throws IOException {
+    JSONObject response = new JSONObject();
+    response.put("transactions", JSONWriter.array(transactions, transaction -> JSONData.streamTransaction(transaction, 2000)));
+    response.writeJSONString(sink);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JSONResponseBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+  }
+}
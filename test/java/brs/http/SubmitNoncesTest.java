@@ -0,0 +1,87 @@
+package brs.http;
+
+import static brs.common.TestConstants.TEST_SECRET_PHRASE;
+import static brs.http.common.Parameters.ACCOUNT_ID_PARAMETER;
+import static brs.http.common.Parameters.NONCE_PARAMETER;
+import static brs.http.common.Parameters.SECRET_PHRASE_PARAMETER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Blockchain;
+import brs.Generator;
+import brs.Generator.GeneratorState;
+import brs.common.QuickMocker;
+import brs.common.QuickMocker.MockParam;
+import brs.services.AccountService;
+import java.math.BigInteger;
+import javax.servlet.http.HttpServletRequest;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SubmitNoncesTest {
+
+  private SubmitNonces t;
+
+  private AccountService mockAccountService;
+  private Blockchain mockBlockchain;
+  private Generator mockGenerator;
+
+  @Before
+  public void setUp() {
+    mockAccountService = mock(AccountService.class);
+    mockBlockchain = mock(Blockchain.class);
+    mockGenerator = mock(Generator.class);
+
+    t = new SubmitNonces(mockAccountService, mockBlockchain, mockGenerator);
+  }
+
+  @Test
+  public void processRequest() {
+    final HttpServletRequest req = QuickMocker.httpServletRequest(new MockParam(SECRET_PHRASE_PARAMETER, TEST_SECRET_PHRASE));
+    when(req.getParameterValues(eq(NONCE_PARAMETER))).thenReturn(new String[] {"1", "2", "1"});
+
+    final GeneratorState mockState = mock(GeneratorState.class);
+    when(mockState.getDeadline()).thenReturn(BigInteger.TEN);
+    when(mockGenerator.addNonce(eq(TEST_SECRET_PHRASE), any(Long.class))).thenReturn(mockState);
+
+    final JSONObject response = (JSONObject) t.processRequest(req);
+    final JSONArray results = (JSONArray) response.get("results");
+
+    assertEquals(3, results.size());
+    assertEquals("success", ((JSONObject) results.get(0)).get("result"));
+    assertEquals(BigInteger.TEN, ((JSONObject) results.get(1)).get("deadline"));
+    assertEquals("Duplicate nonce", ((JSONObject) results.get(2)).get("result"));
+    verify(mockGenerator, times(2)).addNonce(eq(TEST_SECRET_PHRASE), any(Long.class));
+  }
+
+  @Test
+  public void processRequest_accountIdsMustMatchNonces() {
+    final HttpServletRequest req = QuickMocker.httpServletRequest(new MockParam(SECRET_PHRASE_PARAMETER, TEST_SECRET_PHRASE));
+    when(req.getParameterValues(eq(NONCE_PARAMETER))).thenReturn(new String[] {"1", "2"});
+    when(req.getParameterValues(eq(ACCOUNT_ID_PARAMETER))).thenReturn(new String[] {"123"});
+
+    final JSONObject response = (JSONObject) t.processRequest(req);
+
+    assertEquals("Number of account ids does not match number of nonces", response.get("result"));
+  }
+
+  @Test
+  public void processRequest_missingNonces() {
+    final HttpServletRequest req = QuickMocker.httpServletRequest(new MockParam(SECRET_PHRASE_PARAMETER, TEST_SECRET_PHRASE));
+
+    assertEquals("Missing nonces", ((JSONObject) t.processRequest(req)).get("result"));
+  }
+
+  @Test
+  public void requirePost() {
+    assertTrue(t.requirePost());
+  }
+}
@@ -0,0 +1,127 @@
+package brs.peer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.util.JSON;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BroadcasterTest {
+
+  private Broadcaster t;
+
+  private final JSONStreamAware request = JSON.emptyJSON;
+
+  @Before
+  public void setUp() {
+    t = new Broadcaster(4, 10);
+  }
+
+  @After
+  public void tearDown() {
+    t.shutdown();
+  }
+
+  @Test
+  public void sendToSome_triesNextPeerWhenSendFails() throws InterruptedException {
+    Peer failing = peer(null);
+    Peer accepting1 = peer(new JSONObject());
+    Peer accepting2 = peer(new JSONObject());
+    Peer unused = peer(new JSONObject());
+
+    t.sendToSome(request, Arrays.asList(failing, accepting1, accepting2, unused), 2);
+
+    verify(failing, timeout(5000)).send(request);
+    verify(accepting1, timeout(5000)).send(request);
+    verify(accepting2, timeout(5000)).send(request);
+    verify(accepting1, timeout(5000)).updateBroadcastLatency(anyLong());
+    verify(failing, never()).updateBroadcastLatency(anyLong());
+
+    Thread.sleep(100);
+    verify(unused, never()).send(any());
+  }
+
+  @Test
+  public void sendToSome_limitsBroadcastsInFlightPerPeer() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch sending = new CountDownLatch(Broadcaster.MAX_IN_FLIGHT_PER_PEER);
+    Peer slow = mock(Peer.class);
+    when(slow.send(request)).thenAnswer(invocation -> {
+      sending.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return new JSONObject();
+    });
+
+    for (int i = 0; i <= Broadcaster.MAX_IN_FLIGHT_PER_PEER; i++) {
+      t.sendToAll(request, Collections.singletonList(slow));
+    }
+    assertTrue(sending.await(5, TimeUnit.SECONDS));
+    release.countDown();
+
+    verify(slow, timeout(5000).times(Broadcaster.MAX_IN_FLIGHT_PER_PEER)).updateBroadcastLatency(anyLong());
+    Thread.sleep(100);
+    verify(slow, timeout(5000).times(Broadcaster.MAX_IN_FLIGHT_PER_PEER)).send(request);
+    assertEquals(1, t.getSkipped());
+    assertEquals(0, t.getDropped());
+  }
+
+  @Test
+  public void sendToSome_sendsFallbackToPeersNotSupportingRequest() {
+    JSONStreamAware fallbackRequest = JSON.prepare(new JSONObject());
+    JSONObject unsupported = new JSONObject();
+    unsupported.put("error", PeerServlet.UNSUPPORTED_REQUEST_TYPE_ERROR);
+    Peer oldPeer = peer(unsupported);
+    when(oldPeer.send(fallbackRequest)).thenReturn(new JSONObject());
+    Peer newPeer = peer(new JSONObject());
+
+    t.sendToSome(request, fallbackRequest, Arrays.asList(oldPeer, newPeer), 2);
+
+    verify(oldPeer, timeout(5000)).send(fallbackRequest);
+    verify(oldPeer, timeout(5000)).updateBroadcastLatency(anyLong());
+    verify(newPeer, timeout(5000)).updateBroadcastLatency(anyLong());
+    verify(newPeer, never()).send(fallbackRequest);
+
+    t.sendToSome(request, fallbackRequest, Collections.singletonList(oldPeer), 1);
+
+    verify(oldPeer, timeout(5000).times(2)).send(fallbackRequest);
+    verify(oldPeer, times(1)).send(request);
+  }
+
+  @Test
+  public void sendToAll_reportsOnlyPeersThatAcceptedTheRequest() throws InterruptedException {
+    Peer failing = peer(null);
+    Peer accepting = peer(new JSONObject());
+    Set<Peer> delivered = ConcurrentHashMap.newKeySet();
+
+    t.sendToAll(request, Arrays.asList(failing, accepting), delivered::add);
+
+    verify(failing, timeout(5000)).send(request);
+    verify(accepting, timeout(5000)).updateBroadcastLatency(anyLong());
+    Thread.sleep(100);
+    assertEquals(Collections.singleton(accepting), delivered);
+  }
+
+  private Peer peer(JSONObject response) {
+    Peer peer = mock(Peer.class);
+    when(peer.send(request)).thenReturn(response);
+    return peer;
+  }
+}
@@ -0,0 +1,104 @@
+package brs.peer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Block;
+import brs.Blockchain;
+import brs.BlockchainProcessor;
+import brs.common.JSONTestHelper;
+import brs.common.QuickMocker;
+import brs.common.QuickMocker.JSONParam;
+import brs.util.Listener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class GetNextBlockIdsTest {
+
+  private GetNextBlockIds t;
+
+  private Blockchain mockBlockchain;
+  private Listener<Block> blockPoppedListener;
+
+  @Before
+  public void setUp() {
+    mockBlockchain = mock(Blockchain.class);
+    BlockchainProcessor mockBlockchainProcessor = mock(BlockchainProcessor.class);
+
+    t = new GetNextBlockIds(mockBlockchain, mockBlockchainProcessor);
+
+    ArgumentCaptor<Listener<Block>> listenerCaptor = ArgumentCaptor.forClass(Listener.class);
+    verify(mockBlockchainProcessor).addListener(listenerCaptor.capture(), eq(BlockchainProcessor.Event.BLOCK_POPPED));
+    blockPoppedListener = listenerCaptor.getValue();
+  }
+
+  @Test
+  public void processRequest() {
+    when(mockBlockchain.getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS))).thenReturn(Collections.singletonList(2L));
+
+    final JSONObject result = JSONTestHelper.parse(t.processRequest(request(), mock(Peer.class)));
+
+    assertEquals("2", ((JSONArray) result.get("nextBlockIds")).get(0));
+  }
+
+  @Test
+  public void processRequest_cachesCompleteResponses() {
+    when(mockBlockchain.getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS))).thenReturn(ids(2, GetNextBlockIds.MAX_BLOCK_IDS));
+    when(mockBlockchain.hasBlock(eq(101L))).thenReturn(true);
+
+    final JSONObject result = JSONTestHelper.parse(t.processRequest(request(), mock(Peer.class)));
+    t.processRequest(request(), mock(Peer.class));
+
+    assertEquals(GetNextBlockIds.MAX_BLOCK_IDS, ((JSONArray) result.get("nextBlockIds")).size());
+    verify(mockBlockchain, times(1)).getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS));
+
+    blockPoppedListener.notify(null);
+    t.processRequest(request(), mock(Peer.class));
+
+    verify(mockBlockchain, times(2)).getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS));
+  }
+
+  @Test
+  public void processRequest_doesNotServeRolledBackRange() {
+    when(mockBlockchain.getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS))).thenReturn(ids(2, GetNextBlockIds.MAX_BLOCK_IDS));
+    when(mockBlockchain.hasBlock(eq(101L))).thenReturn(false);
+
+    t.processRequest(request(), mock(Peer.class));
+    t.processRequest(request(), mock(Peer.class));
+
+    verify(mockBlockchain, times(2)).getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS));
+  }
+
+  @Test
+  public void processRequest_doesNotCacheIncompleteResponses() {
+    when(mockBlockchain.getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS))).thenReturn(ids(2, 10));
+    when(mockBlockchain.hasBlock(eq(11L))).thenReturn(true);
+
+    t.processRequest(request(), mock(Peer.class));
+    t.processRequest(request(), mock(Peer.class));
+
+    verify(mockBlockchain, times(2)).getBlockIdsAfter(eq(1L), eq(GetNextBlockIds.MAX_BLOCK_IDS));
+  }
+
+  private static JSONObject request() {
+    return QuickMocker.jsonObject(new JSONParam("blockId", "1"));
+  }
+
+  private static List<Long> ids(long first, int count) {
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ids.add(first + i);
+    }
+    return ids;
+  }
+}
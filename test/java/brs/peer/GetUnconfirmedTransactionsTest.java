@@ -0,0 +1,88 @@
+package brs.peer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Transaction;
+import brs.TransactionProcessor;
+import brs.common.JSONTestHelper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GetUnconfirmedTransactionsTest {
+
+  private GetUnconfirmedTransactions t;
+
+  private TransactionProcessor mockTransactionProcessor;
+
+  private Transaction mockTransaction1;
+  private Transaction mockTransaction2;
+
+  @Before
+  public void setUp() {
+    mockTransactionProcessor = mock(TransactionProcessor.class);
+
+    mockTransaction1 = mockTransaction(1L);
+    mockTransaction2 = mockTransaction(2L);
+    doReturn(new ArrayList<>(Arrays.asList(mockTransaction1, mockTransaction2))).when(mockTransactionProcessor).getAllUnconfirmedTransactions();
+    when(mockTransactionProcessor.getUnconfirmedTransaction(eq(2L))).thenReturn(mockTransaction2);
+
+    t = new GetUnconfirmedTransactions(mockTransactionProcessor);
+  }
+
+  @Test
+  public void processRequest_withoutTransactionIdsReturnsWholePool() {
+    final Peer mockPeer = mock(Peer.class);
+
+    final JSONObject result = JSONTestHelper.parse(t.processRequest(new JSONObject(), mockPeer));
+
+    assertEquals(2, ((JSONArray) result.get("unconfirmedTransactions")).size());
+    verify(mockPeer, never()).addSeenTransactions(any());
+  }
+
+  @Test
+  public void processRequest_withTransactionIdsReturnsOnlyRequestedAndMarksThemSeen() {
+    final Peer mockPeer = mock(Peer.class);
+
+    final JSONArray transactionIds = new JSONArray();
+    transactionIds.add("2");
+    transactionIds.add("3");
+    final JSONObject request = new JSONObject();
+    request.put("transactionIds", transactionIds);
+
+    final JSONObject result = JSONTestHelper.parse(t.processRequest(request, mockPeer));
+
+    final JSONArray transactions = (JSONArray) result.get("unconfirmedTransactions");
+    assertEquals(1, transactions.size());
+    assertEquals(2L, ((JSONObject) transactions.get(0)).get("id"));
+    verify(mockPeer).addSeenTransactions(eq((Collection<Long>) Arrays.asList(2L, 3L)));
+  }
+
+  @Test
+  public void getUnconfirmedTransactionIds() {
+    final JSONObject result = JSONTestHelper.parse(new GetUnconfirmedTransactionIds(mockTransactionProcessor).processRequest(new JSONObject(), mock(Peer.class)));
+
+    assertEquals(Arrays.asList("1", "2"), result.get("unconfirmedTransactionIds"));
+  }
+
+  private static Transaction mockTransaction(long id) {
+    final Transaction mockTransaction = mock(Transaction.class);
+    final JSONObject json = new JSONObject();
+    json.put("id", id);
+    when(mockTransaction.getId()).thenReturn(id);
+    when(mockTransaction.getStringId()).thenReturn(Long.toString(id));
+    when(mockTransaction.getJSONObject()).thenReturn(json);
+    return mockTransaction;
+  }
+}
@@ -0,0 +1,111 @@
+package brs.peer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Block;
+import brs.Blockchain;
+import brs.BlockchainProcessor;
+import brs.BurstException;
+import brs.Transaction;
+import brs.TransactionProcessor;
+import brs.common.JSONTestHelper;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class ProcessCompactBlockTest {
+
+  private ProcessCompactBlock t;
+
+  private BlockchainProcessor mockBlockchainProcessor;
+  private Peer mockPeer;
+
+  private final JSONObject knownTransactionData = new JSONObject();
+  private final JSONObject missingTransactionData = new JSONObject();
+
+  @Before
+  public void setUp() {
+    Blockchain mockBlockchain = mock(Blockchain.class);
+    mockBlockchainProcessor = mock(BlockchainProcessor.class);
+    TransactionProcessor mockTransactionProcessor = mock(TransactionProcessor.class);
+    mockPeer = mock(Peer.class);
+
+    Block mockLastBlock = mock(Block.class);
+    when(mockLastBlock.getStringId()).thenReturn("1");
+    when(mockBlockchain.getLastBlock()).thenReturn(mockLastBlock);
+
+    knownTransactionData.put("id", "2");
+    missingTransactionData.put("id", "3");
+    Transaction mockKnownTransaction = mock(Transaction.class);
+    when(mockKnownTransaction.getJSONObject()).thenReturn(knownTransactionData);
+    when(mockTransactionProcessor.getUnconfirmedTransaction(eq(2L))).thenReturn(mockKnownTransaction);
+
+    t = new ProcessCompactBlock(mockBlockchain, mockBlockchainProcessor, mockTransactionProcessor);
+  }
+
+  @Test
+  public void processRequest_rebuildsBlockRequestingOnlyMissingTransactions() throws BurstException {
+    JSONArray missingTransactionsData = new JSONArray();
+    missingTransactionsData.add(missingTransactionData);
+    JSONObject transactionsResponse = new JSONObject();
+    transactionsResponse.put("transactions", missingTransactionsData);
+    when(mockPeer.send(any())).thenReturn(transactionsResponse);
+
+    assertEquals(Boolean.TRUE, JSONTestHelper.parse(t.processRequest(compactBlock("1", "2", "3"), mockPeer)).get("accepted"));
+
+    ArgumentCaptor<JSONObject> blockCaptor = ArgumentCaptor.forClass(JSONObject.class);
+    verify(mockBlockchainProcessor).processPeerBlock(blockCaptor.capture());
+    JSONObject blockData = blockCaptor.getValue();
+    assertEquals(null, blockData.get("transactionIds"));
+    JSONArray transactionsData = (JSONArray) blockData.get("transactions");
+    assertEquals(2, transactionsData.size());
+    assertEquals(knownTransactionData, transactionsData.get(0));
+    assertEquals(missingTransactionData, transactionsData.get(1));
+
+    verify(mockPeer).send(any());
+  }
+
+  @Test
+  public void processRequest_allTransactionsKnown() throws BurstException {
+    assertEquals(Boolean.TRUE, JSONTestHelper.parse(t.processRequest(compactBlock("1", "2"), mockPeer)).get("accepted"));
+
+    verify(mockBlockchainProcessor).processPeerBlock(any());
+    verify(mockPeer, never()).send(any());
+  }
+
+  @Test
+  public void processRequest_missingTransactionsNotAvailable() throws BurstException {
+    when(mockPeer.send(any())).thenReturn(null);
+
+    JSONObject response = JSONTestHelper.parse(t.processRequest(compactBlock("1", "2", "3"), mockPeer));
+
+    assertEquals("Missing transactions", response.get("error"));
+    verify(mockBlockchainProcessor, never()).processPeerBlock(any());
+  }
+
+  @Test
+  public void processRequest_notOnLastBlock() throws BurstException {
+    assertEquals(Boolean.FALSE, JSONTestHelper.parse(t.processRequest(compactBlock("5", "2"), mockPeer)).get("accepted"));
+
+    verify(mockBlockchainProcessor, never()).processPeerBlock(any());
+  }
+
+  private static JSONObject compactBlock(String previousBlock, String... transactionIds) {
+    JSONObject request = new JSONObject();
+    request.put("previousBlock", previousBlock);
+    JSONArray ids = new JSONArray();
+    for (String transactionId : transactionIds) {
+      ids.add(transactionId);
+    }
+    request.put("transactionIds", ids);
+    return request;
+  }
+}
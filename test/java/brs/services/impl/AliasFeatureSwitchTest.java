@@ -0,0 +1,88 @@
+package brs.services.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Alias;
+import brs.Block;
+import brs.Blockchain;
+import brs.common.AbstractUnitTest;
+import brs.services.AliasService;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AliasFeatureSwitchTest extends AbstractUnitTest {
+
+  private static final String ALIAS_NAME = "featuretest";
+  private static final int START_BLOCK = 100;
+
+  private AliasFeatureSwitch t;
+
+  private Blockchain blockchainMock;
+  private AliasService aliasServiceMock;
+
+  @Before
+  public void setUp() {
+    blockchainMock = mock(Blockchain.class);
+    aliasServiceMock = mock(AliasService.class);
+
+    t = new AliasFeatureSwitch(blockchainMock, aliasServiceMock, ALIAS_NAME, START_BLOCK);
+  }
+
+  @Test
+  public void isEnabled_fromStartBlockWithoutAlias() {
+    lastBlock(1L, START_BLOCK);
+
+    assertTrue(t.isEnabled());
+    verify(aliasServiceMock, never()).getAlias(ALIAS_NAME);
+  }
+
+  @Test
+  public void isEnabled_beforeStartBlockFollowsAlias() {
+    lastBlock(1L, START_BLOCK - 1);
+    assertFalse(t.isEnabled());
+
+    lastBlock(2L, START_BLOCK - 1);
+    alias("disabled");
+    assertFalse(t.isEnabled());
+
+    lastBlock(3L, START_BLOCK - 1);
+    alias("enabled");
+    assertTrue(t.isEnabled());
+  }
+
+  @Test
+  public void isEnabled_looksUpAliasOncePerLastBlock() {
+    lastBlock(1L, START_BLOCK - 1);
+    alias("enabled");
+
+    assertTrue(t.isEnabled());
+    assertTrue(t.isEnabled());
+    verify(aliasServiceMock, times(1)).getAlias(ALIAS_NAME);
+
+    alias("disabled");
+    assertTrue(t.isEnabled());
+
+    lastBlock(2L, START_BLOCK - 1);
+    assertFalse(t.isEnabled());
+    verify(aliasServiceMock, times(2)).getAlias(ALIAS_NAME);
+  }
+
+  private void lastBlock(long id, int height) {
+    Block block = mock(Block.class);
+    when(block.getId()).thenReturn(id);
+    when(block.getHeight()).thenReturn(height);
+    when(blockchainMock.getLastBlock()).thenReturn(block);
+  }
+
+  private void alias(String uri) {
+    Alias alias = mock(Alias.class);
+    when(alias.getAliasURI()).thenReturn(uri);
+    when(aliasServiceMock.getAlias(ALIAS_NAME)).thenReturn(alias);
+  }
+}
@@ -0,0 +1,174 @@
+package brs.services.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brs.Block;
+import brs.Blockchain;
+import brs.BlockchainProcessor.BlockNotAcceptedException;
+import brs.BlockchainProcessor.TransactionNotAcceptedException;
+import brs.Generator;
+import brs.Transaction;
+import brs.common.AbstractUnitTest;
+import brs.crypto.Crypto;
+import brs.services.AccountService;
+import brs.services.TransactionService;
+import brs.statistics.BlockProcessingStats;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlockServiceImplTest extends AbstractUnitTest {
+
+  private static final String SECRET_PHRASE = "block service test";
+  private static final int BLOCK_TIMESTAMP = 10000;
+
+  private BlockServiceImpl t;
+
+  private Transaction first;
+  private Transaction second;
+
+  @Before
+  public void setUp() {
+    t = new BlockServiceImpl(mock(AccountService.class), mock(TransactionService.class), mock(Blockchain.class),
+        null, mock(Generator.class), new BlockProcessingStats(false));
+
+    first = transaction(1L, 100, 10, new byte[] {1, 2, 3});
+    second = transaction(2L, 200, 20, new byte[] {4, 5, 6});
+  }
+
+  @Test
+  public void verifyPayload_acceptsValidPayload() throws BlockNotAcceptedException {
+    Block block = block(300, 30, payloadHash(first, second), first, second);
+
+    t.verifyPayload(block);
+
+    verify(block).setPayloadVerified(true);
+  }
+
+  @Test
+  public void verifyPayload_skipsVerifiedPayload() throws BlockNotAcceptedException {
+    Block block = block(0, 0, new byte[32], first, second);
+    when(block.isPayloadVerified()).thenReturn(true);
+
+    t.verifyPayload(block);
+
+    verify(block, never()).getTransactions();
+    verify(block, never()).setPayloadVerified(true);
+  }
+
+  @Test
+  public void verifyPayload_rejectsDuplicateTransaction() {
+    when(second.isDuplicate(any(Map.class))).thenReturn(true);
+
+    assertRejectedTransaction(block(300, 30, payloadHash(first, second), first, second), second, "duplicate");
+  }
+
+  @Test
+  public void verifyPayload_rejectsZeroTransactionId() {
+    when(second.getId()).thenReturn(0L);
+
+    assertRejectedTransaction(block(300, 30, payloadHash(first, second), first, second), second, "Invalid transaction id");
+  }
+
+  @Test
+  public void verifyPayload_rejectsTransactionFromTheFuture() {
+    when(second.getTimestamp()).thenReturn(BLOCK_TIMESTAMP + 16);
+
+    assertRejectedTransaction(block(300, 30, payloadHash(first, second), first, second), second, "timestamp");
+  }
+
+  @Test
+  public void verifyPayload_rejectsTotalsBelowTransactions() {
+    assertRejectedBlock(block(299, 30, payloadHash(first, second), first, second), "Total amount or fee");
+    assertRejectedBlock(block(300, 29, payloadHash(first, second), first, second), "Total amount or fee");
+  }
+
+  @Test
+  public void verifyPayload_rejectsWrongPayloadHash() {
+    assertRejectedBlock(block(300, 30, payloadHash(second, first), first, second), "Payload hash");
+  }
+
+  @Test
+  public void verifyPayload_rejectsBadSignature() {
+    byte[] otherMessage = {7, 8, 9};
+    doAnswer(invocation -> {
+      ((Crypto.SignatureBatch) invocation.getArguments()[0]).add(Crypto.sign(otherMessage, SECRET_PHRASE),
+          second.getBytes(), Crypto.getPublicKey(SECRET_PHRASE), true);
+      return null;
+    }).when(second).addToSignatureBatch(any(Crypto.SignatureBatch.class));
+
+    assertRejectedTransaction(block(300, 30, payloadHash(first, second), first, second), second, "Invalid signature");
+  }
+
+  private void assertRejectedTransaction(Block block, Transaction transaction, String reason) {
+    try {
+      t.verifyPayload(block);
+      fail("TransactionNotAcceptedException expected");
+    } catch (TransactionNotAcceptedException e) {
+      assertSame(transaction, e.getTransaction());
+      assertTrue(e.getMessage(), e.getMessage().contains(reason));
+    } catch (BlockNotAcceptedException e) {
+      fail(e.toString());
+    }
+    verify(block, never()).setPayloadVerified(true);
+  }
+
+  private void assertRejectedBlock(Block block, String reason) {
+    try {
+      t.verifyPayload(block);
+      fail("BlockNotAcceptedException expected");
+    } catch (BlockNotAcceptedException e) {
+      assertEquals(BlockNotAcceptedException.class, e.getClass());
+      assertTrue(e.getMessage(), e.getMessage().startsWith(reason));
+    }
+    verify(block, never()).setPayloadVerified(true);
+  }
+
+  private static Block block(long totalAmountNQT, long totalFeeNQT, byte[] payloadHash, Transaction... transactions) {
+    Block block = mock(Block.class);
+    when(block.getTimestamp()).thenReturn(BLOCK_TIMESTAMP);
+    when(block.getTransactions()).thenReturn(Arrays.asList(transactions));
+    when(block.getTotalAmountNQT()).thenReturn(totalAmountNQT);
+    when(block.getTotalFeeNQT()).thenReturn(totalFeeNQT);
+    when(block.getPayloadHash()).thenReturn(payloadHash);
+    return block;
+  }
+
+  private static Transaction transaction(long id, long amountNQT, long feeNQT, byte[] bytes) {
+    Transaction transaction = mock(Transaction.class);
+    when(transaction.getId()).thenReturn(id);
+    when(transaction.getTimestamp()).thenReturn(BLOCK_TIMESTAMP - 100);
+    when(transaction.getExpiration()).thenReturn(BLOCK_TIMESTAMP + 1000);
+    when(transaction.getAmountNQT()).thenReturn(amountNQT);
+    when(transaction.getFeeNQT()).thenReturn(feeNQT);
+    when(transaction.getBytes()).thenReturn(bytes);
+    when(transaction.getJSONObject()).thenReturn(new JSONObject());
+    byte[] signature = Crypto.sign(bytes, SECRET_PHRASE);
+    byte[] publicKey = Crypto.getPublicKey(SECRET_PHRASE);
+    doAnswer(invocation -> {
+      ((Crypto.SignatureBatch) invocation.getArguments()[0]).add(signature, bytes, publicKey, true);
+      return null;
+    }).when(transaction).addToSignatureBatch(any(Crypto.SignatureBatch.class));
+    return transaction;
+  }
+
+  private static byte[] payloadHash(Transaction... transactions) {
+    MessageDigest digest = Crypto.sha256();
+    for (Transaction transaction : transactions) {
+      digest.update(transaction.getBytes());
+    }
+    return digest.digest();
+  }
+}
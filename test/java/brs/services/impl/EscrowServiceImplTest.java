@@ -7,6 +7,9 @@ import static org.mockito.Mockito.when;
 
 import brs.Blockchain;
 import brs.Escrow;
+import brs.Escrow.Decision;
+import brs.Escrow.DecisionType;
+import brs.common.AbstractUnitTest;
 import brs.db.BurstIterator;
 import brs.db.BurstKey;
 import brs.db.BurstKey.LongKeyFactory;
@@ -17,7 +20,7 @@ import brs.services.AliasService;
 import org.junit.Before;
 import org.junit.Test;
 
-public class EscrowServiceImplTest {
+public class EscrowServiceImplTest extends AbstractUnitTest {
 
   private EscrowServiceImpl t;
 
@@ -66,4 +69,61 @@ public class EscrowServiceImplTest {
 
     assertEquals(mockEscrow, t.getEscrowTransaction(escrowId));
   }
+
+  @Test
+  public void checkComplete_senderRelease() {
+    final Escrow mockEscrow = mockEscrow(1L, 2L, 3L, 2);
+
+    final BurstIterator<Decision> mockDecisionIterator = mockBurstIterator(
+        decision(2L, DecisionType.RELEASE), decision(3L, DecisionType.UNDECIDED), decision(4L, DecisionType.REFUND), decision(5L, DecisionType.REFUND));
+    when(mockEscrowStore.getDecisions(eq(1L))).thenReturn(mockDecisionIterator);
+
+    assertEquals(DecisionType.RELEASE, t.checkComplete(mockEscrow));
+  }
+
+  @Test
+  public void checkComplete_recipientRefund() {
+    final Escrow mockEscrow = mockEscrow(1L, 2L, 3L, 2);
+
+    final BurstIterator<Decision> mockDecisionIterator = mockBurstIterator(
+        decision(2L, DecisionType.UNDECIDED), decision(3L, DecisionType.REFUND), decision(4L, DecisionType.RELEASE), decision(5L, DecisionType.RELEASE));
+    when(mockEscrowStore.getDecisions(eq(1L))).thenReturn(mockDecisionIterator);
+
+    assertEquals(DecisionType.REFUND, t.checkComplete(mockEscrow));
+  }
+
+  @Test
+  public void checkComplete_signersTally() {
+    final Escrow mockEscrow = mockEscrow(1L, 2L, 3L, 2);
+
+    final BurstIterator<Decision> mockDecisionIterator = mockBurstIterator(
+        decision(2L, DecisionType.SPLIT), decision(3L, DecisionType.SPLIT), decision(4L, DecisionType.SPLIT), decision(5L, DecisionType.SPLIT), decision(6L, DecisionType.REFUND));
+    when(mockEscrowStore.getDecisions(eq(1L))).thenReturn(mockDecisionIterator);
+
+    assertEquals(DecisionType.SPLIT, t.checkComplete(mockEscrow));
+  }
+
+  @Test
+  public void checkComplete_undecided() {
+    final Escrow mockEscrow = mockEscrow(1L, 2L, 3L, 2);
+
+    final BurstIterator<Decision> mockDecisionIterator = mockBurstIterator(
+        decision(2L, DecisionType.SPLIT), decision(3L, DecisionType.SPLIT), decision(4L, DecisionType.SPLIT), decision(5L, DecisionType.REFUND));
+    when(mockEscrowStore.getDecisions(eq(1L))).thenReturn(mockDecisionIterator);
+
+    assertEquals(DecisionType.UNDECIDED, t.checkComplete(mockEscrow));
+  }
+
+  private Escrow mockEscrow(long id, long senderId, long recipientId, int requiredSigners) {
+    final Escrow mockEscrow = mock(Escrow.class);
+    when(mockEscrow.getId()).thenReturn(id);
+    when(mockEscrow.getSenderId()).thenReturn(senderId);
+    when(mockEscrow.getRecipientId()).thenReturn(recipientId);
+    when(mockEscrow.getRequiredSigners()).thenReturn(requiredSigners);
+    return mockEscrow;
+  }
+
+  private Decision decision(long accountId, DecisionType decisionType) {
+    return new Decision(mock(BurstKey.class), 1L, accountId, decisionType);
+  }
 }
@@ -3,9 +3,13 @@ package brs.services.impl;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import brs.Account;
 import brs.Blockchain;
+import brs.Constants;
 import brs.Subscription;
 import brs.TransactionDb;
 import brs.common.AbstractUnitTest;
@@ -16,6 +20,7 @@ import brs.db.VersionedEntityTable;
 import brs.db.store.SubscriptionStore;
 import brs.services.AccountService;
 import brs.services.AliasService;
+import java.util.Arrays;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -77,4 +82,32 @@ public class SubscriptionServiceImplTest extends AbstractUnitTest {
 
     assertEquals(mockSubscriptionIterator, t.getSubscriptionsToId(accountId));
   }
+
+  @Test
+  public void calculateFees_onlyDueSubscriptionsTheSenderCanPay() {
+    final int timestamp = 1000;
+    final AccountService mockAccountService = mock(AccountService.class);
+    t = new SubscriptionServiceImpl(mockSubscriptionStore, transactionDb, blockchain, aliasService, mockAccountService);
+
+    final Account richSender = mock(Account.class);
+    when(richSender.getUnconfirmedBalanceNQT()).thenReturn(100 * Constants.ONE_BURST);
+    final Account poorSender = mock(Account.class);
+    when(poorSender.getUnconfirmedBalanceNQT()).thenReturn(Constants.ONE_BURST);
+    when(mockAccountService.getAccount(eq(1L))).thenReturn(richSender);
+    when(mockAccountService.getAccount(eq(2L))).thenReturn(poorSender);
+
+    final Subscription paid = new Subscription(1L, 3L, 10L, 5 * Constants.ONE_BURST, 3600, timestamp, null);
+    final Subscription unpaid = new Subscription(2L, 3L, 11L, 5 * Constants.ONE_BURST, 3600, timestamp, null);
+    final Subscription removed = new Subscription(1L, 3L, 12L, 5 * Constants.ONE_BURST, 3600, timestamp, null);
+    when(mockSubscriptionStore.getUpdateSubscriptions(eq(timestamp))).thenReturn(Arrays.asList(paid, unpaid, removed));
+
+    t.clearRemovals();
+    t.addRemoval(12L);
+
+    assertEquals(t.getFee(), t.calculateFees(timestamp));
+    verify(mockAccountService, never()).addToUnconfirmedBalanceNQT(eq(poorSender), eq(-6 * Constants.ONE_BURST));
+    verify(mockAccountService).addToUnconfirmedBalanceNQT(eq(richSender), eq(-6 * Constants.ONE_BURST));
+    verify(mockAccountService).addToUnconfirmedBalanceNQT(eq(richSender), eq(6 * Constants.ONE_BURST));
+    t.clearRemovals();
+  }
 }
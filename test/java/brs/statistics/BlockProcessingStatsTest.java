@@ -0,0 +1,33 @@
+package brs.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import brs.statistics.BlockProcessingStats.Phase;
+import org.junit.Test;
+
+public class BlockProcessingStatsTest {
+
+  @Test
+  public void record() {
+    BlockProcessingStats t = new BlockProcessingStats(true);
+
+    long start = t.start();
+    assertTrue(start != 0);
+    t.record(Phase.COMMIT, start);
+
+    assertEquals(1, t.getHistogram(Phase.COMMIT).getCount());
+    assertEquals(0, t.getHistogram(Phase.FINISH).getCount());
+  }
+
+  @Test
+  public void disabledStatsRecordNothing() {
+    BlockProcessingStats t = new BlockProcessingStats(false);
+
+    assertEquals(0, t.start());
+    t.record(Phase.COMMIT, t.start());
+    t.recordNanos(Phase.COMMIT, 1000);
+
+    assertEquals(0, t.getHistogram(Phase.COMMIT).getCount());
+  }
+}
@@ -0,0 +1,51 @@
+package brs.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  private LatencyHistogram t;
+
+  @Before
+  public void setUp() {
+    t = new LatencyHistogram();
+  }
+
+  @Test
+  public void emptyHistogram() {
+    assertEquals(0, t.getCount());
+    assertEquals(0, t.getMeanMicros());
+    assertEquals(0, t.getP99Micros());
+    assertEquals(0, t.getMaxMicros());
+  }
+
+  @Test
+  public void record() {
+    for (int i = 0; i < 98; i++) {
+      t.record(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+    t.record(TimeUnit.MICROSECONDS.toNanos(5000));
+    t.record(TimeUnit.MICROSECONDS.toNanos(7000));
+
+    assertEquals(100, t.getCount());
+    assertEquals(218, t.getMeanMicros());
+    assertEquals(128, t.getP50Micros());
+    assertEquals(128, t.getP90Micros());
+    assertEquals(7000, t.getP99Micros());
+    assertEquals(7000, t.getMaxMicros());
+  }
+
+  @Test
+  public void reset() {
+    t.record(TimeUnit.MILLISECONDS.toNanos(3));
+    t.reset();
+
+    assertEquals(0, t.getCount());
+    assertEquals(0, t.getMaxMicros());
+    assertEquals(0, t.getP50Micros());
+  }
+}
@@ -0,0 +1,52 @@
+package brs.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONStreamAware;
+import org.json.simple.JSONValue;
+import org.junit.Test;
+
+public class JSONWriterTest {
+
+  @Test
+  public void object() throws IOException {
+    JSONStreamAware json = JSONWriter.object(fields -> {
+      fields.put("string", "a \"quoted\" value");
+      fields.put("number", 5);
+      fields.put("nested", JSONWriter.object(nested -> nested.put("flag", true)));
+      fields.put("empty", null);
+    });
+
+    JSONObject parsed = (JSONObject) JSONValue.parse(write(json));
+
+    assertEquals("a \"quoted\" value", parsed.get("string"));
+    assertEquals(5L, parsed.get("number"));
+    assertEquals(true, ((JSONObject) parsed.get("nested")).get("flag"));
+    assertEquals(4, parsed.size());
+  }
+
+  @Test
+  public void array() throws IOException {
+    assertEquals("[\"1\",\"2\",\"3\"]", write(JSONWriter.array(Arrays.asList(1, 2, 3), String::valueOf)));
+    assertEquals("[]", write(JSONWriter.array(Collections.emptyList(), item -> item)));
+  }
+
+  @Test
+  public void matchesJsonSimpleOutput() throws IOException {
+    JSONObject tree = new JSONObject();
+    tree.put("key", "value/with\\specials\n");
+
+    assertEquals(write(tree), write(JSONWriter.object(fields -> fields.put("key", "value/with\\specials\n"))));
+  }
+
+  private static String write(JSONStreamAware json) throws IOException {
+    StringWriter writer = new StringWriter();
+    json.writeJSONString(writer);
+    return writer.toString();
+  }
+}